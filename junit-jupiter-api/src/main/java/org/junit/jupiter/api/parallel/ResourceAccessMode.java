@@ -0,0 +1,36 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.parallel;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * The access mode required by a test class or method for a given resource.
+ *
+ * @since 5.1
+ * @see ResourceLock
+ */
+@API(status = EXPERIMENTAL, since = "5.1")
+public enum ResourceAccessMode {
+
+	/**
+	 * Require read and write access to a resource.
+	 */
+	READ_WRITE,
+
+	/**
+	 * Require only read access to a resource.
+	 */
+	READ
+
+}
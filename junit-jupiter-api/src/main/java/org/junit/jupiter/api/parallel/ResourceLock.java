@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.parallel;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @ResourceLock} is a {@linkplain Repeatable repeatable} annotation
+ * that is used to declare that the annotated test class or test method
+ * requires access to a shared resource identified by a key.
+ *
+ * <p>If parallel execution is enabled, test classes and test methods that
+ * declare the same resource are never executed concurrently if at least one
+ * of them requires {@link ResourceAccessMode#READ_WRITE READ_WRITE} access.
+ * Tests that only require {@link ResourceAccessMode#READ READ} access to a
+ * resource may be executed concurrently with each other.
+ *
+ * <p>If declared on a test class, the resource is locked for the execution of
+ * the entire class including all of its test methods and nested classes,
+ * which are then executed sequentially.
+ *
+ * @since 5.1
+ * @see Resources
+ * @see ResourceAccessMode
+ * @see ResourceLocks
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(ResourceLocks.class)
+@API(status = EXPERIMENTAL, since = "5.1")
+public @interface ResourceLock {
+
+	/**
+	 * The key of the shared resource.
+	 *
+	 * @see Resources
+	 */
+	String value();
+
+	/**
+	 * The mode of access to the shared resource.
+	 *
+	 * <p>Defaults to {@link ResourceAccessMode#READ_WRITE READ_WRITE}.
+	 */
+	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.api.parallel;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Common resource keys that may be used in {@link ResourceLock @ResourceLock}
+ * declarations.
+ *
+ * @since 5.1
+ * @see ResourceLock
+ */
+@API(status = EXPERIMENTAL, since = "5.1")
+public final class Resources {
+
+	/**
+	 * Represents Java's system properties: {@value}
+	 *
+	 * @see System#getProperties()
+	 * @see System#setProperties(java.util.Properties)
+	 */
+	public static final String SYSTEM_PROPERTIES = "java.lang.System.properties";
+
+	/**
+	 * Represents the standard output stream of the current process: {@value}
+	 *
+	 * @see System#setOut(java.io.PrintStream)
+	 */
+	public static final String SYSTEM_OUT = "java.lang.System.out";
+
+	/**
+	 * Represents the standard error stream of the current process: {@value}
+	 *
+	 * @see System#setErr(java.io.PrintStream)
+	 */
+	public static final String SYSTEM_ERR = "java.lang.System.err";
+
+	///CLOVER:OFF
+	private Resources() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+}
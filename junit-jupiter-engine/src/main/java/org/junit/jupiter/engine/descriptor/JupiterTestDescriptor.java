@@ -31,6 +31,8 @@ import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.engine.execution.ConditionEvaluator;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
@@ -42,6 +44,8 @@ import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.Node;
 
 /**
@@ -84,6 +88,18 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		// @formatter:on
 	}
 
+	protected static Set<ExclusiveResource> getExclusiveResources(AnnotatedElement element) {
+		// @formatter:off
+		return findRepeatableAnnotations(element, ResourceLock.class).stream()
+				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode())))
+				.collect(toCollection(LinkedHashSet::new));
+		// @formatter:on
+	}
+
+	private static LockMode toLockMode(ResourceAccessMode mode) {
+		return (mode == ResourceAccessMode.READ ? LockMode.READ : LockMode.READ_WRITE);
+	}
+
 	protected static <E extends AnnotatedElement> String determineDisplayName(E element,
 			Function<E, String> defaultDisplayNameGenerator) {
 
@@ -72,12 +72,19 @@ public class TestFactoryTestDescriptor extends TestMethodTestDescriptor {
 			TestSource source = getSource().orElseThrow(
 				() -> new JUnitException("Illegal state: TestSource must be present"));
 			try (Stream<DynamicNode> dynamicNodeStream = toDynamicNodeStream(testFactoryMethodResult)) {
-				int index = 1;
-				Iterator<DynamicNode> iterator = dynamicNodeStream.iterator();
-				while (iterator.hasNext()) {
-					DynamicNode dynamicNode = iterator.next();
-					JupiterTestDescriptor descriptor = createDynamicDescriptor(this, dynamicNode, index++, source);
-					dynamicTestExecutor.execute(descriptor);
+				try {
+					int index = 1;
+					Iterator<DynamicNode> iterator = dynamicNodeStream.iterator();
+					while (iterator.hasNext()) {
+						DynamicNode dynamicNode = iterator.next();
+						JupiterTestDescriptor descriptor = createDynamicDescriptor(this, dynamicNode, index++, source);
+						dynamicTestExecutor.submit(descriptor);
+					}
+				}
+				finally {
+					// Dynamic tests must have finished before after-each callbacks are invoked
+					// and before the resources backing the stream are closed
+					dynamicTestExecutor.awaitFinished();
 				}
 			}
 			catch (ClassCastException ex) {
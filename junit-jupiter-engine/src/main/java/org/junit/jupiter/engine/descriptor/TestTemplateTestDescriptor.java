@@ -111,7 +111,7 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor {
 
 	private void execute(DynamicTestExecutor dynamicTestExecutor, TestDescriptor testDescriptor) {
 		addChild(testDescriptor);
-		dynamicTestExecutor.execute(testDescriptor);
+		dynamicTestExecutor.submit(testDescriptor);
 	}
 
 	private void validateWasAtLeastInvokedOnce(int invocationIndex) {
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.engine.discovery;
 
+import static java.util.Arrays.asList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.util.ModuleUtils.findAllClassesInModule;
 import static org.junit.platform.commons.util.ReflectionUtils.findAllClassesInClasspathRoot;
@@ -20,6 +21,10 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.engine.discovery.predicates.IsScannableTestClass;
 import org.junit.platform.commons.util.ClassFilter;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -29,6 +34,7 @@ import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.ModuleSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
+import org.junit.platform.engine.discovery.TestTagFilter;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
 
 /**
@@ -46,14 +52,16 @@ public class DiscoverySelectorResolver {
 	private static final IsScannableTestClass isScannableTestClass = new IsScannableTestClass();
 
 	public void resolveSelectors(EngineDiscoveryRequest request, TestDescriptor engineDescriptor) {
-		ClassFilter classFilter = buildClassFilter(request, isScannableTestClass);
+		// Scannable test classes declare or inherit tests or contain nested test classes
+		ClassFilter classFilter = buildClassFilter(request, isScannableTestClass) //
+				.withAnnotationPrefilter(asList(Test.class, TestFactory.class, TestTemplate.class, Nested.class));
 		resolve(request, engineDescriptor, classFilter);
 		filter(engineDescriptor, classFilter);
 		pruneTree(engineDescriptor);
 	}
 
 	private void resolve(EngineDiscoveryRequest request, TestDescriptor engineDescriptor, ClassFilter classFilter) {
-		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(engineDescriptor);
+		JavaElementsResolver javaElementsResolver = createJavaElementsResolver(request, engineDescriptor);
 
 		request.getSelectorsByType(ClasspathRootSelector.class).forEach(selector -> {
 			findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter).forEach(
@@ -84,14 +92,17 @@ public class DiscoverySelectorResolver {
 		rootDescriptor.accept(TestDescriptor::prune);
 	}
 
-	private JavaElementsResolver createJavaElementsResolver(TestDescriptor engineDescriptor) {
+	private JavaElementsResolver createJavaElementsResolver(EngineDiscoveryRequest request,
+			TestDescriptor engineDescriptor) {
 		Set<ElementResolver> resolvers = new LinkedHashSet<>();
 		resolvers.add(new TestContainerResolver());
 		resolvers.add(new NestedTestsResolver());
 		resolvers.add(new TestMethodResolver());
 		resolvers.add(new TestFactoryMethodResolver());
 		resolvers.add(new TestTemplateMethodResolver());
-		return new JavaElementsResolver(engineDescriptor, resolvers);
+		TestTagFilterApplier testTagFilterApplier = new TestTagFilterApplier(
+			request.getFiltersByType(TestTagFilter.class));
+		return new JavaElementsResolver(engineDescriptor, resolvers, testTagFilterApplier);
 	}
 
 }
@@ -48,13 +48,21 @@ class JavaElementsResolver {
 
 	private final TestDescriptor engineDescriptor;
 	private final Set<ElementResolver> resolvers;
+	private final TestTagFilterApplier testTagFilterApplier;
 
-	JavaElementsResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers) {
+	JavaElementsResolver(TestDescriptor engineDescriptor, Set<ElementResolver> resolvers,
+			TestTagFilterApplier testTagFilterApplier) {
 		this.engineDescriptor = engineDescriptor;
 		this.resolvers = resolvers;
+		this.testTagFilterApplier = testTagFilterApplier;
 	}
 
 	void resolveClass(Class<?> testClass) {
+		if (this.testTagFilterApplier.excludesClass(testClass)) {
+			logger.debug(() -> format("Class '%s' is excluded by tag filters.", testClass.getName()));
+			return;
+		}
+
 		Set<TestDescriptor> resolvedDescriptors = resolveContainerWithParents(testClass);
 		resolvedDescriptors.forEach(this::resolveChildren);
 
@@ -64,6 +72,11 @@ class JavaElementsResolver {
 	}
 
 	void resolveMethod(Class<?> testClass, Method testMethod) {
+		if (this.testTagFilterApplier.excludesMethod(testClass, testMethod)) {
+			logger.debug(() -> format("Method '%s' is excluded by tag filters.", testMethod.toGenericString()));
+			return;
+		}
+
 		Set<TestDescriptor> potentialParents = resolveContainerWithParents(testClass);
 		Set<TestDescriptor> resolvedDescriptors = resolveForAllParents(testMethod, potentialParents);
 
@@ -170,8 +183,13 @@ class JavaElementsResolver {
 
 	private void resolveContainedNestedClasses(TestDescriptor containerDescriptor, Class<?> clazz) {
 		List<Class<?>> nestedClassesCandidates = findNestedClasses(clazz, isInnerClass);
-		nestedClassesCandidates.forEach(
-			nestedClass -> resolveContainerWithChildren(nestedClass, Collections.singleton(containerDescriptor)));
+		nestedClassesCandidates.forEach(nestedClass -> {
+			if (this.testTagFilterApplier.excludesNestedClass(nestedClass, containerDescriptor)) {
+				logger.debug(() -> format("Nested class '%s' is excluded by tag filters.", nestedClass.getName()));
+				return;
+			}
+			resolveContainerWithChildren(nestedClass, Collections.singleton(containerDescriptor));
+		});
 	}
 
 	private void resolveContainedMethods(TestDescriptor containerDescriptor, Class<?> testClass) {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.discovery;
+
+import static java.util.stream.Collectors.toCollection;
+import static org.junit.platform.commons.util.AnnotationUtils.findRepeatableAnnotations;
+import static org.junit.platform.commons.util.ReflectionUtils.findMethods;
+import static org.junit.platform.commons.util.ReflectionUtils.findNestedClasses;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.engine.discovery.predicates.IsInnerClass;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.TestTagFilter;
+
+/**
+ * Class for determining whether classes and methods can be skipped during
+ * discovery since {@link TestTagFilter TestTagFilters} would exclude all of
+ * the tests they contain after discovery anyway.
+ *
+ * <p>Tests and nested classes inherit the tags of their enclosing classes.
+ * Thus, the tags of a class are common to all of its descendants, and the
+ * tags declared anywhere within the class, its methods, and its nested
+ * classes are all the tags its descendants can possibly have.
+ *
+ * @since 5.1
+ */
+class TestTagFilterApplier {
+
+	private static final IsInnerClass isInnerClass = new IsInnerClass();
+
+	private final List<TestTagFilter> filters;
+
+	TestTagFilterApplier(List<TestTagFilter> filters) {
+		this.filters = filters;
+	}
+
+	/**
+	 * Determine whether all tests in the supplied class, which is resolved
+	 * along with its enclosing classes, are excluded.
+	 */
+	boolean excludesClass(Class<?> testClass) {
+		if (this.filters.isEmpty()) {
+			return false;
+		}
+		return excludesClass(testClass, getInheritedTags(testClass));
+	}
+
+	/**
+	 * Determine whether all tests in the supplied nested class, which is
+	 * resolved as a child of the supplied parent, are excluded.
+	 */
+	boolean excludesNestedClass(Class<?> nestedClass, TestDescriptor parent) {
+		if (this.filters.isEmpty()) {
+			return false;
+		}
+		Set<TestTag> commonTags = getTags(nestedClass);
+		commonTags.addAll(parent.getTags());
+		return excludesClass(nestedClass, commonTags);
+	}
+
+	/**
+	 * Determine whether the supplied method of the supplied class, which is
+	 * resolved along with its enclosing classes, is excluded.
+	 */
+	boolean excludesMethod(Class<?> testClass, Method testMethod) {
+		if (this.filters.isEmpty()) {
+			return false;
+		}
+		Set<TestTag> tags = getInheritedTags(testClass);
+		tags.addAll(getTags(testMethod));
+		return excludesAll(tags, tags);
+	}
+
+	private boolean excludesClass(Class<?> testClass, Set<TestTag> commonTags) {
+		Set<TestTag> possibleTags = new HashSet<>(commonTags);
+		collectDeclaredTags(testClass, possibleTags, new HashSet<>());
+		return excludesAll(commonTags, possibleTags);
+	}
+
+	private boolean excludesAll(Set<TestTag> commonTags, Set<TestTag> possibleTags) {
+		return this.filters.stream().anyMatch(filter -> filter.excludesAll(commonTags, possibleTags));
+	}
+
+	private Set<TestTag> getInheritedTags(Class<?> testClass) {
+		Set<TestTag> tags = getTags(testClass);
+		if (isInnerClass.test(testClass)) {
+			tags.addAll(getInheritedTags(testClass.getDeclaringClass()));
+		}
+		return tags;
+	}
+
+	private void collectDeclaredTags(Class<?> clazz, Set<TestTag> tags, Set<Class<?>> visitedClasses) {
+		if (!visitedClasses.add(clazz)) {
+			return;
+		}
+		tags.addAll(getTags(clazz));
+		findMethods(clazz, method -> !ReflectionUtils.isPrivate(method)).forEach(
+			method -> tags.addAll(getTags(method)));
+		findNestedClasses(clazz, isInnerClass).forEach(
+			nestedClass -> collectDeclaredTags(nestedClass, tags, visitedClasses));
+	}
+
+	private static Set<TestTag> getTags(AnnotatedElement element) {
+		// Invalid tags are ignored, just like when creating the test descriptors
+		// @formatter:off
+		return findRepeatableAnnotations(element, Tag.class).stream()
+				.map(Tag::value)
+				.filter(TestTag::isValid)
+				.map(TestTag::create)
+				.collect(toCollection(LinkedHashSet::new));
+		// @formatter:on
+	}
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.platform.engine.test.event.ExecutionEventRecorder;
+
+/**
+ * Integration tests for parallel execution of JUnit Jupiter tests.
+ *
+ * @since 5.1
+ */
+class ParallelExecutionIntegrationTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void executesTestMethodsConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeInParallel(ConcurrentTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	void executesTestMethodsConcurrentlyInThreadPerTaskMode() {
+		// @formatter:off
+		ExecutionEventRecorder eventRecorder = executeTests(request()
+				.selectors(selectClass(ThreadPerTaskTestCase.class))
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME, "thread_per_task")
+				.build());
+		// @formatter:on
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	@Test
+	void serializesTestMethodsSharingAResourceLock() {
+		ExecutionEventRecorder eventRecorder = executeInParallel(ResourceLockTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertThat(ResourceLockTestCase.maxActiveTests).hasValue(1);
+	}
+
+	@Test
+	void executesDynamicTestsConcurrentlyBeforeAfterEachCallbacks() {
+		ExecutionEventRecorder eventRecorder = executeInParallel(TestFactoryTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+		assertEquals(0, eventRecorder.getContainerFailedCount(), "# containers failed");
+		assertEquals(3, TestFactoryTestCase.finishedTestsWhenStreamClosed.get(),
+			"# dynamic tests finished when stream was closed");
+	}
+
+	@Test
+	void executesTestTemplateInvocationsConcurrently() {
+		ExecutionEventRecorder eventRecorder = executeInParallel(TestTemplateTestCase.class);
+
+		assertEquals(3, eventRecorder.getTestSuccessfulCount(), "# tests succeeded");
+	}
+
+	private ExecutionEventRecorder executeInParallel(Class<?> testClass) {
+		// @formatter:off
+		return executeTests(request()
+				.selectors(selectClass(testClass))
+				.configurationParameter(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true")
+				.configurationParameter(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME, "fixed")
+				.configurationParameter(PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME, "3")
+				.build());
+		// @formatter:on
+	}
+
+	static class ConcurrentTestCase {
+
+		static final CountDownLatch latch = new CountDownLatch(3);
+
+		@Test
+		void a() throws Exception {
+			awaitSiblings();
+		}
+
+		@Test
+		void b() throws Exception {
+			awaitSiblings();
+		}
+
+		@Test
+		void c() throws Exception {
+			awaitSiblings();
+		}
+
+		private static void awaitSiblings() throws Exception {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "tests were not executed concurrently");
+		}
+
+	}
+
+	static class ThreadPerTaskTestCase {
+
+		static final CountDownLatch latch = new CountDownLatch(3);
+
+		@Test
+		void a() throws Exception {
+			awaitSiblings();
+		}
+
+		@Test
+		void b() throws Exception {
+			awaitSiblings();
+		}
+
+		@Test
+		void c() throws Exception {
+			awaitSiblings();
+		}
+
+		private static void awaitSiblings() throws Exception {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "tests were not executed concurrently");
+		}
+
+	}
+
+	static class TestFactoryTestCase {
+
+		static final CountDownLatch latch = new CountDownLatch(3);
+		static final AtomicInteger finishedTests = new AtomicInteger();
+		static final AtomicInteger finishedTestsWhenStreamClosed = new AtomicInteger(-1);
+
+		@TestFactory
+		Stream<DynamicTest> dynamicTests() {
+			return Stream.of("a", "b", "c").map(name -> dynamicTest(name, () -> {
+				latch.countDown();
+				assertTrue(latch.await(5, TimeUnit.SECONDS), "dynamic tests were not executed concurrently");
+				finishedTests.incrementAndGet();
+			})).onClose(() -> finishedTestsWhenStreamClosed.set(finishedTests.get()));
+		}
+
+		@AfterEach
+		void allDynamicTestsHaveFinished() {
+			assertEquals(3, finishedTests.get(), "# dynamic tests finished");
+		}
+
+	}
+
+	static class TestTemplateTestCase {
+
+		static final CountDownLatch latch = new CountDownLatch(3);
+
+		@RepeatedTest(3)
+		void repeated() throws Exception {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "repetitions were not executed concurrently");
+		}
+
+	}
+
+	static class ResourceLockTestCase {
+
+		static final AtomicInteger activeTests = new AtomicInteger();
+		static final AtomicInteger maxActiveTests = new AtomicInteger();
+
+		@Test
+		@ResourceLock("shared")
+		void a() throws Exception {
+			useSharedResource();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void b() throws Exception {
+			useSharedResource();
+		}
+
+		@Test
+		@ResourceLock("shared")
+		void c() throws Exception {
+			useSharedResource();
+		}
+
+		private static void useSharedResource() throws Exception {
+			maxActiveTests.accumulateAndGet(activeTests.incrementAndGet(), Math::max);
+			Thread.sleep(20);
+			activeTests.decrementAndGet();
+		}
+
+	}
+
+}
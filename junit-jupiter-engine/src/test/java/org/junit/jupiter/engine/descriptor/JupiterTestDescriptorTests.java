@@ -30,9 +30,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceAccessMode;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
 import org.junit.jupiter.engine.descriptor.JupiterTestDescriptorTests.StaticTestCase.StaticTestCaseLevel2;
 import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 
 /**
  * Unit tests for {@link ClassTestDescriptor}, {@link NestedClassTestDescriptor},
@@ -172,6 +177,20 @@ class JupiterTestDescriptorTests {
 		assertEquals("test(String[][][][][])", descriptor.getDisplayName(), "display name");
 	}
 
+	@Test
+	void exclusiveResourcesFromResourceLockAnnotations() throws Exception {
+		ClassTestDescriptor classDescriptor = new ClassTestDescriptor(uniqueId, ResourceLockTestCase.class);
+		Method testMethod = ResourceLockTestCase.class.getDeclaredMethod("test");
+		TestMethodTestDescriptor methodDescriptor = new TestMethodTestDescriptor(uniqueId,
+			ResourceLockTestCase.class, testMethod);
+
+		assertThat(classDescriptor.getExclusiveResources()).containsExactly(
+			new ExclusiveResource(Resources.SYSTEM_PROPERTIES, LockMode.READ_WRITE));
+		assertThat(methodDescriptor.getExclusiveResources()).containsExactly(
+			new ExclusiveResource("a", LockMode.READ), new ExclusiveResource("b", LockMode.READ_WRITE));
+		assertThat(new ClassTestDescriptor(uniqueId, TestCase.class).getExclusiveResources()).isEmpty();
+	}
+
 	@Test
 	void defaultDisplayNamesForTestClasses() {
 		ClassTestDescriptor descriptor = new ClassTestDescriptor(uniqueId, getClass());
@@ -241,6 +260,17 @@ class JupiterTestDescriptorTests {
 
 	}
 
+	@ResourceLock(Resources.SYSTEM_PROPERTIES)
+	private static class ResourceLockTestCase {
+
+		@Test
+		@ResourceLock(value = "a", mode = ResourceAccessMode.READ)
+		@ResourceLock("b")
+		void test() {
+		}
+
+	}
+
 	private static class TestCaseWithInvalidBeforeAllMethod {
 
 		// must be static
@@ -28,6 +28,8 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.TagFilter.excludeTags;
+import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
@@ -41,6 +43,7 @@ import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.TestTemplate;
@@ -548,6 +551,40 @@ class DiscoverySelectorResolverTests {
 		assertThat(uniqueIds()).containsSequence(uniqueIdForClass(clazz), templateUid);
 	}
 
+	@Test
+	void classesWithoutIncludedTagsAreNotResolved() {
+		resolver.resolveSelectors(request().selectors(selectClass(UntaggedTestCase.class),
+			selectClass(SlowTaggedTestCase.class), selectClass(PartiallyTaggedTestCase.class)).filters(
+				includeTags("fast")).build(),
+			engineDescriptor);
+
+		assertThat(uniqueIds()).doesNotContain(uniqueIdForClass(UntaggedTestCase.class)).contains(
+			uniqueIdForClass(SlowTaggedTestCase.class), uniqueIdForClass(PartiallyTaggedTestCase.class),
+			uniqueIdForClass(PartiallyTaggedTestCase.FastNestedTestCase.class));
+		assertThat(uniqueIds()).doesNotContain(uniqueIdForClass(PartiallyTaggedTestCase.UntaggedNestedTestCase.class));
+	}
+
+	@Test
+	void classesWithExcludedTagsAreNotResolved() {
+		resolver.resolveSelectors(request().selectors(selectClass(UntaggedTestCase.class),
+			selectClass(SlowTaggedTestCase.class), selectClass(SlowTaggedTestCase.NestedTestCase.class)).filters(
+				excludeTags("slow")).build(),
+			engineDescriptor);
+
+		assertThat(uniqueIds()).containsExactly(uniqueIdForClass(UntaggedTestCase.class),
+			uniqueIdForMethod(UntaggedTestCase.class, "test()"));
+	}
+
+	@Test
+	void methodsWithoutIncludedTagsAreNotResolved() {
+		resolver.resolveSelectors(request().selectors(selectMethod(UntaggedTestCase.class, "test"),
+			selectMethod(SlowTaggedTestCase.class, "fastAndSlow")).filters(includeTags("fast")).build(),
+			engineDescriptor);
+
+		assertThat(uniqueIds()).containsExactly(uniqueIdForClass(SlowTaggedTestCase.class),
+			uniqueIdForMethod(SlowTaggedTestCase.class, "fastAndSlow()"));
+	}
+
 	private TestDescriptor descriptorByUniqueId(UniqueId uniqueId) {
 		return engineDescriptor.getDescendants().stream().filter(
 			d -> d.getUniqueId().equals(uniqueId)).findFirst().get();
@@ -639,3 +676,55 @@ class TestClassWithTemplate {
 	void testTemplate() {
 	}
 }
+
+class UntaggedTestCase {
+
+	@Test
+	void test() {
+	}
+}
+
+@Tag("slow")
+class SlowTaggedTestCase {
+
+	@Test
+	void slow() {
+	}
+
+	@Test
+	@Tag("fast")
+	void fastAndSlow() {
+	}
+
+	@Nested
+	class NestedTestCase {
+
+		@Test
+		void nested() {
+		}
+	}
+}
+
+class PartiallyTaggedTestCase {
+
+	@Test
+	void untagged() {
+	}
+
+	@Nested
+	class FastNestedTestCase {
+
+		@Test
+		@Tag("fast")
+		void fast() {
+		}
+	}
+
+	@Nested
+	class UntaggedNestedTestCase {
+
+		@Test
+		void untagged() {
+		}
+	}
+}
@@ -55,9 +55,19 @@ public final class BlacklistedExceptions {
 	 * this method does nothing.
 	 */
 	public static void rethrowIfBlacklisted(Throwable exception) {
-		if (blacklist.stream().anyMatch(exceptionType -> exceptionType.isInstance(exception))) {
+		if (isBlacklisted(exception)) {
 			ExceptionUtils.throwAsUncheckedException(exception);
 		}
 	}
 
+	/**
+	 * Determine if the supplied {@link Throwable exception} is
+	 * <em>blacklisted</em>.
+	 *
+	 * @since 1.1
+	 */
+	public static boolean isBlacklisted(Throwable exception) {
+		return blacklist.stream().anyMatch(exceptionType -> exceptionType.isInstance(exception));
+	}
+
 }
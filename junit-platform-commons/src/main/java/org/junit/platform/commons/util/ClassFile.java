@@ -0,0 +1,376 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.unmodifiableSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Minimal reader for the parts of a Java class file that are relevant for
+ * deciding whether a class needs to be loaded during classpath scanning.
+ *
+ * <p>Only the constant pool, the super class, the interfaces, the
+ * {@code RuntimeVisibleAnnotations} attributes of the class, its fields and
+ * methods, and the {@code InnerClasses} attribute of the class are read.
+ * Type names are returned in their internal form, e.g.
+ * {@code "org/junit/jupiter/api/Test"}.
+ *
+ * @since 1.1
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se8/html/jvms-4.html">The class File Format</a>
+ */
+final class ClassFile {
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+	private static final String INNER_CLASSES = "InnerClasses";
+
+	/**
+	 * Read a class file from the supplied bytes.
+	 *
+	 * @throws IOException if the bytes do not represent a valid class file
+	 */
+	static ClassFile read(byte[] bytes) throws IOException {
+		return read(new ByteArrayInputStream(bytes));
+	}
+
+	/**
+	 * Read a class file from the supplied stream, which is not closed.
+	 *
+	 * @throws IOException if the stream cannot be read or does not contain a
+	 * valid class file
+	 */
+	static ClassFile read(InputStream inputStream) throws IOException {
+		DataInputStream in = new DataInputStream(inputStream);
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.readUnsignedShort(); // minor version
+		in.readUnsignedShort(); // major version
+		return new ClassFile(in);
+	}
+
+	/**
+	 * Read the information about a class file that was previously written
+	 * via {@link #writeSummary(DataOutput)}.
+	 *
+	 * @throws IOException if the input cannot be read
+	 */
+	static ClassFile readSummary(DataInput in) throws IOException {
+		String name = in.readUTF();
+		String superName = in.readBoolean() ? in.readUTF() : null;
+		ClassFile classFile = new ClassFile(name, superName);
+		readNames(in, classFile.interfaceNames);
+		readNames(in, classFile.classAnnotationTypes);
+		readNames(in, classFile.memberAnnotationTypes);
+		readNames(in, classFile.memberClassNames);
+		return classFile;
+	}
+
+	private static void readNames(DataInput in, Set<String> names) throws IOException {
+		int count = in.readInt();
+		for (int i = 0; i < count; i++) {
+			names.add(in.readUTF());
+		}
+	}
+
+	/**
+	 * Only set while the class file is being read.
+	 */
+	private Object[] constantPool;
+	private final String name;
+	private final String superName;
+	private final Set<String> interfaceNames = new LinkedHashSet<>();
+	private final Set<String> classAnnotationTypes = new LinkedHashSet<>();
+	private final Set<String> memberAnnotationTypes = new LinkedHashSet<>();
+	private final Set<String> memberClassNames = new LinkedHashSet<>();
+
+	private ClassFile(DataInputStream in) throws IOException {
+		this.constantPool = readConstantPool(in);
+		in.readUnsignedShort(); // access flags
+		int thisClassIndex = in.readUnsignedShort();
+		this.name = getClassName(thisClassIndex);
+		int superClassIndex = in.readUnsignedShort();
+		this.superName = superClassIndex == 0 ? null : getClassName(superClassIndex);
+		int interfacesCount = in.readUnsignedShort();
+		for (int i = 0; i < interfacesCount; i++) {
+			this.interfaceNames.add(getClassName(in.readUnsignedShort()));
+		}
+		readMembers(in); // fields
+		readMembers(in); // methods
+		int attributesCount = in.readUnsignedShort();
+		for (int i = 0; i < attributesCount; i++) {
+			String attributeName = getUtf8(in.readUnsignedShort());
+			int length = in.readInt();
+			if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+				readAnnotations(in, this.classAnnotationTypes);
+			}
+			else if (INNER_CLASSES.equals(attributeName)) {
+				readInnerClasses(in, thisClassIndex);
+			}
+			else {
+				skip(in, length);
+			}
+		}
+		this.constantPool = null;
+	}
+
+	private ClassFile(String name, String superName) {
+		this.name = name;
+		this.superName = superName;
+	}
+
+	/**
+	 * Write the information about this class file that is exposed by its
+	 * getters so that it can be restored via {@link #readSummary(DataInput)}.
+	 *
+	 * @throws IOException if the output cannot be written
+	 */
+	void writeSummary(DataOutput out) throws IOException {
+		out.writeUTF(this.name);
+		out.writeBoolean(this.superName != null);
+		if (this.superName != null) {
+			out.writeUTF(this.superName);
+		}
+		writeNames(out, this.interfaceNames);
+		writeNames(out, this.classAnnotationTypes);
+		writeNames(out, this.memberAnnotationTypes);
+		writeNames(out, this.memberClassNames);
+	}
+
+	private static void writeNames(DataOutput out, Set<String> names) throws IOException {
+		out.writeInt(names.size());
+		for (String name : names) {
+			out.writeUTF(name);
+		}
+	}
+
+	/**
+	 * Get the internal name of this class.
+	 */
+	String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Get the internal name of the super class of this class or {@code null}
+	 * if this class is {@code java.lang.Object}.
+	 */
+	String getSuperName() {
+		return this.superName;
+	}
+
+	/**
+	 * Get the internal names of the interfaces directly implemented by this
+	 * class.
+	 */
+	Set<String> getInterfaceNames() {
+		return unmodifiableSet(this.interfaceNames);
+	}
+
+	/**
+	 * Get the internal names of the annotation types directly present on this
+	 * class.
+	 */
+	Set<String> getClassAnnotationTypes() {
+		return unmodifiableSet(this.classAnnotationTypes);
+	}
+
+	/**
+	 * Get the internal names of the annotation types directly present on the
+	 * fields and methods declared by this class.
+	 */
+	Set<String> getMemberAnnotationTypes() {
+		return unmodifiableSet(this.memberAnnotationTypes);
+	}
+
+	/**
+	 * Get the internal names of the member classes declared by this class.
+	 */
+	Set<String> getMemberClassNames() {
+		return unmodifiableSet(this.memberClassNames);
+	}
+
+	private static Object[] readConstantPool(DataInputStream in) throws IOException {
+		int count = in.readUnsignedShort();
+		Object[] constantPool = new Object[count];
+		for (int i = 1; i < count; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case CONSTANT_UTF8:
+					constantPool[i] = in.readUTF();
+					break;
+				case CONSTANT_CLASS:
+					// index of the name, resolved lazily
+					constantPool[i] = in.readUnsignedShort();
+					break;
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					skip(in, 2);
+					break;
+				case CONSTANT_METHOD_HANDLE:
+					skip(in, 3);
+					break;
+				case CONSTANT_INTEGER:
+				case CONSTANT_FLOAT:
+				case CONSTANT_FIELD_REF:
+				case CONSTANT_METHOD_REF:
+				case CONSTANT_INTERFACE_METHOD_REF:
+				case CONSTANT_NAME_AND_TYPE:
+				case CONSTANT_DYNAMIC:
+				case CONSTANT_INVOKE_DYNAMIC:
+					skip(in, 4);
+					break;
+				case CONSTANT_LONG:
+				case CONSTANT_DOUBLE:
+					skip(in, 8);
+					// 8-byte constants take up two entries
+					i++;
+					break;
+				default:
+					throw new IOException("Unknown constant pool tag: " + tag);
+			}
+		}
+		return constantPool;
+	}
+
+	private void readMembers(DataInputStream in) throws IOException {
+		int membersCount = in.readUnsignedShort();
+		for (int i = 0; i < membersCount; i++) {
+			skip(in, 6); // access flags, name, descriptor
+			int attributesCount = in.readUnsignedShort();
+			for (int j = 0; j < attributesCount; j++) {
+				String attributeName = getUtf8(in.readUnsignedShort());
+				int length = in.readInt();
+				if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+					readAnnotations(in, this.memberAnnotationTypes);
+				}
+				else {
+					skip(in, length);
+				}
+			}
+		}
+	}
+
+	private void readAnnotations(DataInputStream in, Set<String> annotationTypes) throws IOException {
+		int annotationsCount = in.readUnsignedShort();
+		for (int i = 0; i < annotationsCount; i++) {
+			readAnnotation(in, annotationTypes);
+		}
+	}
+
+	private void readAnnotation(DataInputStream in, Set<String> annotationTypes) throws IOException {
+		annotationTypes.add(descriptorToInternalName(getUtf8(in.readUnsignedShort())));
+		int elementValuePairsCount = in.readUnsignedShort();
+		for (int i = 0; i < elementValuePairsCount; i++) {
+			skip(in, 2); // element name
+			readElementValue(in, annotationTypes);
+		}
+	}
+
+	private void readElementValue(DataInputStream in, Set<String> annotationTypes) throws IOException {
+		int tag = in.readUnsignedByte();
+		switch (tag) {
+			case 'e':
+				skip(in, 4); // type name and constant name
+				break;
+			case '@':
+				// nested annotations, e.g. within containers of repeatable annotations
+				readAnnotation(in, annotationTypes);
+				break;
+			case '[':
+				int valuesCount = in.readUnsignedShort();
+				for (int i = 0; i < valuesCount; i++) {
+					readElementValue(in, annotationTypes);
+				}
+				break;
+			default:
+				// constants and classes
+				skip(in, 2);
+		}
+	}
+
+	private void readInnerClasses(DataInputStream in, int thisClassIndex) throws IOException {
+		int classesCount = in.readUnsignedShort();
+		for (int i = 0; i < classesCount; i++) {
+			int innerClassIndex = in.readUnsignedShort();
+			int outerClassIndex = in.readUnsignedShort();
+			skip(in, 4); // inner name and access flags
+			if (outerClassIndex == thisClassIndex) {
+				this.memberClassNames.add(getClassName(innerClassIndex));
+			}
+		}
+	}
+
+	private String getClassName(int index) throws IOException {
+		Object entry = index < this.constantPool.length ? this.constantPool[index] : null;
+		if (!(entry instanceof Integer)) {
+			throw new IOException("Invalid class constant at index " + index);
+		}
+		return getUtf8((Integer) entry);
+	}
+
+	private String getUtf8(int index) throws IOException {
+		Object entry = index < this.constantPool.length ? this.constantPool[index] : null;
+		if (!(entry instanceof String)) {
+			throw new IOException("Invalid UTF-8 constant at index " + index);
+		}
+		return (String) entry;
+	}
+
+	private static String descriptorToInternalName(String descriptor) {
+		if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.endsWith(";")) {
+			return descriptor.substring(1, descriptor.length() - 1);
+		}
+		return descriptor;
+	}
+
+	private static void skip(DataInputStream in, int count) throws IOException {
+		int remaining = count;
+		while (remaining > 0) {
+			int skipped = in.skipBytes(remaining);
+			if (skipped <= 0) {
+				throw new EOFException();
+			}
+			remaining -= skipped;
+		}
+	}
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Decides, based on the class file alone, whether a class might have to be
+ * loaded during classpath scanning.
+ *
+ * <p>A class might match if it, any of its fields or methods, or any of its
+ * super types or member classes is annotated with one of the required
+ * annotation types, either directly or as a meta-annotation. The class files
+ * of super types, member classes, and annotation types are looked up as
+ * resources of the supplied {@link ClassLoader} and the results are cached
+ * for the lifetime of this pre-filter. Types of the Java platform are never
+ * considered to match.
+ *
+ * <p>Whenever a decision cannot be made reliably &mdash; for example, if a
+ * class file cannot be found or read &mdash; the class is assumed to match.
+ *
+ * @since 1.1
+ * @see ClassFilter#withAnnotationPrefilter
+ */
+final class ClassFilePreFilter {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassFilePreFilter.class);
+
+	private static final String[] PLATFORM_PACKAGE_PREFIXES = { "java/", "javax/", "jdk/", "sun/", "com/sun/" };
+
+	private final Set<String> requiredAnnotationTypes = new HashSet<>();
+	private final ClassLoader classLoader;
+	private final Map<String, Boolean> annotationTypeCache = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> typeCache = new ConcurrentHashMap<>();
+
+	ClassFilePreFilter(Set<String> requiredAnnotationNames, ClassLoader classLoader) {
+		requiredAnnotationNames.forEach(name -> this.requiredAnnotationTypes.add(name.replace('.', '/')));
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Determine whether the class stored in the supplied class file might
+	 * match and therefore has to be loaded.
+	 */
+	boolean mayMatch(Path classFile) {
+		try (InputStream inputStream = Files.newInputStream(classFile)) {
+			return mayMatch(inputStream);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file " + classFile);
+			return true;
+		}
+	}
+
+	/**
+	 * Determine whether the class stored in the supplied entry of a ZIP file
+	 * might match and therefore has to be loaded.
+	 */
+	boolean mayMatch(ZipFile zipFile, ZipEntry entry) {
+		try (InputStream inputStream = zipFile.getInputStream(entry)) {
+			return mayMatch(inputStream);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file " + entry.getName() + " in " + zipFile.getName());
+			return true;
+		}
+	}
+
+	/**
+	 * Determine whether the class described by the supplied class file might
+	 * match and therefore has to be loaded.
+	 */
+	boolean mayMatch(ClassFile classFile) {
+		return mayMatch(classFile, new HashSet<>());
+	}
+
+	private boolean mayMatch(InputStream inputStream) throws IOException {
+		return mayMatch(ClassFile.read(new BufferedInputStream(inputStream)));
+	}
+
+	private boolean mayMatch(ClassFile classFile, Set<String> visitedTypes) {
+		visitedTypes.add(classFile.getName());
+		if (anyMatch(classFile.getClassAnnotationTypes(), this::isRequiredAnnotationType, new HashSet<>())
+				|| anyMatch(classFile.getMemberAnnotationTypes(), this::isRequiredAnnotationType, new HashSet<>())) {
+			return true;
+		}
+		String superName = classFile.getSuperName();
+		if (superName != null && mayMatch(superName, visitedTypes)) {
+			return true;
+		}
+		return anyMatch(classFile.getInterfaceNames(), this::mayMatch, visitedTypes)
+				|| anyMatch(classFile.getMemberClassNames(), this::mayMatch, visitedTypes);
+	}
+
+	private boolean mayMatch(String typeName, Set<String> visitedTypes) {
+		if (isPlatformType(typeName)) {
+			return false;
+		}
+		Boolean cachedResult = this.typeCache.get(typeName);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		// Cycles, e.g. a member class extending its enclosing class, are resolved conservatively
+		if (!visitedTypes.add(typeName)) {
+			return true;
+		}
+		boolean result = readClassFile(typeName).map(classFile -> mayMatch(classFile, visitedTypes)).orElse(true);
+		this.typeCache.put(typeName, result);
+		return result;
+	}
+
+	private boolean isRequiredAnnotationType(String annotationTypeName, Set<String> visitedTypes) {
+		if (this.requiredAnnotationTypes.contains(annotationTypeName)) {
+			return true;
+		}
+		if (isPlatformType(annotationTypeName)) {
+			return false;
+		}
+		Boolean cachedResult = this.annotationTypeCache.get(annotationTypeName);
+		if (cachedResult != null) {
+			return cachedResult;
+		}
+		// Cycles of meta-annotations are resolved conservatively
+		if (!visitedTypes.add(annotationTypeName)) {
+			return true;
+		}
+		// @formatter:off
+		boolean result = readClassFile(annotationTypeName)
+				.map(classFile -> anyMatch(classFile.getClassAnnotationTypes(), this::isRequiredAnnotationType, visitedTypes))
+				.orElse(true);
+		// @formatter:on
+		this.annotationTypeCache.put(annotationTypeName, result);
+		return result;
+	}
+
+	private static boolean anyMatch(Set<String> typeNames, BiPredicate<String, Set<String>> predicate,
+			Set<String> visitedTypes) {
+
+		for (String typeName : typeNames) {
+			if (predicate.test(typeName, visitedTypes)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Optional<ClassFile> readClassFile(String typeName) {
+		InputStream resource = this.classLoader.getResourceAsStream(typeName + ClassFileVisitor.CLASS_FILE_SUFFIX);
+		if (resource == null) {
+			return Optional.empty();
+		}
+		try (InputStream inputStream = new BufferedInputStream(resource)) {
+			return Optional.of(ClassFile.read(inputStream));
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file of " + typeName);
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isPlatformType(String typeName) {
+		for (String prefix : PLATFORM_PACKAGE_PREFIXES) {
+			if (typeName.startsWith(prefix)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -41,7 +42,7 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
-		if (isNotPackageInfo(file) && isNotModuleInfo(file) && isClassFile(file)) {
+		if (isClassFileName(file.getFileName().toString())) {
 			classFileConsumer.accept(file);
 		}
 		return CONTINUE;
@@ -61,16 +62,22 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 		return CONTINUE;
 	}
 
-	private static boolean isNotPackageInfo(Path path) {
-		return !path.endsWith(PACKAGE_INFO_FILE_NAME);
+	/**
+	 * Determine whether the supplied file name denotes a class file that is
+	 * neither a {@code package-info} nor a {@code module-info} class file.
+	 */
+	static boolean isClassFileName(String fileName) {
+		return fileName.endsWith(CLASS_FILE_SUFFIX) && !fileName.equals(PACKAGE_INFO_FILE_NAME)
+				&& !fileName.equals(MODULE_INFO_FILE_NAME);
 	}
 
-	private static boolean isNotModuleInfo(Path path) {
-		return !path.endsWith(MODULE_INFO_FILE_NAME);
-	}
-
-	private static boolean isClassFile(Path file) {
-		return file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX);
+	/**
+	 * Determine whether the supplied ZIP file entry denotes a class file that
+	 * is neither a {@code package-info} nor a {@code module-info} class file.
+	 */
+	static boolean isClassFileEntry(ZipEntry entry) {
+		String name = entry.getName();
+		return !entry.isDirectory() && isClassFileName(name.substring(name.lastIndexOf('/') + 1));
 	}
 
 }
@@ -10,8 +10,14 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -41,15 +47,49 @@ public class ClassFilter implements Predicate<Class<?>> {
 	 * Create a {@link ClassFilter} instance that filters by names and classes.
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, classPredicate, emptySet());
 	}
 
 	private final Predicate<String> namePredicate;
 	private final Predicate<Class<?>> classPredicate;
+	private final Set<String> prefilterAnnotationNames;
+
+	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate,
+			Set<String> prefilterAnnotationNames) {
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.prefilterAnnotationNames = prefilterAnnotationNames;
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that allows classpath scanning
+	 * to skip loading classes whose class files reveal that neither they nor
+	 * any of their fields, methods, super types, or member classes are
+	 * annotated or meta-annotated with any of the supplied annotation types.
+	 *
+	 * <p>The class predicate of this filter must therefore only accept classes
+	 * that satisfy this condition. Classes that are not skipped are still
+	 * tested using the name and class predicates.
+	 *
+	 * @param annotationTypes the annotation types to look for; never
+	 * {@code null} or empty
+	 */
+	public ClassFilter withAnnotationPrefilter(Collection<Class<? extends Annotation>> annotationTypes) {
+		Preconditions.notEmpty(annotationTypes, "annotation types must not be null or empty");
+		Set<String> annotationNames = new LinkedHashSet<>();
+		annotationTypes.forEach(annotationType -> annotationNames.add(
+			Preconditions.notNull(annotationType, "annotation type must not be null").getName()));
+		return new ClassFilter(this.namePredicate, this.classPredicate, unmodifiableSet(annotationNames));
+	}
+
+	/**
+	 * Get the names of the annotation types registered via
+	 * {@link #withAnnotationPrefilter}; empty if classes must not be skipped
+	 * based on their class files.
+	 */
+	Set<String> getPrefilterAnnotationNames() {
+		return this.prefilterAnnotationNames;
 	}
 
 	/**
@@ -11,7 +11,10 @@
 package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
@@ -19,18 +22,33 @@ import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX
 
 import java.io.IOException;
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -51,21 +69,68 @@ class ClasspathScanner {
 	private static final char CLASSPATH_RESOURCE_PATH_SEPARATOR = '/';
 	private static final char PACKAGE_SEPARATOR_CHAR = '.';
 	private static final String PACKAGE_SEPARATOR_STRING = String.valueOf(PACKAGE_SEPARATOR_CHAR);
+	private static final String JAR_URI_SEPARATOR = "!";
 
 	/**
 	 * Malformed class name InternalError like reported in #401.
 	 */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
 
+	/**
+	 * Property name used to configure the number of threads used for scanning
+	 * the classpath: {@value}
+	 *
+	 * <p>The value is read from the JVM system properties each time the
+	 * classpath is scanned. If it is set to an integer greater than 1, root
+	 * directories and their subdirectories are scanned in parallel using a
+	 * pool of the configured size, and the classes found in each root are
+	 * sorted by name. Otherwise, the classpath is scanned sequentially.
+	 */
+	static final String PARALLELISM_PROPERTY_NAME = "junit.platform.classpath.scanning.parallelism";
+
+	/**
+	 * Property name used to configure the directory in which indexes of the
+	 * JAR files on the classpath are stored: {@value}
+	 *
+	 * <p>The value is read from the JVM system properties each time the
+	 * classpath is scanned. If it is set, the class files of each JAR file are
+	 * looked up in a {@link JarClassIndex} that is created the first time the
+	 * JAR file is scanned and rebuilt whenever the JAR file changes.
+	 * Otherwise, the entries of each JAR file are read every time.
+	 */
+	static final String INDEX_DIRECTORY_PROPERTY_NAME = "junit.platform.classpath.scanning.index.dir";
+
+	private static final Comparator<Class<?>> CLASS_NAME_COMPARATOR = comparing(Class::getName);
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass;
 
+	private final Supplier<Integer> parallelismSupplier;
+
+	private final Supplier<Path> indexDirectorySupplier;
+
 	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
 			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass) {
 
+		this(classLoaderSupplier, loadClass, ClasspathScanner::readParallelismFromSystemProperty);
+	}
+
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, Supplier<Integer> parallelismSupplier) {
+
+		this(classLoaderSupplier, loadClass, parallelismSupplier,
+			ClasspathScanner::readIndexDirectoryFromSystemProperty);
+	}
+
+	ClasspathScanner(Supplier<ClassLoader> classLoaderSupplier,
+			BiFunction<String, ClassLoader, Optional<Class<?>>> loadClass, Supplier<Integer> parallelismSupplier,
+			Supplier<Path> indexDirectorySupplier) {
+
 		this.classLoaderSupplier = classLoaderSupplier;
 		this.loadClass = loadClass;
+		this.parallelismSupplier = parallelismSupplier;
+		this.indexDirectorySupplier = indexDirectorySupplier;
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
@@ -74,76 +139,332 @@ class ClasspathScanner {
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 		basePackageName = basePackageName.trim();
 
-		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter);
+		ClassLoader classLoader = getClassLoader();
+		List<URI> baseUris = getRootUrisForPackage(basePackageName, classLoader);
+		return new Scan(basePackageName, classFilter, classLoader).findClassesForUris(baseUris);
 	}
 
 	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter) {
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		Scan scan = new Scan(PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, getClassLoader());
+		return scan.findClassesForUris(singletonList(root));
 	}
 
-	/**
-	 * Recursively scan for classes in all of the supplied source directories.
-	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
-		// @formatter:off
-		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
-				.flatMap(Collection::stream)
-				.distinct()
-				.collect(toList());
-		// @formatter:on
+	private int getParallelism() {
+		Integer parallelism = this.parallelismSupplier.get();
+		return parallelism == null ? 1 : parallelism;
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
-		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
-			Path baseDir = closeablePath.getPath();
-			return findClassesForPath(baseDir, basePackageName, classFilter);
+	private static Integer readParallelismFromSystemProperty() {
+		String value = System.getProperty(PARALLELISM_PROPERTY_NAME);
+		if (StringUtils.isBlank(value)) {
+			return null;
 		}
-		catch (PreconditionViolationException ex) {
-			throw ex;
+		try {
+			return Integer.valueOf(value.trim());
 		}
-		catch (Exception ex) {
-			logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
-			return emptyList();
+		catch (NumberFormatException ex) {
+			logger.warn(() -> format("Invalid value for system property '%s': '%s'; scanning the classpath sequentially",
+				PARALLELISM_PROPERTY_NAME, value));
+			return null;
 		}
 	}
 
-	private List<Class<?>> findClassesForPath(Path baseDir, String basePackageName, ClassFilter classFilter) {
-		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
-		List<Class<?>> classes = new ArrayList<>();
+	private static Path readIndexDirectoryFromSystemProperty() {
+		String value = System.getProperty(INDEX_DIRECTORY_PROPERTY_NAME);
+		if (StringUtils.isBlank(value)) {
+			return null;
+		}
 		try {
-			Files.walkFileTree(baseDir, new ClassFileVisitor(
-				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, classFile, classes::add)));
+			return Paths.get(value.trim());
 		}
-		catch (IOException ex) {
-			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+		catch (InvalidPathException ex) {
+			logger.warn(ex, () -> format("Invalid value for system property '%s': '%s'; scanning JAR files without index",
+				INDEX_DIRECTORY_PROPERTY_NAME, value));
+			return null;
 		}
-		return classes;
 	}
 
-	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
-		try {
-			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classFilter.match(fullyQualifiedClassName)) {
+	/**
+	 * A single scan for classes in a set of root URIs.
+	 */
+	private class Scan {
+
+		private final String basePackageName;
+		private final ClassFilter classFilter;
+		private final ClassLoader classLoader;
+		private final ClassFilePreFilter preFilter;
+		private final Path indexDirectory;
+		private boolean parallel;
+
+		Scan(String basePackageName, ClassFilter classFilter, ClassLoader classLoader) {
+			this.basePackageName = basePackageName;
+			this.classFilter = classFilter;
+			this.classLoader = classLoader;
+			Set<String> prefilterAnnotationNames = classFilter.getPrefilterAnnotationNames();
+			this.preFilter = prefilterAnnotationNames.isEmpty() ? null
+					: new ClassFilePreFilter(prefilterAnnotationNames, classLoader);
+			this.indexDirectory = indexDirectorySupplier.get();
+		}
+
+		/**
+		 * Recursively scan for classes in all of the supplied source directories.
+		 */
+		List<Class<?>> findClassesForUris(List<URI> baseUris) {
+			int parallelism = getParallelism();
+			if (parallelism > 1) {
+				this.parallel = true;
+				return findClassesForUrisInParallel(baseUris, parallelism);
+			}
+			// @formatter:off
+			return baseUris.stream()
+					.map(this::findClassesForUri)
+					.flatMap(Collection::stream)
+					.distinct()
+					.collect(toList());
+			// @formatter:on
+		}
+
+		private List<Class<?>> findClassesForUrisInParallel(List<URI> baseUris, int parallelism) {
+			// Roots within the same JAR file must not be opened concurrently
+			Map<String, List<URI>> baseUrisByFile = new LinkedHashMap<>();
+			baseUris.forEach(baseUri -> baseUrisByFile.computeIfAbsent(getFileKey(baseUri),
+				key -> new ArrayList<>()).add(baseUri));
+
+			ForkJoinPool pool = new ForkJoinPool(parallelism);
+			try {
+				return pool.invoke(new RecursiveTask<List<Class<?>>>() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected List<Class<?>> compute() {
+						List<ForkJoinTask<List<Class<?>>>> tasks = new ArrayList<>();
+						for (List<URI> uris : baseUrisByFile.values()) {
+							tasks.add(ForkJoinTask.adapt(() -> findSortedClassesForUris(uris)).fork());
+						}
+						// @formatter:off
+						return tasks.stream()
+								.map(ForkJoinTask::join)
+								.flatMap(Collection::stream)
+								.distinct()
+								.collect(toList());
+						// @formatter:on
+					}
+				});
+			}
+			finally {
+				pool.shutdown();
+			}
+		}
+
+		private List<Class<?>> findSortedClassesForUris(List<URI> baseUris) {
+			List<Class<?>> classes = new ArrayList<>();
+			for (URI baseUri : baseUris) {
+				List<Class<?>> classesForUri = new ArrayList<>(findClassesForUri(baseUri));
+				classesForUri.sort(CLASS_NAME_COMPARATOR);
+				classes.addAll(classesForUri);
+			}
+			return classes;
+		}
+
+		private String getFileKey(URI baseUri) {
+			String uri = baseUri.toString();
+			int separatorIndex = uri.indexOf(JAR_URI_SEPARATOR);
+			return separatorIndex < 0 ? uri : uri.substring(0, separatorIndex);
+		}
+
+		private List<Class<?>> findClassesForUri(URI baseUri) {
+			Optional<JarRoot> jarRoot = JarRoot.from(baseUri);
+			if (jarRoot.isPresent()) {
+				try {
+					return findClassesInJarFile(jarRoot.get());
+				}
+				catch (Exception ex) {
+					logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
+					return emptyList();
+				}
+			}
+			try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
+				Path baseDir = closeablePath.getPath();
+				return findClassesForPath(baseDir);
+			}
+			catch (PreconditionViolationException ex) {
+				throw ex;
+			}
+			catch (Exception ex) {
+				logger.warn(ex, () -> "Error scanning files for URI " + baseUri);
+				return emptyList();
+			}
+		}
+
+		private List<Class<?>> findClassesForPath(Path baseDir) {
+			Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+			if (this.parallel) {
+				return new DirectoryScanTask(baseDir, baseDir).invoke();
+			}
+			List<Class<?>> classes = new ArrayList<>();
+			try {
+				Files.walkFileTree(baseDir,
+					new ClassFileVisitor(classFile -> processClassFileSafely(baseDir, classFile, classes::add)));
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
+			}
+			return classes;
+		}
+
+		/**
+		 * Scan the entries of a JAR file without mounting it as a file system.
+		 *
+		 * <p>Only the names stored in the central directory of the JAR file are
+		 * inspected to find the class files below the root.
+		 */
+		private List<Class<?>> findClassesInJarFile(JarRoot jarRoot) throws IOException {
+			if (this.indexDirectory != null) {
+				return findClassesInJarFileUsingIndex(jarRoot);
+			}
+			List<Class<?>> classes = new ArrayList<>();
+			String entryPrefix = jarRoot.getEntryPrefix();
+			try (ZipFile zipFile = new ZipFile(jarRoot.getFile().toFile())) {
+				Enumeration<? extends ZipEntry> entries = zipFile.entries();
+				while (entries.hasMoreElements()) {
+					ZipEntry entry = entries.nextElement();
+					if (entry.getName().startsWith(entryPrefix) && ClassFileVisitor.isClassFileEntry(entry)) {
+						processJarEntrySafely(zipFile, entryPrefix, entry, classes::add);
+					}
+				}
+			}
+			return classes;
+		}
+
+		private List<Class<?>> findClassesInJarFileUsingIndex(JarRoot jarRoot) throws IOException {
+			List<Class<?>> classes = new ArrayList<>();
+			String entryPrefix = jarRoot.getEntryPrefix();
+			for (JarClassIndex.Entry entry : JarClassIndex.getOrCreate(this.indexDirectory,
+				jarRoot.getFile()).getEntries()) {
+				if (entry.getName().startsWith(entryPrefix)) {
+					processIndexEntrySafely(jarRoot, entryPrefix, entry, classes::add);
+				}
+			}
+			return classes;
+		}
+
+		private void processJarEntrySafely(ZipFile zipFile, String entryPrefix, ZipEntry entry,
+				Consumer<Class<?>> classConsumer) {
+
+			Supplier<String> location = () -> zipFile.getName() + JAR_URI_SEPARATOR + '/' + entry.getName();
+			try {
+				String fullyQualifiedClassName = determineFullyQualifiedClassName(this.basePackageName, entryPrefix,
+					entry.getName());
+				processClass(fullyQualifiedClassName,
+					() -> this.preFilter == null || this.preFilter.mayMatch(zipFile, entry), location, classConsumer);
+			}
+			catch (Throwable throwable) {
+				handleThrowable(location, throwable);
+			}
+		}
+
+		private void processIndexEntrySafely(JarRoot jarRoot, String entryPrefix, JarClassIndex.Entry entry,
+				Consumer<Class<?>> classConsumer) {
+
+			Supplier<String> location = () -> jarRoot.getFile() + JAR_URI_SEPARATOR + '/' + entry.getName();
+			try {
+				String fullyQualifiedClassName = determineFullyQualifiedClassName(this.basePackageName, entryPrefix,
+					entry.getName());
+				// Class files that could not be read when creating the index are always loaded
+				processClass(fullyQualifiedClassName,
+					() -> this.preFilter == null || entry.getClassFile().map(this.preFilter::mayMatch).orElse(true),
+					location, classConsumer);
+			}
+			catch (Throwable throwable) {
+				handleThrowable(location, throwable);
+			}
+		}
+
+		private void processClassFileSafely(Path baseDir, Path classFile, Consumer<Class<?>> classConsumer) {
+			Supplier<String> location = () -> classFile.toAbsolutePath().toString();
+			try {
+				String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, this.basePackageName,
+					classFile);
+				processClass(fullyQualifiedClassName,
+					() -> this.preFilter == null || this.preFilter.mayMatch(classFile), location, classConsumer);
+			}
+			catch (Throwable throwable) {
+				handleThrowable(location, throwable);
+			}
+		}
+
+		private void processClass(String fullyQualifiedClassName, BooleanSupplier classFileMayMatch,
+				Supplier<String> location, Consumer<Class<?>> classConsumer) {
+
+			if (this.classFilter.match(fullyQualifiedClassName) && classFileMayMatch.getAsBoolean()) {
 				try {
 					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
+					loadClass.apply(fullyQualifiedClassName, this.classLoader)
+							.filter(this.classFilter) // Always use ".filter(classFilter)" to include future predicates.
 							.ifPresent(classConsumer);
 					// @formatter:on
 				}
 				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
+					handleInternalError(location, fullyQualifiedClassName, internalError);
 				}
 			}
 		}
-		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+
+		/**
+		 * Scans a directory for class files and forks a new task for each of
+		 * its subdirectories.
+		 */
+		private class DirectoryScanTask extends RecursiveTask<List<Class<?>>> {
+
+			private static final long serialVersionUID = 1L;
+
+			private final Path baseDir;
+			private final Path directory;
+
+			DirectoryScanTask(Path baseDir, Path directory) {
+				this.baseDir = baseDir;
+				this.directory = directory;
+			}
+
+			@Override
+			protected List<Class<?>> compute() {
+				List<Class<?>> classes = new ArrayList<>();
+				List<DirectoryScanTask> subdirectoryTasks = new ArrayList<>();
+				ClassFileVisitor visitor = new ClassFileVisitor(
+					classFile -> processClassFileSafely(this.baseDir, classFile, classes::add));
+				try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+					for (Path entry : entries) {
+						BasicFileAttributes attributes;
+						try {
+							attributes = Files.readAttributes(entry, BasicFileAttributes.class, NOFOLLOW_LINKS);
+						}
+						catch (IOException ex) {
+							visitor.visitFileFailed(entry, ex);
+							continue;
+						}
+						if (attributes.isDirectory()) {
+							DirectoryScanTask task = new DirectoryScanTask(this.baseDir, entry);
+							task.fork();
+							subdirectoryTasks.add(task);
+						}
+						else {
+							visitor.visitFile(entry, attributes);
+						}
+					}
+				}
+				catch (IOException ex) {
+					visitor.postVisitDirectory(this.directory, ex);
+				}
+				subdirectoryTasks.forEach(task -> classes.addAll(task.join()));
+				return classes;
+			}
+
 		}
+
 	}
 
 	private String determineFullyQualifiedClassName(Path baseDir, String basePackageName, Path classFile) {
@@ -174,34 +495,49 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	/**
+	 * Determine the name of the class stored in the supplied JAR file entry
+	 * relative to the root denoted by the supplied entry prefix.
+	 */
+	private static String determineFullyQualifiedClassName(String basePackageName, String entryPrefix,
+			String entryName) {
+
+		String relativeClassName = entryName.substring(entryPrefix.length(),
+			entryName.length() - CLASS_FILE_SUFFIX.length()).replace(CLASSPATH_RESOURCE_PATH_SEPARATOR,
+				PACKAGE_SEPARATOR_CHAR);
+		// Handle default package appropriately.
+		return basePackageName.isEmpty() ? relativeClassName
+				: basePackageName + PACKAGE_SEPARATOR_CHAR + relativeClassName;
+	}
+
+	private void handleInternalError(Supplier<String> location, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(location, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(Supplier<String> location, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(location, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(Supplier<String> location, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				location.get(), fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(location, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(Supplier<String> location, Throwable throwable) {
 		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			location.get()));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -212,9 +548,9 @@ class ClasspathScanner {
 		return packageName.replace(PACKAGE_SEPARATOR_CHAR, CLASSPATH_RESOURCE_PATH_SEPARATOR);
 	}
 
-	private List<URI> getRootUrisForPackage(String basePackageName) {
+	private List<URI> getRootUrisForPackage(String basePackageName, ClassLoader classLoader) {
 		try {
-			Enumeration<URL> resources = getClassLoader().getResources(packagePath(basePackageName));
+			Enumeration<URL> resources = classLoader.getResources(packagePath(basePackageName));
 			List<URI> uris = new ArrayList<>();
 			while (resources.hasMoreElements()) {
 				URL resource = resources.nextElement();
@@ -228,4 +564,71 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * A JAR file in the default file system and the prefix of the names of
+	 * the entries located within a root URI.
+	 */
+	private static class JarRoot {
+
+		private static final String JAR_URI_SCHEME = "jar";
+		private static final String FILE_URI_SCHEME = "file";
+		private static final String JAR_FILE_EXTENSION = ".jar";
+
+		/**
+		 * Create a {@code JarRoot} for a {@code jar:} URI denoting a directory
+		 * within a JAR file or for a {@code file:} URI denoting a JAR file.
+		 *
+		 * @return an empty {@code Optional} if the supplied URI denotes neither
+		 * or if the JAR file does not exist in the default file system
+		 */
+		static Optional<JarRoot> from(URI uri) {
+			try {
+				if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+					String[] parts = uri.toString().substring(JAR_URI_SCHEME.length() + 1).split(JAR_URI_SEPARATOR);
+					// Nested JAR files are left to the JAR file system provider
+					if (parts.length != 2) {
+						return Optional.empty();
+					}
+					String entryPrefix = parts[1].startsWith("/") ? parts[1].substring(1) : parts[1];
+					if (!entryPrefix.isEmpty() && !entryPrefix.endsWith("/")) {
+						entryPrefix += CLASSPATH_RESOURCE_PATH_SEPARATOR;
+					}
+					return from(new URI(parts[0]), entryPrefix);
+				}
+				if (uri.getPath() != null && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+					return from(uri, "");
+				}
+			}
+			catch (URISyntaxException | IllegalArgumentException ex) {
+				logger.debug(ex, () -> "Failed to resolve JAR file for URI " + uri);
+			}
+			return Optional.empty();
+		}
+
+		private static Optional<JarRoot> from(URI fileUri, String entryPrefix) {
+			if (!FILE_URI_SCHEME.equals(fileUri.getScheme())) {
+				return Optional.empty();
+			}
+			Path file = Paths.get(fileUri);
+			return Files.isRegularFile(file) ? Optional.of(new JarRoot(file, entryPrefix)) : Optional.empty();
+		}
+
+		private final Path file;
+		private final String entryPrefix;
+
+		private JarRoot(Path file, String entryPrefix) {
+			this.file = file;
+			this.entryPrefix = entryPrefix;
+		}
+
+		Path getFile() {
+			return this.file;
+		}
+
+		String getEntryPrefix() {
+			return this.entryPrefix;
+		}
+
+	}
+
 }
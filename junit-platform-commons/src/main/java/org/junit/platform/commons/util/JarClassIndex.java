@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Collections.unmodifiableList;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Persistent index of the class files contained in a JAR file.
+ *
+ * <p>For each class file, the index stores the name of its entry and the
+ * information exposed by {@link ClassFile}, so that classpath scanning
+ * neither has to iterate the entries of an unchanged JAR file nor read its
+ * class files again.
+ *
+ * <p>An index is stored in a file within an index directory. The name of the
+ * file is derived from a hash of the absolute path of the JAR file. Since the
+ * size and the last modified time of the JAR file are stored as well, an
+ * index is rebuilt as soon as the JAR file changes.
+ *
+ * @since 1.1
+ */
+final class JarClassIndex {
+
+	private static final Logger logger = LoggerFactory.getLogger(JarClassIndex.class);
+
+	private static final int MAGIC = 0x4A434958; // "JCIX"
+	private static final int VERSION = 1;
+	private static final String INDEX_FILE_EXTENSION = ".idx";
+
+	/**
+	 * Get the index of the supplied JAR file from the supplied index directory
+	 * or, if it does not exist or is outdated, create it by reading the JAR
+	 * file and try to store it in the index directory.
+	 *
+	 * @throws IOException if the JAR file cannot be read
+	 */
+	static JarClassIndex getOrCreate(Path indexDirectory, Path jarFile) throws IOException {
+		Path absoluteJarFile = jarFile.toAbsolutePath();
+		BasicFileAttributes attributes = Files.readAttributes(absoluteJarFile, BasicFileAttributes.class);
+		String jarFilePath = absoluteJarFile.toString();
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+
+		Path indexFile = indexDirectory.resolve(getIndexFileName(absoluteJarFile));
+		Optional<JarClassIndex> storedIndex = read(indexFile, jarFilePath, size, lastModified);
+		if (storedIndex.isPresent()) {
+			return storedIndex.get();
+		}
+		JarClassIndex index = create(absoluteJarFile);
+		write(index, indexFile, jarFilePath, size, lastModified);
+		return index;
+	}
+
+	private static String getIndexFileName(Path jarFile) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(jarFile.toString().getBytes(UTF_8));
+			StringBuilder fileName = new StringBuilder(jarFile.getFileName().toString()).append('-');
+			for (int i = 0; i < 16; i++) {
+				fileName.append(String.format("%02x", hash[i]));
+			}
+			return fileName.append(INDEX_FILE_EXTENSION).toString();
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new JUnitException("SHA-256 is not supported", ex);
+		}
+	}
+
+	private static Optional<JarClassIndex> read(Path indexFile, String jarFilePath, long size, long lastModified) {
+		if (!Files.isRegularFile(indexFile)) {
+			return Optional.empty();
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION || !jarFilePath.equals(in.readUTF())
+					|| in.readLong() != size || in.readLong() != lastModified) {
+				logger.debug(() -> "Outdated class index " + indexFile + " for " + jarFilePath);
+				return Optional.empty();
+			}
+			int entriesCount = in.readInt();
+			if (entriesCount < 0) {
+				throw new IOException("Invalid number of entries: " + entriesCount);
+			}
+			List<Entry> entries = new ArrayList<>(entriesCount);
+			for (int i = 0; i < entriesCount; i++) {
+				String name = in.readUTF();
+				ClassFile classFile = in.readBoolean() ? ClassFile.readSummary(in) : null;
+				entries.add(new Entry(name, classFile));
+			}
+			return Optional.of(new JarClassIndex(entries));
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class index " + indexFile + " for " + jarFilePath);
+			return Optional.empty();
+		}
+	}
+
+	private static JarClassIndex create(Path jarFile) throws IOException {
+		List<Entry> entries = new ArrayList<>();
+		try (ZipFile zipFile = new ZipFile(jarFile.toFile())) {
+			Enumeration<? extends ZipEntry> zipEntries = zipFile.entries();
+			while (zipEntries.hasMoreElements()) {
+				ZipEntry zipEntry = zipEntries.nextElement();
+				if (ClassFileVisitor.isClassFileEntry(zipEntry)) {
+					entries.add(new Entry(zipEntry.getName(), readClassFile(zipFile, zipEntry)));
+				}
+			}
+		}
+		return new JarClassIndex(entries);
+	}
+
+	private static ClassFile readClassFile(ZipFile zipFile, ZipEntry zipEntry) {
+		try (InputStream inputStream = new BufferedInputStream(zipFile.getInputStream(zipEntry))) {
+			return ClassFile.read(inputStream);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file " + zipEntry.getName() + " in " + zipFile.getName());
+			return null;
+		}
+	}
+
+	private static void write(JarClassIndex index, Path indexFile, String jarFilePath, long size, long lastModified) {
+		Path temporaryFile = null;
+		try {
+			Files.createDirectories(indexFile.getParent());
+			temporaryFile = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+			try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeUTF(jarFilePath);
+				out.writeLong(size);
+				out.writeLong(lastModified);
+				out.writeInt(index.entries.size());
+				for (Entry entry : index.entries) {
+					out.writeUTF(entry.name);
+					out.writeBoolean(entry.classFile != null);
+					if (entry.classFile != null) {
+						entry.classFile.writeSummary(out);
+					}
+				}
+			}
+			// Concurrent readers either see the previous or the complete new index
+			try {
+				Files.move(temporaryFile, indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+			}
+			catch (AtomicMoveNotSupportedException ex) {
+				Files.move(temporaryFile, indexFile, REPLACE_EXISTING);
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write class index " + indexFile + " for " + jarFilePath);
+			deleteQuietly(temporaryFile);
+		}
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (file != null) {
+			try {
+				Files.deleteIfExists(file);
+			}
+			catch (IOException ex) {
+				logger.debug(ex, () -> "Failed to delete " + file);
+			}
+		}
+	}
+
+	private final List<Entry> entries;
+
+	private JarClassIndex(List<Entry> entries) {
+		this.entries = unmodifiableList(entries);
+	}
+
+	/**
+	 * Get the entries for all class files in the JAR file in the order of the
+	 * JAR file's central directory.
+	 */
+	List<Entry> getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Entry of a {@link JarClassIndex} for a single class file.
+	 */
+	static final class Entry {
+
+		private final String name;
+		private final ClassFile classFile;
+
+		Entry(String name, ClassFile classFile) {
+			this.name = name;
+			this.classFile = classFile;
+		}
+
+		/**
+		 * Get the name of the class file's entry in the JAR file.
+		 */
+		String getName() {
+			return this.name;
+		}
+
+		/**
+		 * Get the information read from the class file; empty if the class
+		 * file could not be read.
+		 */
+		Optional<ClassFile> getClassFile() {
+			return Optional.ofNullable(this.classFile);
+		}
+
+	}
+
+}
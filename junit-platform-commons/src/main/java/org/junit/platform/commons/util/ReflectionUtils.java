@@ -37,6 +37,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -127,6 +128,21 @@ public final class ReflectionUtils {
 	 */
 	private static final Map<Class<?>, Class<?>> primitiveToWrapperMap;
 
+	/**
+	 * Internal cache of all methods in the hierarchy of a class per traversal
+	 * mode.
+	 *
+	 * <p>{@link ClassValue} is used instead of a map with weak keys, since the
+	 * cached methods strongly reference their declaring classes, which would
+	 * prevent such keys from ever being cleared.
+	 *
+	 * <p>The cached {@link Method} instances must never be handed out, since
+	 * callers may change their {@linkplain Method#setAccessible accessibility}.
+	 *
+	 * @see #findAllMethodsInHierarchy(Class, HierarchyTraversalMode)
+	 */
+	private static final Map<HierarchyTraversalMode, ClassValue<List<Method>>> methodsInHierarchyCache;
+
 	static {
 		// @formatter:off
 		List<Class<?>> commonTypes = Arrays.asList(
@@ -210,6 +226,21 @@ public final class ReflectionUtils {
 		primitivesToWrappers.put(double.class, Double.class);
 
 		primitiveToWrapperMap = Collections.unmodifiableMap(primitivesToWrappers);
+
+		Map<HierarchyTraversalMode, ClassValue<List<Method>>> methodsInHierarchy = new EnumMap<>(
+			HierarchyTraversalMode.class);
+
+		for (HierarchyTraversalMode traversalMode : HierarchyTraversalMode.values()) {
+			methodsInHierarchy.put(traversalMode, new ClassValue<List<Method>>() {
+
+				@Override
+				protected List<Method> computeValue(Class<?> type) {
+					return Collections.unmodifiableList(computeAllMethodsInHierarchy(type, traversalMode));
+				}
+			});
+		}
+
+		methodsInHierarchyCache = Collections.unmodifiableMap(methodsInHierarchy);
 	}
 
 	public static boolean isPublic(Class<?> clazz) {
@@ -845,6 +876,7 @@ public final class ReflectionUtils {
 
 		// @formatter:off
 		return findAllMethodsInHierarchy(clazz, traversalMode).stream()
+				.map(ReflectionUtils::copyMethod)
 				.filter(predicate)
 				// unmodifiable since returned by public, non-internal method(s)
 				.collect(toUnmodifiableList());
@@ -854,11 +886,20 @@ public final class ReflectionUtils {
 	/**
 	 * Find all non-synthetic methods in the superclass and interface hierarchy,
 	 * excluding Object.
+	 *
+	 * <p>The methods are computed once per class and traversal mode; the
+	 * returned list is therefore unmodifiable, and its methods must be
+	 * {@linkplain #copyMethod copied} before they are returned to callers.
 	 */
 	private static List<Method> findAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return methodsInHierarchyCache.get(traversalMode).get(clazz);
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
@@ -884,6 +925,31 @@ public final class ReflectionUtils {
 		return methods;
 	}
 
+	/**
+	 * Create a new {@link Method} object for the same method as the supplied
+	 * one, so that changes to its accessibility do not affect other callers.
+	 */
+	private static Method copyMethod(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		try {
+			Method copy = declaringClass.getDeclaredMethod(method.getName(), method.getParameterTypes());
+			if (copy.equals(method)) {
+				return copy;
+			}
+		}
+		catch (NoSuchMethodException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		// getDeclaredMethod() returns the method with the most specific return
+		// type, which differs from the supplied one for bridge methods
+		// @formatter:off
+		return Arrays.stream(declaringClass.getDeclaredMethods())
+				.filter(method::equals)
+				.findFirst()
+				.orElseThrow(() -> new JUnitException("Could not find method " + method));
+		// @formatter:on
+	}
+
 	/**
 	 * Custom alternative to {@link Class#getMethods()} that sorts the methods
 	 * and converts them to a mutable list.
@@ -995,6 +1061,7 @@ public final class ReflectionUtils {
 	}
 
 	private static List<Method> getSuperclassMethods(Class<?> clazz, HierarchyTraversalMode traversalMode) {
+
 		Class<?> superclass = clazz.getSuperclass();
 		if (superclass == null || superclass == Object.class) {
 			return Collections.emptyList();
@@ -14,6 +14,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.PrintWriter;
@@ -65,12 +66,30 @@ public class ConsoleLauncher {
 	}
 
 	ConsoleLauncherExecutionResult execute(String... args) {
+		return execute(args, false);
+	}
+
+	/**
+	 * Execute the supplied arguments on behalf of a {@link LauncherDaemonClient},
+	 * ignoring all daemon-related options.
+	 */
+	ConsoleLauncherExecutionResult executeInDaemon(String... args) {
+		return execute(args, true);
+	}
+
+	private ConsoleLauncherExecutionResult execute(String[] args, boolean inDaemon) {
 		CommandLineOptions options = commandLineOptionsParser.parse(args);
 		try (PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(outStream, charset)))) {
 			if (options.isDisplayHelp()) {
 				commandLineOptionsParser.printHelp(out);
 				return ConsoleLauncherExecutionResult.success();
 			}
+			if (!inDaemon && options.getStartDaemonPort().isPresent()) {
+				return startDaemon(options.getStartDaemonPort().get(), out);
+			}
+			if (!inDaemon && options.getDaemonPort().isPresent()) {
+				return executeInDaemon(options.getDaemonPort().get(), args);
+			}
 			return executeTests(options, out);
 		}
 		finally {
@@ -79,6 +98,30 @@ public class ConsoleLauncher {
 		}
 	}
 
+	private ConsoleLauncherExecutionResult startDaemon(int port, PrintWriter out) {
+		try (LauncherDaemon daemon = LauncherDaemon.bind(port, commandLineOptionsParser)) {
+			out.printf("Launcher daemon listening on port %d%n", daemon.getPort());
+			out.flush();
+			daemon.serve(errStream);
+			return ConsoleLauncherExecutionResult.success();
+		}
+		catch (IOException exception) {
+			exception.printStackTrace(errStream);
+		}
+		return ConsoleLauncherExecutionResult.failed();
+	}
+
+	private ConsoleLauncherExecutionResult executeInDaemon(int port, String[] args) {
+		try {
+			int exitCode = new LauncherDaemonClient(port).execute(args, outStream, errStream, charset);
+			return ConsoleLauncherExecutionResult.forExitCode(exitCode);
+		}
+		catch (IOException exception) {
+			exception.printStackTrace(errStream);
+		}
+		return ConsoleLauncherExecutionResult.failed();
+	}
+
 	private ConsoleLauncherExecutionResult executeTests(CommandLineOptions options, PrintWriter out) {
 		try {
 			TestExecutionSummary testExecutionSummary = new ConsoleTestExecutor(options).execute(out);
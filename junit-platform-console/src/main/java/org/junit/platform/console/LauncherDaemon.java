@@ -0,0 +1,397 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.Charset;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.platform.console.options.CommandLineOptionsParser;
+
+/**
+ * Long-lived daemon that executes the requests of {@link ConsoleLauncher}
+ * invocations sent by a {@link LauncherDaemonClient}.
+ *
+ * <p>Since the daemon keeps running between requests, the JUnit Platform
+ * infrastructure and all engines on the daemon's class path stay loaded and
+ * warmed up. Test classes and engines supplied via {@code --class-path} are
+ * loaded by a new class loader for each request so that changes to them are
+ * picked up.
+ *
+ * <p>The daemon only accepts connections from the local host and executes
+ * one request at a time. Since any local process may connect to the port,
+ * the daemon generates a random token when it is started and writes it to a
+ * {@linkplain #tokenFile(int) file} that only the current user may read.
+ * Requests that do not present the token are rejected.
+ *
+ * <p>While a request is being executed, {@link System#out} and
+ * {@link System#err} are redirected to the client so that the output of the
+ * tests themselves is forwarded as well.
+ *
+ * <p>Classes on the daemon's own class path cannot be reloaded. If any entry
+ * of its class path has changed since the daemon was started, it rejects the
+ * request and shuts down so that it can be started again.
+ *
+ * <h3>Protocol</h3>
+ *
+ * <p>A request consists of the protocol version, the token, the working
+ * directory and the name of the output charset of the client, followed by
+ * the number of command-line arguments and the arguments themselves. While
+ * the request is being executed, the daemon streams the bytes written to
+ * standard output and standard error back to the client in frames
+ * consisting of the stream type ({@link #OUT} or {@link #ERR}), the number of
+ * bytes, and the bytes. The response is terminated by an {@link #EXIT} frame
+ * holding the exit code.
+ *
+ * @since 1.1
+ */
+class LauncherDaemon implements AutoCloseable {
+
+	static final int PROTOCOL_VERSION = 2;
+
+	static final byte OUT = 1;
+	static final byte ERR = 2;
+	static final byte EXIT = 3;
+
+	private static final int REQUEST_TIMEOUT_MILLIS = 10_000;
+
+	static LauncherDaemon bind(int port, CommandLineOptionsParser commandLineOptionsParser) throws IOException {
+		ServerSocket serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+		try {
+			Path tokenFile = tokenFile(serverSocket.getLocalPort());
+			String token = generateToken();
+			writeTokenFile(tokenFile, token);
+			return new LauncherDaemon(serverSocket, commandLineOptionsParser, tokenFile, token);
+		}
+		catch (IOException | RuntimeException ex) {
+			serverSocket.close();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Get the file holding the token of the daemon listening on the supplied
+	 * port.
+	 */
+	static Path tokenFile(int port) {
+		return Paths.get(System.getProperty("user.home"), ".junit", "daemon", port + ".token");
+	}
+
+	private final ServerSocket serverSocket;
+	private final CommandLineOptionsParser commandLineOptionsParser;
+	private final Path tokenFile;
+	private final byte[] token;
+	private final String workingDirectory = System.getProperty("user.dir");
+	private final List<Path> classpathEntries = determineClasspathEntries();
+	private final String classpathFingerprint = fingerprint(this.classpathEntries);
+
+	private LauncherDaemon(ServerSocket serverSocket, CommandLineOptionsParser commandLineOptionsParser,
+			Path tokenFile, String token) {
+		this.serverSocket = serverSocket;
+		this.commandLineOptionsParser = commandLineOptionsParser;
+		this.tokenFile = tokenFile;
+		this.token = token.getBytes(UTF_8);
+	}
+
+	int getPort() {
+		return this.serverSocket.getLocalPort();
+	}
+
+	/**
+	 * Accept and execute requests until this daemon is {@linkplain #close()
+	 * closed}.
+	 *
+	 * @param errStream the stream to report problems with individual
+	 * connections to
+	 */
+	void serve(PrintStream errStream) {
+		while (!this.serverSocket.isClosed()) {
+			try (Socket socket = this.serverSocket.accept()) {
+				handle(socket);
+			}
+			catch (SocketException ex) {
+				if (!this.serverSocket.isClosed()) {
+					ex.printStackTrace(errStream);
+				}
+			}
+			catch (IOException ex) {
+				ex.printStackTrace(errStream);
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.serverSocket.close();
+		}
+		finally {
+			Files.deleteIfExists(this.tokenFile);
+		}
+	}
+
+	private void handle(Socket socket) throws IOException {
+		// Clients that do not send a complete request must not block the daemon
+		socket.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+		DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+		DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+		int version = in.readInt();
+		if (version != PROTOCOL_VERSION) {
+			respondWithError(out, String.format("Unsupported protocol version %d; expected %d.", version,
+				PROTOCOL_VERSION));
+			return;
+		}
+		if (!MessageDigest.isEqual(this.token, in.readUTF().getBytes(UTF_8))) {
+			respondWithError(out, String.format("Invalid token; the token of this daemon is stored in '%s'.",
+				this.tokenFile));
+			return;
+		}
+		String clientWorkingDirectory = in.readUTF();
+		Charset charset = Charset.forName(in.readUTF());
+		String[] args = new String[in.readInt()];
+		for (int i = 0; i < args.length; i++) {
+			args[i] = in.readUTF();
+		}
+
+		// Relative paths in the arguments are resolved against the working directory of this JVM
+		if (!this.workingDirectory.equals(clientWorkingDirectory)) {
+			respondWithError(out,
+				String.format("The daemon was started in '%s' and cannot execute requests from '%s'.",
+					this.workingDirectory, clientWorkingDirectory));
+			return;
+		}
+
+		// Stale classes of the daemon's class path would be used otherwise
+		if (!this.classpathFingerprint.equals(fingerprint(this.classpathEntries))) {
+			respondWithError(out, "The class path of the daemon has changed since it was started. "
+					+ "The daemon is shutting down; please start it again.");
+			close();
+			return;
+		}
+
+		int exitCode;
+		socket.setSoTimeout(0);
+		PrintStream originalOut = System.out;
+		PrintStream originalErr = System.err;
+		try (PrintStream outStream = new PrintStream(new FrameOutputStream(out, OUT), true, charset.name());
+				PrintStream errStream = new PrintStream(new FrameOutputStream(out, ERR), true, charset.name())) {
+			// Forward the output of the tests themselves as well
+			System.setOut(outStream);
+			System.setErr(errStream);
+			try {
+				exitCode = new ConsoleLauncher(this.commandLineOptionsParser, outStream, errStream,
+					charset).executeInDaemon(args).getExitCode();
+			}
+			catch (Exception ex) {
+				ex.printStackTrace(errStream);
+				exitCode = ConsoleLauncherExecutionResult.failed().getExitCode();
+			}
+			finally {
+				System.setOut(originalOut);
+				System.setErr(originalErr);
+			}
+		}
+		writeExitCode(out, exitCode);
+	}
+
+	private void respondWithError(DataOutputStream out, String message) throws IOException {
+		byte[] bytes = (message + System.lineSeparator()).getBytes(Charset.defaultCharset());
+		synchronized (out) {
+			out.writeByte(ERR);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+		writeExitCode(out, ConsoleLauncherExecutionResult.failed().getExitCode());
+	}
+
+	private void writeExitCode(DataOutputStream out, int exitCode) throws IOException {
+		synchronized (out) {
+			out.writeByte(EXIT);
+			out.writeInt(exitCode);
+			out.flush();
+		}
+	}
+
+	private static String generateToken() {
+		byte[] bytes = new byte[32];
+		new SecureRandom().nextBytes(bytes);
+		StringBuilder builder = new StringBuilder();
+		for (byte b : bytes) {
+			builder.append(String.format("%02x", b));
+		}
+		return builder.toString();
+	}
+
+	private static void writeTokenFile(Path tokenFile, String token) throws IOException {
+		Path directory = Files.createDirectories(tokenFile.getParent());
+		restrictToOwner(directory, "rwx------");
+		Path tempFile = Files.createTempFile(directory, "daemon-", ".tmp");
+		try {
+			restrictToOwner(tempFile, "rw-------");
+			Files.write(tempFile, token.getBytes(UTF_8));
+			Files.move(tempFile, tokenFile, REPLACE_EXISTING, ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private static void restrictToOwner(Path path, String posixPermissions) throws IOException {
+		PosixFileAttributeView posixView = Files.getFileAttributeView(path, PosixFileAttributeView.class);
+		if (posixView != null) {
+			posixView.setPermissions(PosixFilePermissions.fromString(posixPermissions));
+			return;
+		}
+		AclFileAttributeView aclView = Files.getFileAttributeView(path, AclFileAttributeView.class);
+		if (aclView != null) {
+			// @formatter:off
+			AclEntry ownerOnly = AclEntry.newBuilder()
+					.setType(AclEntryType.ALLOW)
+					.setPrincipal(aclView.getOwner())
+					.setPermissions(AclEntryPermission.values())
+					.build();
+			// @formatter:on
+			aclView.setAcl(Collections.singletonList(ownerOnly));
+			return;
+		}
+		throw new IOException(String.format("Cannot restrict access to '%s' to its owner.", path));
+	}
+
+	private static List<Path> determineClasspathEntries() {
+		List<Path> entries = new ArrayList<>();
+		for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			if (!entry.isEmpty()) {
+				entries.add(Paths.get(entry).toAbsolutePath());
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Compute a fingerprint of the supplied class path entries that changes
+	 * whenever a file is added, removed, or modified.
+	 */
+	private static String fingerprint(List<Path> classpathEntries) {
+		StringBuilder fingerprint = new StringBuilder();
+		for (Path entry : classpathEntries) {
+			long[] countSizeAndLastModified = new long[3];
+			try {
+				Files.walkFileTree(entry, new SimpleFileVisitor<Path>() {
+
+					@Override
+					public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+						record(attrs);
+						return FileVisitResult.CONTINUE;
+					}
+
+					@Override
+					public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+						record(attrs);
+						return FileVisitResult.CONTINUE;
+					}
+
+					private void record(BasicFileAttributes attrs) {
+						countSizeAndLastModified[0]++;
+						countSizeAndLastModified[1] += attrs.isDirectory() ? 0 : attrs.size();
+						countSizeAndLastModified[2] = Math.max(countSizeAndLastModified[2],
+							attrs.lastModifiedTime().toMillis());
+					}
+				});
+			}
+			catch (IOException ex) {
+				// Missing entries are fingerprinted as empty
+			}
+			fingerprint.append(entry).append('=').append(countSizeAndLastModified[0]).append(':').append(
+				countSizeAndLastModified[1]).append(':').append(countSizeAndLastModified[2]).append('\n');
+		}
+		return fingerprint.toString();
+	}
+
+	/**
+	 * {@link OutputStream} that sends everything written to it to the client
+	 * as frames of the given type.
+	 */
+	private static class FrameOutputStream extends OutputStream {
+
+		private final DataOutputStream out;
+		private final byte type;
+
+		FrameOutputStream(DataOutputStream out, byte type) {
+			this.out = out;
+			this.type = type;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			if (length == 0) {
+				return;
+			}
+			// Frames of standard output and standard error must not be interleaved
+			synchronized (this.out) {
+				this.out.writeByte(this.type);
+				this.out.writeInt(length);
+				this.out.write(bytes, offset, length);
+			}
+		}
+
+		@Override
+		public void flush() throws IOException {
+			synchronized (this.out) {
+				this.out.flush();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			// The connection is closed once the exit code has been sent
+			flush();
+		}
+
+	}
+
+}
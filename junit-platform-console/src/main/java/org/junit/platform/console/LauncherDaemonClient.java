@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Thin client that sends the command-line arguments of a
+ * {@link ConsoleLauncher} invocation to a {@link LauncherDaemon} and copies
+ * the output streamed back by the daemon to the local output streams.
+ *
+ * <p>The client authenticates itself with the token that the daemon stored
+ * in its {@linkplain LauncherDaemon#tokenFile(int) token file}.
+ *
+ * @since 1.1
+ * @see LauncherDaemon
+ */
+class LauncherDaemonClient {
+
+	private final int port;
+
+	LauncherDaemonClient(int port) {
+		this.port = port;
+	}
+
+	/**
+	 * Execute the supplied arguments in the daemon.
+	 *
+	 * @return the exit code reported by the daemon
+	 */
+	int execute(String[] args, PrintStream outStream, PrintStream errStream, Charset charset) throws IOException {
+		String token = readToken();
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), this.port)) {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+			out.writeInt(LauncherDaemon.PROTOCOL_VERSION);
+			out.writeUTF(token);
+			out.writeUTF(System.getProperty("user.dir"));
+			out.writeUTF(charset.name());
+			out.writeInt(args.length);
+			for (String arg : args) {
+				out.writeUTF(arg);
+			}
+			out.flush();
+
+			DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+			while (true) {
+				byte type;
+				try {
+					type = in.readByte();
+				}
+				catch (EOFException ex) {
+					throw new IOException("Daemon closed the connection without reporting an exit code", ex);
+				}
+				if (type == LauncherDaemon.EXIT) {
+					return in.readInt();
+				}
+				byte[] bytes = new byte[in.readInt()];
+				in.readFully(bytes);
+				PrintStream target = type == LauncherDaemon.ERR ? errStream : outStream;
+				target.write(bytes);
+				target.flush();
+			}
+		}
+	}
+
+	private String readToken() throws IOException {
+		Path tokenFile = LauncherDaemon.tokenFile(this.port);
+		try {
+			return new String(Files.readAllBytes(tokenFile), UTF_8).trim();
+		}
+		catch (NoSuchFileException ex) {
+			throw new IOException(String.format("No daemon is listening on port %d: token file '%s' does not exist.",
+				this.port, tokenFile), ex);
+		}
+	}
+
+}
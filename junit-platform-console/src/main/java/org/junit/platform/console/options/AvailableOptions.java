@@ -45,6 +45,10 @@ class AvailableOptions {
 	// Reports
 	private final OptionSpec<Path> reportsDir;
 
+	// Daemon
+	private final OptionSpec<Integer> startDaemon;
+	private final OptionSpec<Integer> daemon;
+
 	// Selectors
 	private final OptionSpec<Path> selectedClasspathEntries;
 	private final OptionSpec<URI> selectedUris;
@@ -71,6 +75,15 @@ class AvailableOptions {
 
 	// Configuration Parameters
 	private final OptionSpec<KeyValuePair> configurationParameters;
+	private final OptionSpec<Integer> maxFailures;
+
+	// Sharding
+	private final OptionSpec<Integer> shardIndex;
+	private final OptionSpec<Integer> shardCount;
+	private final OptionSpec<Path> shardTimings;
+
+	// Forked Execution
+	private final OptionSpec<Integer> forkCount;
 
 	AvailableOptions() {
 
@@ -112,6 +125,23 @@ class AvailableOptions {
 				.withRequiredArg() //
 				.withValuesConvertedBy(new PathConverter());
 
+		// --- Daemon ----------------------------------------------------------
+
+		startDaemon = parser.accepts("start-daemon",
+			"EXPERIMENTAL: Start a daemon that listens on the given local port and executes the requests of "
+					+ "subsequent invocations that specify --daemon. Test classes and engines provided via "
+					+ "--class-path are loaded anew for each request. Clients authenticate with a token "
+					+ "stored in ~/.junit/daemon/<port>.token, which is only readable by the current user.") //
+				.withRequiredArg() //
+				.ofType(Integer.class) //
+				.describedAs("port");
+		daemon = parser.accepts("daemon",
+			"EXPERIMENTAL: Send this request to the daemon listening on the given local port "
+					+ "and print its output instead of executing tests in this JVM.") //
+				.withRequiredArg() //
+				.ofType(Integer.class) //
+				.describedAs("port");
+
 		// --- Java Platform Module System -------------------------------------
 
 		scanModulepath = parser.acceptsAll(asList("scan-modules"), //
@@ -205,6 +235,36 @@ class AvailableOptions {
 			"Set a configuration parameter for test discovery and execution. This option can be repeated.") //
 				.withRequiredArg() //
 				.withValuesConvertedBy(new KeyValuePairConverter());
+		maxFailures = parser.accepts("max-failures",
+			"EXPERIMENTAL: Skip the remaining tests of each engine once it has reached the given number of failures.") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
+
+		// --- Sharding --------------------------------------------------------
+
+		shardCount = parser.accepts("shard-count",
+			"EXPERIMENTAL: Partition the discovered test classes into the given number of shards and only "
+					+ "execute the shard selected via --shard-index.") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
+		shardIndex = parser.accepts("shard-index",
+			"EXPERIMENTAL: Select the shard to execute (between 0 and the shard count minus 1).") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
+		shardTimings = parser.accepts("shard-timings",
+			"EXPERIMENTAL: Balance shards using the durations of previous executions read from the given file. "
+					+ "Each line consists of a duration in milliseconds followed by the unique ID of a test class.") //
+				.withRequiredArg() //
+				.withValuesConvertedBy(new PathConverter());
+
+		// --- Forked Execution ------------------------------------------------
+
+		forkCount = parser.accepts("fork-count",
+			"EXPERIMENTAL: Distribute the discovered test classes across the given number of forked JVMs that "
+					+ "are started with the same class path, JVM arguments, and system properties, and execute them "
+					+ "in parallel.") //
+				.withRequiredArg() //
+				.ofType(Integer.class);
 	}
 
 	OptionParser getParser() {
@@ -225,6 +285,10 @@ class AvailableOptions {
 		// Reports
 		result.setReportsDir(detectedOptions.valueOf(this.reportsDir));
 
+		// Daemon
+		result.setStartDaemonPort(detectedOptions.valueOf(this.startDaemon));
+		result.setDaemonPort(detectedOptions.valueOf(this.daemon));
+
 		// Java Platform Module System
 		result.setScanModulepath(detectedOptions.has(this.scanModulepath));
 		result.setSelectedModules(detectedOptions.valuesOf(this.selectedModules));
@@ -254,6 +318,15 @@ class AvailableOptions {
 		Map<String, String> configurationParametersMap = detectedOptions.valuesOf(
 			this.configurationParameters).stream().collect(toMap(pair -> pair.key, pair -> pair.value));
 		result.setConfigurationParameters(configurationParametersMap);
+		result.setMaxFailures(detectedOptions.valueOf(this.maxFailures));
+
+		// Sharding
+		result.setShardIndex(detectedOptions.valueOf(this.shardIndex));
+		result.setShardCount(detectedOptions.valueOf(this.shardCount));
+		result.setShardTimingsFile(detectedOptions.valueOf(this.shardTimings));
+
+		// Forked Execution
+		result.setForkCount(detectedOptions.valueOf(this.forkCount));
 
 		return result;
 	}
@@ -69,7 +69,17 @@ public class CommandLineOptions {
 
 	private Path reportsDir;
 
+	private Integer startDaemonPort;
+	private Integer daemonPort;
+
 	private Map<String, String> configurationParameters = emptyMap();
+	private Integer maxFailures;
+
+	private Integer shardIndex;
+	private Integer shardCount;
+	private Path shardTimingsFile;
+
+	private Integer forkCount;
 
 	public boolean isDisplayHelp() {
 		return this.displayHelp;
@@ -270,6 +280,22 @@ public class CommandLineOptions {
 		this.reportsDir = reportsDir;
 	}
 
+	public Optional<Integer> getStartDaemonPort() {
+		return Optional.ofNullable(this.startDaemonPort);
+	}
+
+	public void setStartDaemonPort(Integer startDaemonPort) {
+		this.startDaemonPort = startDaemonPort;
+	}
+
+	public Optional<Integer> getDaemonPort() {
+		return Optional.ofNullable(this.daemonPort);
+	}
+
+	public void setDaemonPort(Integer daemonPort) {
+		this.daemonPort = daemonPort;
+	}
+
 	public List<Path> getSelectedClasspathEntries() {
 		return this.selectedClasspathEntries;
 	}
@@ -285,4 +311,44 @@ public class CommandLineOptions {
 	public void setConfigurationParameters(Map<String, String> configurationParameters) {
 		this.configurationParameters = configurationParameters;
 	}
+
+	public Optional<Integer> getMaxFailures() {
+		return Optional.ofNullable(this.maxFailures);
+	}
+
+	public void setMaxFailures(Integer maxFailures) {
+		this.maxFailures = maxFailures;
+	}
+
+	public Optional<Integer> getShardIndex() {
+		return Optional.ofNullable(this.shardIndex);
+	}
+
+	public void setShardIndex(Integer shardIndex) {
+		this.shardIndex = shardIndex;
+	}
+
+	public Optional<Integer> getShardCount() {
+		return Optional.ofNullable(this.shardCount);
+	}
+
+	public void setShardCount(Integer shardCount) {
+		this.shardCount = shardCount;
+	}
+
+	public Optional<Path> getShardTimingsFile() {
+		return Optional.ofNullable(this.shardTimingsFile);
+	}
+
+	public void setShardTimingsFile(Path shardTimingsFile) {
+		this.shardTimingsFile = shardTimingsFile;
+	}
+
+	public Optional<Integer> getForkCount() {
+		return Optional.ofNullable(this.forkCount);
+	}
+
+	public void setForkCount(Integer forkCount) {
+		this.forkCount = forkCount;
+	}
 }
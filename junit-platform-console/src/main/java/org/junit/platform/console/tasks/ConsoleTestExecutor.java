@@ -12,10 +12,12 @@ package org.junit.platform.console.tasks;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.io.Closeable;
 import java.io.PrintWriter;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +26,7 @@ import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.console.options.CommandLineOptions;
 import org.junit.platform.console.options.Details;
 import org.junit.platform.console.options.Theme;
@@ -54,15 +57,33 @@ public class ConsoleTestExecutor {
 	}
 
 	public TestExecutionSummary execute(PrintWriter out) throws Exception {
-		return new CustomContextClassLoaderExecutor(createCustomClassLoader()).invoke(() -> executeTests(out));
+		Optional<ClassLoader> customClassLoader = createCustomClassLoader();
+		try {
+			return new CustomContextClassLoaderExecutor(customClassLoader).invoke(() -> executeTests(out));
+		}
+		finally {
+			// Release the open class path entries, e.g. when executed repeatedly by a daemon
+			if (customClassLoader.isPresent() && customClassLoader.get() instanceof Closeable) {
+				((Closeable) customClassLoader.get()).close();
+			}
+		}
 	}
 
 	private TestExecutionSummary executeTests(PrintWriter out) {
 		Launcher launcher = launcherSupplier.get();
-		SummaryGeneratingListener summaryListener = registerListeners(out, launcher);
+		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
+		List<TestExecutionListener> listeners = createListeners(out, summaryListener);
 
 		LauncherDiscoveryRequest discoveryRequest = new DiscoveryRequestCreator().toDiscoveryRequest(options);
-		launcher.execute(discoveryRequest);
+		Optional<Integer> forkCount = options.getForkCount();
+		if (forkCount.isPresent()) {
+			Preconditions.condition(forkCount.get() > 0, "The fork count must be greater than zero");
+			new ForkingTestExecutor(options, forkCount.get()).execute(launcher, discoveryRequest, listeners);
+		}
+		else {
+			launcher.registerTestExecutionListeners(listeners.toArray(new TestExecutionListener[0]));
+			launcher.execute(discoveryRequest);
+		}
 
 		TestExecutionSummary summary = summaryListener.getSummary();
 		if (summary.getTotalFailureCount() > 0 || options.getDetails() != Details.NONE) {
@@ -92,15 +113,15 @@ public class ConsoleTestExecutor {
 		}
 	}
 
-	private SummaryGeneratingListener registerListeners(PrintWriter out, Launcher launcher) {
+	private List<TestExecutionListener> createListeners(PrintWriter out, SummaryGeneratingListener summaryListener) {
+		List<TestExecutionListener> listeners = new ArrayList<>();
 		// always register summary generating listener
-		SummaryGeneratingListener summaryListener = new SummaryGeneratingListener();
-		launcher.registerTestExecutionListeners(summaryListener);
+		listeners.add(summaryListener);
 		// optionally, register test plan execution details printing listener
-		createDetailsPrintingListener(out).ifPresent(launcher::registerTestExecutionListeners);
+		createDetailsPrintingListener(out).ifPresent(listeners::add);
 		// optionally, register XML reports writing listener
-		createXmlWritingListener(out).ifPresent(launcher::registerTestExecutionListeners);
-		return summaryListener;
+		createXmlWritingListener(out).ifPresent(listeners::add);
+		return listeners;
 	}
 
 	private Optional<TestExecutionListener> createDetailsPrintingListener(PrintWriter out) {
@@ -18,6 +18,9 @@ import static org.junit.platform.engine.discovery.PackageNameFilter.excludePacka
 import static org.junit.platform.engine.discovery.PackageNameFilter.includePackageNames;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TIMINGS_FILE_PROPERTY_NAME;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
 import static org.junit.platform.launcher.TagFilter.includeTags;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
@@ -48,9 +51,20 @@ class DiscoveryRequestCreator {
 		requestBuilder.selectors(createDiscoverySelectors(options));
 		addFilters(requestBuilder, options);
 		requestBuilder.configurationParameters(options.getConfigurationParameters());
+		options.getMaxFailures().ifPresent(requestBuilder::maxFailures);
+		addShardingConfiguration(requestBuilder, options);
 		return requestBuilder.build();
 	}
 
+	private void addShardingConfiguration(LauncherDiscoveryRequestBuilder requestBuilder, CommandLineOptions options) {
+		options.getShardIndex().ifPresent(
+			shardIndex -> requestBuilder.configurationParameter(SHARD_INDEX_PROPERTY_NAME, String.valueOf(shardIndex)));
+		options.getShardCount().ifPresent(
+			shardCount -> requestBuilder.configurationParameter(SHARD_COUNT_PROPERTY_NAME, String.valueOf(shardCount)));
+		options.getShardTimingsFile().ifPresent(shardTimingsFile -> requestBuilder.configurationParameter(
+			SHARD_TIMINGS_FILE_PROPERTY_NAME, shardTimingsFile.toAbsolutePath().toString()));
+	}
+
 	private List<? extends DiscoverySelector> createDiscoverySelectors(CommandLineOptions options) {
 		if (options.isScanClasspath()) {
 			Preconditions.condition(!options.hasExplicitSelectors(),
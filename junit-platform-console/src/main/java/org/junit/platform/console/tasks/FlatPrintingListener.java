@@ -42,7 +42,7 @@ class FlatPrintingListener implements TestExecutionListener {
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.out.printf("Test execution started. Number of static tests: %d%n",
-			testPlan.countTestIdentifiers(TestIdentifier::isTest));
+			testPlan.countTests());
 	}
 
 	@Override
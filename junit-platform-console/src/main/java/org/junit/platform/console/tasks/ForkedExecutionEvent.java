@@ -0,0 +1,209 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Serializable form of a {@link org.junit.platform.launcher.TestExecutionListener}
+ * event that a {@link ForkedTestExecutor} sends to the
+ * {@link ForkingTestExecutor} in the parent JVM.
+ *
+ * <p>Since {@link TestExecutionResult} and {@link ReportEntry} are not
+ * serializable, their contents are transferred instead. Throwables are
+ * serialized separately so that a throwable whose class cannot be loaded in
+ * the parent JVM does not prevent the event from being received; it is
+ * replaced by a {@link JUnitException} with the same message and stack trace.
+ *
+ * @since 1.1
+ */
+class ForkedExecutionEvent implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	enum Type {
+		DYNAMIC_TEST_REGISTERED, EXECUTION_SKIPPED, EXECUTION_STARTED, EXECUTION_FINISHED, REPORTING_ENTRY_PUBLISHED,
+
+		/**
+		 * Sent after all other events to signal that execution has completed
+		 * normally.
+		 */
+		COMPLETED
+	}
+
+	static ForkedExecutionEvent dynamicTestRegistered(TestIdentifier testIdentifier) {
+		ForkedExecutionEvent event = new ForkedExecutionEvent(Type.DYNAMIC_TEST_REGISTERED,
+			testIdentifier.getUniqueId());
+		event.testIdentifier = testIdentifier;
+		return event;
+	}
+
+	static ForkedExecutionEvent executionSkipped(TestIdentifier testIdentifier, String reason) {
+		return executionSkipped(testIdentifier.getUniqueId(), reason);
+	}
+
+	static ForkedExecutionEvent executionSkipped(String uniqueId, String reason) {
+		ForkedExecutionEvent event = new ForkedExecutionEvent(Type.EXECUTION_SKIPPED, uniqueId);
+		event.reason = reason;
+		return event;
+	}
+
+	static ForkedExecutionEvent executionStarted(TestIdentifier testIdentifier) {
+		return executionStarted(testIdentifier.getUniqueId());
+	}
+
+	static ForkedExecutionEvent executionStarted(String uniqueId) {
+		return new ForkedExecutionEvent(Type.EXECUTION_STARTED, uniqueId);
+	}
+
+	static ForkedExecutionEvent executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+		return executionFinished(testIdentifier.getUniqueId(), result);
+	}
+
+	static ForkedExecutionEvent executionFinished(String uniqueId, TestExecutionResult result) {
+		ForkedExecutionEvent event = new ForkedExecutionEvent(Type.EXECUTION_FINISHED, uniqueId);
+		event.status = result.getStatus();
+		result.getThrowable().ifPresent(throwable -> {
+			event.throwable = serialize(throwable);
+			event.throwableDescription = throwable.toString();
+			event.throwableStackTrace = throwable.getStackTrace();
+		});
+		return event;
+	}
+
+	static ForkedExecutionEvent reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		ForkedExecutionEvent event = new ForkedExecutionEvent(Type.REPORTING_ENTRY_PUBLISHED,
+			testIdentifier.getUniqueId());
+		event.keyValuePairs = new LinkedHashMap<>(entry.getKeyValuePairs());
+		return event;
+	}
+
+	static ForkedExecutionEvent completed() {
+		return new ForkedExecutionEvent(Type.COMPLETED, null);
+	}
+
+	private final Type type;
+	private final String uniqueId;
+	private TestIdentifier testIdentifier;
+	private String reason;
+	private Status status;
+	private byte[] throwable;
+	private String throwableDescription;
+	private StackTraceElement[] throwableStackTrace;
+	private LinkedHashMap<String, String> keyValuePairs;
+
+	private ForkedExecutionEvent(Type type, String uniqueId) {
+		this.type = type;
+		this.uniqueId = uniqueId;
+	}
+
+	Type getType() {
+		return this.type;
+	}
+
+	String getUniqueId() {
+		return this.uniqueId;
+	}
+
+	TestIdentifier getTestIdentifier() {
+		return this.testIdentifier;
+	}
+
+	String getReason() {
+		return this.reason;
+	}
+
+	TestExecutionResult getTestExecutionResult() {
+		Throwable throwable = deserializeThrowable().orElse(null);
+		switch (this.status) {
+			case SUCCESSFUL:
+				return TestExecutionResult.successful();
+			case ABORTED:
+				return TestExecutionResult.aborted(throwable);
+			default:
+				return TestExecutionResult.failed(throwable);
+		}
+	}
+
+	ReportEntry getReportEntry() {
+		return ReportEntry.from(this.keyValuePairs);
+	}
+
+	private Optional<Throwable> deserializeThrowable() {
+		if (this.throwableDescription == null) {
+			return Optional.empty();
+		}
+		if (this.throwable != null) {
+			try (ObjectInputStream in = new ContextClassLoaderObjectInputStream(
+				new ByteArrayInputStream(this.throwable))) {
+				return Optional.of((Throwable) in.readObject());
+			}
+			catch (Exception ex) {
+				// fall through to the replacement below
+			}
+		}
+		JUnitException replacement = new JUnitException(this.throwableDescription);
+		replacement.setStackTrace(this.throwableStackTrace);
+		return Optional.of(replacement);
+	}
+
+	private static byte[] serialize(Throwable throwable) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(throwable);
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * {@link ObjectInputStream} that resolves classes via the thread context
+	 * class loader, which includes additional class path entries.
+	 */
+	static class ContextClassLoaderObjectInputStream extends ObjectInputStream {
+
+		ContextClassLoaderObjectInputStream(InputStream in) throws IOException {
+			super(in);
+		}
+
+		@Override
+		protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+			try {
+				return Class.forName(desc.getName(), false, ClassLoaderUtils.getDefaultClassLoader());
+			}
+			catch (ClassNotFoundException ex) {
+				return super.resolveClass(desc);
+			}
+		}
+
+	}
+
+}
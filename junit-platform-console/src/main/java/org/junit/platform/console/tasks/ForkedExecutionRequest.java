@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+
+/**
+ * Request sent by the {@link ForkingTestExecutor} to a
+ * {@link ForkedTestExecutor} that describes the tests to execute.
+ *
+ * <p>The tests have already been discovered and filtered by the parent JVM,
+ * so the request selects the leaves of the parent's test plan by unique ID
+ * instead of applying its selectors and filters again.
+ *
+ * @since 1.1
+ */
+class ForkedExecutionRequest implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final ArrayList<String> uniqueIds;
+	private final LinkedHashMap<String, String> configurationParameters;
+
+	ForkedExecutionRequest(List<String> uniqueIds, Map<String, String> configurationParameters) {
+		this.uniqueIds = new ArrayList<>(uniqueIds);
+		this.configurationParameters = new LinkedHashMap<>(configurationParameters);
+	}
+
+	LauncherDiscoveryRequest toDiscoveryRequest() {
+		LauncherDiscoveryRequestBuilder requestBuilder = request();
+		requestBuilder.selectors(this.uniqueIds.stream().map(DiscoverySelectors::selectUniqueId).collect(toList()));
+		requestBuilder.configurationParameters(this.configurationParameters);
+		return requestBuilder.build();
+	}
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Entry point of a JVM forked by the {@link ForkingTestExecutor}.
+ *
+ * <p>Reads a {@link ForkedExecutionRequest} from standard input, executes the
+ * selected tests, and writes the resulting {@link ForkedExecutionEvent events}
+ * to standard output. Since standard output is reserved for events,
+ * {@link System#out} is redirected to standard error for the duration of the
+ * execution.
+ *
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public class ForkedTestExecutor {
+
+	///CLOVER:OFF
+	private ForkedTestExecutor() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	public static void main(String... args) throws Exception {
+		ObjectOutputStream events = new ObjectOutputStream(
+			new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+		System.setOut(System.err);
+
+		ForkedExecutionRequest request;
+		try (ObjectInputStream in = new ForkedExecutionEvent.ContextClassLoaderObjectInputStream(
+			new BufferedInputStream(System.in))) {
+			request = (ForkedExecutionRequest) in.readObject();
+		}
+
+		LauncherFactory.create().execute(request.toDiscoveryRequest(), new EventWritingListener(events));
+
+		events.writeObject(ForkedExecutionEvent.completed());
+		events.close();
+		System.exit(0);
+	}
+
+	private static class EventWritingListener implements TestExecutionListener {
+
+		private final ObjectOutputStream out;
+
+		EventWritingListener(ObjectOutputStream out) {
+			this.out = out;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+			write(ForkedExecutionEvent.dynamicTestRegistered(testIdentifier));
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			write(ForkedExecutionEvent.executionSkipped(testIdentifier, reason));
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			write(ForkedExecutionEvent.executionStarted(testIdentifier));
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			write(ForkedExecutionEvent.executionFinished(testIdentifier, testExecutionResult));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			write(ForkedExecutionEvent.reportingEntryPublished(testIdentifier, entry));
+		}
+
+		private synchronized void write(ForkedExecutionEvent event) {
+			try {
+				this.out.writeObject(event);
+				this.out.flush();
+				// events are independent of each other, so there is no need to keep back references
+				this.out.reset();
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}
+
+	}
+
+}
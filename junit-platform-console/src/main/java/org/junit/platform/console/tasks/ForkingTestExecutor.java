@@ -0,0 +1,482 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console.tasks;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.console.options.CommandLineOptions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestExecutionResult.Status;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Executes the tests of a {@link TestPlan} in multiple forked JVMs.
+ *
+ * <p>The tests are discovered once in the current JVM. The direct children
+ * of all engines, e.g. test classes, are then distributed round-robin across
+ * the configured number of {@link ForkedTestExecutor forked JVMs}, which are
+ * started once per execution with the same class path, the same JVM
+ * arguments except for debugger agents, and the same system properties
+ * except for those owned by the JVM. Each forked JVM selects the leaves of
+ * its part of the test plan by unique ID so that it executes exactly the
+ * tests that were discovered and filtered in the current JVM.
+ *
+ * <p>The events reported by the forked JVMs are dispatched to the supplied
+ * listeners as if the tests were executed in the current JVM: engines are
+ * started and finished once, one after another, and the events of each child
+ * of an engine are reported without being interleaved with those of other
+ * children. If a forked JVM terminates abnormally, the children it has not
+ * finished executing are reported as failed.
+ *
+ * @since 1.1
+ */
+class ForkingTestExecutor {
+
+	private static final List<String> DEBUGGER_ARGUMENT_PREFIXES = asList("-agentlib:jdwp", "-Xrunjdwp", "-Xdebug");
+
+	private static final List<String> JVM_PROPERTY_PREFIXES = asList("awt.", "file.", "java.", "jdk.", "line.",
+		"os.", "path.", "sun.", "user.");
+
+	private final CommandLineOptions options;
+	private final int forkCount;
+
+	ForkingTestExecutor(CommandLineOptions options, int forkCount) {
+		this.options = options;
+		this.forkCount = forkCount;
+	}
+
+	void execute(Launcher launcher, LauncherDiscoveryRequest discoveryRequest, List<TestExecutionListener> listeners) {
+		TestPlan testPlan = launcher.discover(discoveryRequest);
+
+		List<List<TestIdentifier>> partitions = new ArrayList<>();
+		int unitCount = 0;
+		for (TestIdentifier root : testPlan.getRoots()) {
+			for (TestIdentifier unit : testPlan.getChildren(root)) {
+				if (unitCount < this.forkCount) {
+					partitions.add(new ArrayList<>());
+				}
+				partitions.get(unitCount++ % this.forkCount).add(unit);
+			}
+		}
+		EventDispatcher dispatcher = new EventDispatcher(testPlan, listeners, partitions);
+
+		listeners.forEach(listener -> listener.testPlanExecutionStarted(testPlan));
+		dispatcher.start();
+		executeInForkedJvms(testPlan, partitions, dispatcher);
+		listeners.forEach(listener -> listener.testPlanExecutionFinished(testPlan));
+	}
+
+	private void executeInForkedJvms(TestPlan testPlan, List<List<TestIdentifier>> partitions,
+			EventDispatcher dispatcher) {
+		List<String> jvmArguments = determineJvmArguments();
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < partitions.size(); i++) {
+			ForkedJvm forkedJvm = new ForkedJvm(testPlan, partitions.get(i), jvmArguments, dispatcher);
+			Thread thread = new Thread(forkedJvm, "junit-forked-jvm-" + (i + 1));
+			thread.setDaemon(true);
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new JUnitException("Interrupted while waiting for forked JVMs", ex);
+			}
+		}
+	}
+
+	/**
+	 * Determine the JVM arguments and system properties of the current JVM
+	 * that are passed on to the forked JVMs.
+	 *
+	 * <p>Debugger agents are omitted since they would compete for the same
+	 * port, and properties owned by the JVM, e.g. {@code java.class.path},
+	 * are omitted since the forked JVMs determine them themselves.
+	 */
+	private static List<String> determineJvmArguments() {
+		List<String> arguments = new ArrayList<>();
+		for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+			// system properties are passed below with their current values
+			if (!argument.startsWith("-D")
+					&& DEBUGGER_ARGUMENT_PREFIXES.stream().noneMatch(argument::startsWith)) {
+				arguments.add(argument);
+			}
+		}
+		Properties systemProperties = System.getProperties();
+		for (String key : new TreeSet<>(systemProperties.stringPropertyNames())) {
+			if (JVM_PROPERTY_PREFIXES.stream().noneMatch(key::startsWith)) {
+				arguments.add("-D" + key + "=" + systemProperties.getProperty(key));
+			}
+		}
+		return arguments;
+	}
+
+	private ProcessBuilder createProcessBuilder(List<String> jvmArguments) {
+		List<String> classpath = new ArrayList<>();
+		classpath.add(System.getProperty("java.class.path"));
+		this.options.getAdditionalClasspathEntries().stream().map(path -> path.toAbsolutePath().toString()).forEach(
+			classpath::add);
+
+		List<String> command = new ArrayList<>();
+		Path javaExecutable = Paths.get(System.getProperty("java.home"), "bin", "java");
+		command.add(javaExecutable.toString());
+		command.addAll(jvmArguments);
+		command.add("-cp");
+		command.add(classpath.stream().collect(joining(File.pathSeparator)));
+		command.add(ForkedTestExecutor.class.getName());
+		ProcessBuilder processBuilder = new ProcessBuilder(command);
+		processBuilder.redirectError(ProcessBuilder.Redirect.INHERIT);
+		return processBuilder;
+	}
+
+	private ForkedExecutionRequest createRequest(TestPlan testPlan, List<TestIdentifier> units) {
+		Map<String, String> configurationParameters = new LinkedHashMap<>(this.options.getConfigurationParameters());
+		this.options.getMaxFailures().ifPresent(maxFailures -> configurationParameters.put(
+			LauncherConstants.MAX_FAILURES_PROPERTY_NAME, String.valueOf(maxFailures)));
+		List<String> leafIds = new ArrayList<>();
+		units.forEach(unit -> collectLeafIds(testPlan, unit, leafIds));
+		return new ForkedExecutionRequest(leafIds, configurationParameters);
+	}
+
+	private static void collectLeafIds(TestPlan testPlan, TestIdentifier testIdentifier, List<String> leafIds) {
+		Set<TestIdentifier> children = testPlan.getChildren(testIdentifier);
+		if (children.isEmpty()) {
+			leafIds.add(testIdentifier.getUniqueId());
+		}
+		else {
+			children.forEach(child -> collectLeafIds(testPlan, child, leafIds));
+		}
+	}
+
+	/**
+	 * Get the unique ID of the direct child of an engine that the test with
+	 * the supplied unique ID belongs to, or {@code null} for engines.
+	 */
+	private static String unitIdOf(String uniqueId) {
+		List<UniqueId.Segment> segments = UniqueId.parse(uniqueId).getSegments();
+		if (segments.size() < 2) {
+			return null;
+		}
+		UniqueId.Segment root = segments.get(0);
+		UniqueId.Segment unit = segments.get(1);
+		return UniqueId.root(root.getType(), root.getValue()).append(unit.getType(), unit.getValue()).toString();
+	}
+
+	private class ForkedJvm implements Runnable {
+
+		private final TestPlan testPlan;
+		private final Map<String, TestIdentifier> units = new LinkedHashMap<>();
+		private final Set<String> rootIds = new LinkedHashSet<>();
+		private final List<String> jvmArguments;
+		private final EventDispatcher dispatcher;
+		private final Map<String, List<ForkedExecutionEvent>> pendingEvents = new HashMap<>();
+
+		ForkedJvm(TestPlan testPlan, List<TestIdentifier> units, List<String> jvmArguments,
+				EventDispatcher dispatcher) {
+			this.testPlan = testPlan;
+			units.forEach(unit -> {
+				this.units.put(unit.getUniqueId(), unit);
+				unit.getParentId().ifPresent(this.rootIds::add);
+			});
+			this.jvmArguments = jvmArguments;
+			this.dispatcher = dispatcher;
+		}
+
+		@Override
+		public void run() {
+			Process process = null;
+			Throwable failure = null;
+			try {
+				process = createProcessBuilder(this.jvmArguments).start();
+				try (ObjectOutputStream out = new ObjectOutputStream(
+					new BufferedOutputStream(process.getOutputStream()))) {
+					out.writeObject(createRequest(this.testPlan, new ArrayList<>(this.units.values())));
+				}
+				boolean completed = false;
+				try (ObjectInputStream in = new ForkedExecutionEvent.ContextClassLoaderObjectInputStream(
+					new BufferedInputStream(process.getInputStream()))) {
+					while (!completed) {
+						ForkedExecutionEvent event = (ForkedExecutionEvent) in.readObject();
+						if (event.getType() == ForkedExecutionEvent.Type.COMPLETED) {
+							completed = true;
+						}
+						else {
+							handle(event);
+						}
+					}
+				}
+				catch (EOFException ex) {
+					// reported below
+				}
+				int exitCode = process.waitFor();
+				if (!completed || exitCode != 0) {
+					failure = new JUnitException("Forked JVM terminated abnormally with exit code " + exitCode);
+				}
+			}
+			catch (Exception ex) {
+				failure = new JUnitException("Failed to execute tests in forked JVM", ex);
+				if (process != null) {
+					process.destroy();
+				}
+				if (ex instanceof InterruptedException) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			finally {
+				reportIncompleteUnits(failure);
+				for (String rootId : this.rootIds) {
+					this.dispatcher.engineCompleted(rootId,
+						failure == null ? TestExecutionResult.successful() : TestExecutionResult.failed(failure));
+				}
+			}
+		}
+
+		private void handle(ForkedExecutionEvent event) {
+			String unitId = unitIdOf(event.getUniqueId());
+			if (unitId == null) {
+				ForkedExecutionEvent.Type type = event.getType();
+				if ((type == ForkedExecutionEvent.Type.EXECUTION_FINISHED
+						|| type == ForkedExecutionEvent.Type.EXECUTION_SKIPPED)
+						&& this.rootIds.remove(event.getUniqueId())) {
+					this.dispatcher.engineCompleted(event.getUniqueId(),
+						type == ForkedExecutionEvent.Type.EXECUTION_FINISHED ? event.getTestExecutionResult()
+								: TestExecutionResult.successful());
+				}
+				return;
+			}
+			TestIdentifier unit = this.units.get(unitId);
+			if (unit == null) {
+				// not part of this fork's share of the test plan
+				return;
+			}
+			List<ForkedExecutionEvent> events = this.pendingEvents.computeIfAbsent(unitId, id -> new ArrayList<>());
+			events.add(event);
+			if (isFinished(event, unitId)) {
+				this.pendingEvents.remove(unitId);
+				this.units.remove(unitId);
+				this.dispatcher.unitCompleted(unit, events);
+			}
+		}
+
+		private boolean isFinished(ForkedExecutionEvent event, String uniqueId) {
+			ForkedExecutionEvent.Type type = event.getType();
+			return (type == ForkedExecutionEvent.Type.EXECUTION_FINISHED
+					|| type == ForkedExecutionEvent.Type.EXECUTION_SKIPPED)
+					&& uniqueId.equals(event.getUniqueId());
+		}
+
+		/**
+		 * Report the units that the forked JVM has not finished executing:
+		 * tests and containers that were started are finished with the
+		 * supplied failure; units that were never started are reported as
+		 * failed if the forked JVM terminated abnormally, and as skipped
+		 * otherwise.
+		 */
+		private void reportIncompleteUnits(Throwable failure) {
+			for (TestIdentifier unit : this.units.values()) {
+				String unitId = unit.getUniqueId();
+				List<ForkedExecutionEvent> events = this.pendingEvents.getOrDefault(unitId, new ArrayList<>());
+				Deque<String> unfinishedIds = new ArrayDeque<>();
+				for (ForkedExecutionEvent event : events) {
+					if (event.getType() == ForkedExecutionEvent.Type.EXECUTION_STARTED) {
+						unfinishedIds.push(event.getUniqueId());
+					}
+					else if (event.getType() == ForkedExecutionEvent.Type.EXECUTION_FINISHED) {
+						unfinishedIds.remove(event.getUniqueId());
+					}
+				}
+				if (unfinishedIds.isEmpty()) {
+					events.clear();
+					if (failure == null) {
+						events.add(ForkedExecutionEvent.executionSkipped(unitId, "Not executed by forked JVM"));
+					}
+					else {
+						events.add(ForkedExecutionEvent.executionStarted(unitId));
+						events.add(ForkedExecutionEvent.executionFinished(unitId, TestExecutionResult.failed(failure)));
+					}
+				}
+				else {
+					TestExecutionResult result = TestExecutionResult.failed(failure != null ? failure
+							: new JUnitException("Forked JVM did not report the end of the execution"));
+					// innermost first
+					for (String id : unfinishedIds) {
+						events.add(ForkedExecutionEvent.executionFinished(id, result));
+					}
+				}
+				this.dispatcher.unitCompleted(unit, events);
+			}
+			this.units.clear();
+			this.pendingEvents.clear();
+		}
+
+	}
+
+	/**
+	 * Dispatches events received from forked JVMs to the listeners of the
+	 * current JVM, one completed unit at a time and one engine after another.
+	 *
+	 * <p>An engine is finished once all of its units have been completed and
+	 * all forked JVMs that executed them have reported the end of the
+	 * engine's execution. Units of subsequent engines that are completed
+	 * earlier are deferred until their engine is started.
+	 */
+	private static class EventDispatcher {
+
+		private final TestPlan testPlan;
+		private final List<TestExecutionListener> listeners;
+		private final List<TestIdentifier> roots;
+		private final Map<String, Integer> remainingCompletions = new HashMap<>();
+		private final Map<String, List<List<ForkedExecutionEvent>>> deferredEvents = new HashMap<>();
+		private final Map<String, TestExecutionResult> rootFailures = new HashMap<>();
+		private int currentRootIndex = -1;
+
+		EventDispatcher(TestPlan testPlan, List<TestExecutionListener> listeners,
+				List<List<TestIdentifier>> partitions) {
+			this.testPlan = testPlan;
+			this.listeners = listeners;
+			this.roots = new ArrayList<>(testPlan.getRoots());
+			for (List<TestIdentifier> partition : partitions) {
+				// each unit and each forked JVM executing units of the engine completes once
+				Set<String> rootIds = new LinkedHashSet<>();
+				for (TestIdentifier unit : partition) {
+					String rootId = unit.getParentId().orElseThrow(IllegalStateException::new);
+					this.remainingCompletions.merge(rootId, 1, Integer::sum);
+					rootIds.add(rootId);
+				}
+				rootIds.forEach(rootId -> this.remainingCompletions.merge(rootId, 1, Integer::sum));
+			}
+		}
+
+		synchronized void start() {
+			advance();
+		}
+
+		synchronized void unitCompleted(TestIdentifier unit, List<ForkedExecutionEvent> events) {
+			String rootId = unit.getParentId().orElseThrow(IllegalStateException::new);
+			if (isCurrentRoot(rootId)) {
+				events.forEach(this::dispatch);
+			}
+			else {
+				this.deferredEvents.computeIfAbsent(rootId, id -> new ArrayList<>()).add(events);
+			}
+			complete(rootId);
+		}
+
+		synchronized void engineCompleted(String rootId, TestExecutionResult result) {
+			if (result.getStatus() != Status.SUCCESSFUL) {
+				this.rootFailures.putIfAbsent(rootId, result);
+			}
+			complete(rootId);
+		}
+
+		private boolean isCurrentRoot(String rootId) {
+			return this.currentRootIndex >= 0 && this.currentRootIndex < this.roots.size()
+					&& this.roots.get(this.currentRootIndex).getUniqueId().equals(rootId);
+		}
+
+		private void complete(String rootId) {
+			this.remainingCompletions.merge(rootId, -1, Integer::sum);
+			advance();
+		}
+
+		private void advance() {
+			while (this.currentRootIndex < this.roots.size()) {
+				if (this.currentRootIndex >= 0) {
+					TestIdentifier root = this.roots.get(this.currentRootIndex);
+					if (this.remainingCompletions.getOrDefault(root.getUniqueId(), 0) > 0) {
+						return;
+					}
+					TestExecutionResult result = this.rootFailures.getOrDefault(root.getUniqueId(),
+						TestExecutionResult.successful());
+					this.listeners.forEach(listener -> listener.executionFinished(root, result));
+				}
+				this.currentRootIndex++;
+				if (this.currentRootIndex < this.roots.size()) {
+					TestIdentifier root = this.roots.get(this.currentRootIndex);
+					this.listeners.forEach(listener -> listener.executionStarted(root));
+					this.deferredEvents.getOrDefault(root.getUniqueId(), new ArrayList<>()).forEach(
+						events -> events.forEach(this::dispatch));
+					this.deferredEvents.remove(root.getUniqueId());
+				}
+			}
+		}
+
+		private void dispatch(ForkedExecutionEvent event) {
+			if (event.getType() == ForkedExecutionEvent.Type.DYNAMIC_TEST_REGISTERED) {
+				TestIdentifier testIdentifier = event.getTestIdentifier();
+				this.testPlan.add(testIdentifier);
+				this.listeners.forEach(listener -> listener.dynamicTestRegistered(testIdentifier));
+				return;
+			}
+			TestIdentifier testIdentifier;
+			try {
+				testIdentifier = this.testPlan.getTestIdentifier(event.getUniqueId());
+			}
+			catch (PreconditionViolationException ex) {
+				// not part of the test plan of the current JVM, e.g. since a test class has changed meanwhile
+				return;
+			}
+			switch (event.getType()) {
+				case EXECUTION_SKIPPED:
+					this.listeners.forEach(listener -> listener.executionSkipped(testIdentifier, event.getReason()));
+					break;
+				case EXECUTION_STARTED:
+					this.listeners.forEach(listener -> listener.executionStarted(testIdentifier));
+					break;
+				case EXECUTION_FINISHED:
+					TestExecutionResult result = event.getTestExecutionResult();
+					this.listeners.forEach(listener -> listener.executionFinished(testIdentifier, result));
+					break;
+				case REPORTING_ENTRY_PUBLISHED:
+					this.listeners.forEach(
+						listener -> listener.reportingEntryPublished(testIdentifier, event.getReportEntry()));
+					break;
+				default:
+					throw new JUnitException("Unexpected event type: " + event.getType());
+			}
+		}
+
+	}
+
+}
@@ -60,7 +60,7 @@ class VerboseTreePrintingListener implements TestExecutionListener {
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		frames.push(System.currentTimeMillis());
 
-		long tests = testPlan.countTestIdentifiers(TestIdentifier::isTest);
+		long tests = testPlan.countTests();
 		printf(NONE, "Test plan execution started. Number of static tests: ");
 		printf(Color.TEST, "%d%n", tests);
 		printf(Color.CONTAINER, "%s%n", theme.root());
@@ -70,7 +70,7 @@ class VerboseTreePrintingListener implements TestExecutionListener {
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		frames.pop();
 
-		long tests = testPlan.countTestIdentifiers(TestIdentifier::isTest);
+		long tests = testPlan.countTests();
 		printf(NONE, "Test plan execution finished. Number of all tests: ");
 		printf(Color.TEST, "%d%n", tests);
 	}
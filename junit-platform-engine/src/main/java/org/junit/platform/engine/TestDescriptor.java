@@ -10,10 +10,13 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -115,10 +118,10 @@ public interface TestDescriptor {
 	 */
 	default Set<? extends TestDescriptor> getDescendants() {
 		Set<TestDescriptor> descendants = new LinkedHashSet<>();
-		descendants.addAll(getChildren());
-		for (TestDescriptor child : getChildren()) {
-			descendants.addAll(child.getDescendants());
-		}
+		traverse(descriptor -> {
+			descendants.addAll(descriptor.getChildren());
+			return TraversalAction.CONTINUE;
+		});
 		return Collections.unmodifiableSet(descendants);
 	}
 
@@ -199,8 +202,15 @@ public interface TestDescriptor {
 	 * any tests.
 	 */
 	static boolean containsTests(TestDescriptor testDescriptor) {
-		return testDescriptor.isTest() || testDescriptor.mayRegisterTests()
-				|| testDescriptor.getChildren().stream().anyMatch(TestDescriptor::containsTests);
+		if (testDescriptor.isTest() || testDescriptor.mayRegisterTests()) {
+			return true;
+		}
+		for (TestDescriptor child : testDescriptor.getChildren()) {
+			if (containsTests(child)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -236,9 +246,50 @@ public interface TestDescriptor {
 	 * @param visitor the {@code Visitor} to accept; never {@code null}
 	 */
 	default void accept(Visitor visitor) {
-		visitor.visit(this);
-		// Create a copy of the set in order to avoid a ConcurrentModificationException
-		new LinkedHashSet<>(this.getChildren()).forEach(child -> child.accept(visitor));
+		traverse(descriptor -> {
+			visitor.visit(descriptor);
+			return TraversalAction.CONTINUE;
+		});
+	}
+
+	/**
+	 * Traverse the subtree starting with this descriptor in depth-first
+	 * pre-order, i.e. in the same order as {@link #accept(Visitor)}.
+	 *
+	 * <p>The {@link TraversalAction} returned by the supplied visitor
+	 * determines whether the children of the visited descriptor are
+	 * traversed and whether the traversal continues at all.
+	 *
+	 * <p>The visitor may modify the hierarchy. The children of a descriptor
+	 * are determined after it has been visited; descriptors that are removed
+	 * from the hierarchy after their parent has been visited are still
+	 * visited.
+	 *
+	 * <p>In contrast to {@link #accept(Visitor)}, this method does not recurse
+	 * and does not copy the children of each descriptor into a new set.
+	 *
+	 * @param visitor the {@code TraversalVisitor} to accept; never {@code null}
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	default void traverse(TraversalVisitor visitor) {
+		List<TestDescriptor> stack = new ArrayList<>();
+		stack.add(this);
+		while (!stack.isEmpty()) {
+			TestDescriptor descriptor = stack.remove(stack.size() - 1);
+			TraversalAction action = visitor.visit(descriptor);
+			if (action == TraversalAction.TERMINATE) {
+				return;
+			}
+			if (action == TraversalAction.CONTINUE) {
+				int first = stack.size();
+				stack.addAll(descriptor.getChildren());
+				// Reverse the children so that the first child is visited next
+				for (int last = stack.size() - 1; first < last; first++, last--) {
+					stack.set(last, stack.set(first, stack.get(last)));
+				}
+			}
+		}
 	}
 
 	/**
@@ -257,6 +308,53 @@ public interface TestDescriptor {
 		void visit(TestDescriptor descriptor);
 	}
 
+	/**
+	 * Visitor for {@link TestDescriptor#traverse} that controls how the
+	 * traversal proceeds.
+	 *
+	 * @since 1.1
+	 * @see TestDescriptor#traverse
+	 */
+	@FunctionalInterface
+	@API(status = EXPERIMENTAL, since = "1.1")
+	interface TraversalVisitor {
+
+		/**
+		 * Visit a {@link TestDescriptor}.
+		 *
+		 * @param descriptor the {@code TestDescriptor} to visit; never {@code null}
+		 * @return how to proceed with the traversal; never {@code null}
+		 */
+		TraversalAction visit(TestDescriptor descriptor);
+	}
+
+	/**
+	 * Determines how {@link TestDescriptor#traverse} proceeds after a
+	 * descriptor has been visited.
+	 *
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	enum TraversalAction {
+
+		/**
+		 * Continue with the children of the visited descriptor.
+		 */
+		CONTINUE,
+
+		/**
+		 * Skip the children of the visited descriptor but continue with its
+		 * siblings.
+		 */
+		SKIP_CHILDREN,
+
+		/**
+		 * Terminate the traversal.
+		 */
+		TERMINATE
+
+	}
+
 	/**
 	 * Supported types for {@link TestDescriptor TestDescriptors}.
 	 */
@@ -10,12 +10,17 @@
 
 package org.junit.platform.engine;
 
-import static java.util.Collections.singletonList;
 import static java.util.Collections.unmodifiableList;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,6 +36,10 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * <p>Each {@code UniqueId} references the {@code UniqueId} it was
+ * {@linkplain #append appended} to, so that appending a segment neither
+ * copies the existing segments nor formats them again.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -82,28 +91,71 @@ public class UniqueId implements Cloneable, Serializable {
 		return new UniqueId(UniqueIdFormat.getDefault(), new Segment(segmentType, value));
 	}
 
-	private final UniqueIdFormat uniqueIdFormat;
-	private final List<Segment> segments;
+	/**
+	 * Hash code of an empty list of segments, see {@link List#hashCode()}.
+	 */
+	private static final int EMPTY_HASH_CODE = 1;
+
+	/**
+	 * The serialized form of a {@code UniqueId} consists of its format and the
+	 * list of its segments, regardless of its internal representation.
+	 */
+	private static final ObjectStreamField[] serialPersistentFields = {
+			new ObjectStreamField("uniqueIdFormat", UniqueIdFormat.class),
+			new ObjectStreamField("segments", List.class) };
+
+	// The following fields are effectively final; they are only assigned in
+	// the constructors and in readObject().
+	private UniqueIdFormat uniqueIdFormat;
+	private UniqueId parent;
+	private Segment segment;
+	private int size;
+	private int hashCode;
+
+	private transient volatile String toString;
 
 	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
+		this(uniqueIdFormat, null, segment);
+	}
+
+	private UniqueId(UniqueIdFormat uniqueIdFormat, UniqueId parent, Segment segment) {
 		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = singletonList(segment);
+		this.parent = parent;
+		this.segment = segment;
+		this.size = parent == null ? 1 : parent.size + 1;
+		this.hashCode = 31 * (parent == null ? EMPTY_HASH_CODE : parent.hashCode) + segment.hashCode();
 	}
 
 	/**
 	 * Initialize a {@code UniqueId} instance.
 	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
+	 * @implNote The segment list is not retained by this implementation.
 	 */
 	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		initialize(uniqueIdFormat, segments);
+	}
+
+	private void initialize(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
 		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = unmodifiableList(segments);
+		this.size = segments.size();
+		this.hashCode = EMPTY_HASH_CODE;
+		if (this.size > 0) {
+			UniqueId parent = null;
+			for (Segment segment : segments.subList(0, this.size - 1)) {
+				parent = new UniqueId(uniqueIdFormat, parent, segment);
+			}
+			this.parent = parent;
+			this.segment = segments.get(this.size - 1);
+			this.hashCode = 31 * (parent == null ? EMPTY_HASH_CODE : parent.hashCode) + this.segment.hashCode();
+		}
 	}
 
 	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+		UniqueId root = this;
+		while (root.parent != null) {
+			root = root.parent;
+		}
+		return Optional.ofNullable(root.segment);
 	}
 
 	/**
@@ -120,7 +172,13 @@ public class UniqueId implements Cloneable, Serializable {
 	 * {@code UniqueId}.
 	 */
 	public final List<Segment> getSegments() {
-		return this.segments;
+		Segment[] segments = new Segment[this.size];
+		UniqueId current = this;
+		for (int i = this.size - 1; i >= 0; i--) {
+			segments[i] = current.segment;
+			current = current.parent;
+		}
+		return unmodifiableList(Arrays.asList(segments));
 	}
 
 	/**
@@ -140,9 +198,11 @@ public class UniqueId implements Cloneable, Serializable {
 	public final UniqueId append(String segmentType, String value) {
 		Preconditions.notBlank(segmentType, "segmentType must not be null or blank");
 		Preconditions.notBlank(value, "value must not be null or blank");
-		List<Segment> baseSegments = new ArrayList<>(this.segments);
-		baseSegments.add(new Segment(segmentType, value));
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		Segment segment = new Segment(segmentType, value);
+		if (this.size == 0) {
+			return new UniqueId(this.uniqueIdFormat, segment);
+		}
+		return new UniqueId(this.uniqueIdFormat, this, segment);
 	}
 
 	@Override
@@ -160,21 +220,67 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		if (this.hashCode != that.hashCode || this.size != that.size) {
+			return false;
+		}
+		UniqueId left = this;
+		UniqueId right = that;
+		while (left != right) {
+			if (!left.segment.equals(right.segment)) {
+				return false;
+			}
+			left = left.parent;
+			right = right.parent;
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
-		return this.segments.hashCode();
+		return this.hashCode;
 	}
 
 	/**
 	 * Generate the unique, formatted string representation of this {@code UniqueId}
 	 * using the configured {@link UniqueIdFormat}.
+	 *
+	 * <p>The string representation is computed once and based on the cached
+	 * string representation of the parent of this {@code UniqueId}.
 	 */
 	@Override
 	public String toString() {
-		return this.uniqueIdFormat.format(this);
+		String value = this.toString;
+		if (value == null) {
+			if (this.segment == null) {
+				value = "";
+			}
+			else if (this.parent == null) {
+				value = this.uniqueIdFormat.format(this.segment);
+			}
+			else {
+				value = this.uniqueIdFormat.format(this.parent.toString(), this.segment);
+			}
+			this.toString = value;
+		}
+		return value;
+	}
+
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		ObjectOutputStream.PutField fields = out.putFields();
+		fields.put("uniqueIdFormat", this.uniqueIdFormat);
+		fields.put("segments", unmodifiableList(new ArrayList<>(getSegments())));
+		out.writeFields();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+		UniqueIdFormat uniqueIdFormat = (UniqueIdFormat) fields.get("uniqueIdFormat", null);
+		List<Segment> segments = (List<Segment>) fields.get("segments", null);
+		if (uniqueIdFormat == null || segments == null) {
+			throw new InvalidObjectException("UniqueId requires a format and a list of segments");
+		}
+		initialize(uniqueIdFormat, segments);
 	}
 
 	/**
@@ -217,7 +323,8 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			// same as Objects.hash(type, value) without allocating an array
+			return 31 * (31 + Objects.hashCode(this.type)) + Objects.hashCode(this.value);
 		}
 
 		@Override
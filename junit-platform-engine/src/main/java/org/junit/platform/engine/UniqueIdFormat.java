@@ -130,6 +130,23 @@ class UniqueIdFormat implements Serializable {
 		// @formatter:on
 	}
 
+	/**
+	 * Format and return the string representation of a {@code UniqueId} that
+	 * consists of the supplied {@code segment} only.
+	 */
+	String format(Segment segment) {
+		return describe(segment);
+	}
+
+	/**
+	 * Format and return the string representation of a {@code UniqueId} whose
+	 * parent has the supplied string representation and whose last segment is
+	 * the supplied {@code segment}.
+	 */
+	String format(String formattedParent, Segment segment) {
+		return formattedParent + this.segmentDelimiter + describe(segment);
+	}
+
 	private String describe(Segment segment) {
 		String body = encode(segment.getType()) + typeValueSeparator + encode(segment.getValue());
 		return openSegment + body + closeSegment;
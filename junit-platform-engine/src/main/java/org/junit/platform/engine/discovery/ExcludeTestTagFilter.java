@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.discovery;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * {@link TestTagFilter} that excludes tests and containers tagged with at
+ * least one of the tags provided to the filter.
+ *
+ * @since 1.1
+ */
+class ExcludeTestTagFilter implements TestTagFilter {
+
+	private final List<TestTag> tags;
+
+	ExcludeTestTagFilter(List<String> tags) {
+		Preconditions.notEmpty(tags, "tags list must not be null or empty");
+		this.tags = tags.stream().map(TestTag::create).collect(toList());
+	}
+
+	@Override
+	public FilterResult apply(Set<TestTag> testTags) {
+		return FilterResult.includedIf(testTags.stream().noneMatch(this.tags::contains));
+	}
+
+	@Override
+	public boolean excludesAll(Set<TestTag> commonTags, Set<TestTag> possibleTags) {
+		return commonTags.stream().anyMatch(this.tags::contains);
+	}
+
+	@Override
+	public String toString() {
+		return "Excludes tests and containers tagged with any of " + this.tags;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.discovery;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.TestTag;
+
+/**
+ * {@link DiscoveryFilter} that is applied to the {@linkplain TestTag tags} of
+ * a test or container.
+ *
+ * <p>Tag filters are typically not supplied directly but derived from the
+ * tag-based post-discovery filters of a discovery request. Since those are
+ * applied to the discovered tests anyway, engines are free to ignore tag
+ * filters; engines that know how tags are inherited by descendants may use
+ * {@link #excludesAll(Set, Set)} to skip resolving elements whose tests would
+ * all be excluded.
+ *
+ * @since 1.1
+ * @see #includeTags(List)
+ * @see #excludeTags(List)
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface TestTagFilter extends DiscoveryFilter<Set<TestTag>> {
+
+	/**
+	 * Create a new <em>include</em> {@link TestTagFilter} based on the
+	 * supplied tags.
+	 *
+	 * <p>Note: each tag will be {@linkplain String#trim() trimmed}.
+	 *
+	 * <p>The tags are combined using OR semantics, i.e. a test or container
+	 * is included if it is tagged with at least one of the supplied tags.
+	 *
+	 * @param tags the included tags; never {@code null} or empty
+	 * @throws PreconditionViolationException if the supplied tags list is
+	 * {@code null} or empty, or if any individual tag is not syntactically
+	 * valid
+	 */
+	static TestTagFilter includeTags(List<String> tags) throws PreconditionViolationException {
+		return new IncludeTestTagFilter(tags);
+	}
+
+	/**
+	 * Create a new <em>exclude</em> {@link TestTagFilter} based on the
+	 * supplied tags.
+	 *
+	 * <p>Note: each tag will be {@linkplain String#trim() trimmed}.
+	 *
+	 * <p>The tags are combined using OR semantics, i.e. a test or container
+	 * is excluded if it is tagged with at least one of the supplied tags.
+	 *
+	 * @param tags the excluded tags; never {@code null} or empty
+	 * @throws PreconditionViolationException if the supplied tags list is
+	 * {@code null} or empty, or if any individual tag is not syntactically
+	 * valid
+	 */
+	static TestTagFilter excludeTags(List<String> tags) throws PreconditionViolationException {
+		return new ExcludeTestTagFilter(tags);
+	}
+
+	/**
+	 * Determine whether this filter excludes every test or container whose
+	 * tags contain all of the supplied common tags and are contained in the
+	 * supplied possible tags.
+	 *
+	 * <p>For example, if the tags of a container are inherited by all of its
+	 * descendants, the tags of the container are common to all descendants,
+	 * whereas the union of the tags declared anywhere within the container
+	 * comprises all tags a descendant can possibly have.
+	 *
+	 * @param commonTags the tags that all tests and containers in question
+	 * have; never {@code null}
+	 * @param possibleTags all tags that any of the tests and containers in
+	 * question may have; never {@code null}
+	 * @return {@code true} if all tests and containers in question are
+	 * excluded by this filter
+	 */
+	boolean excludesAll(Set<TestTag> commonTags, Set<TestTag> possibleTags);
+
+}
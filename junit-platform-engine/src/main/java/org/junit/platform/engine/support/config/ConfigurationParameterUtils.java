@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.config;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Collection of utilities for reading numeric
+ * {@link ConfigurationParameters configuration parameters}.
+ *
+ * <p>Invalid values are logged as a warning and replaced by the supplied
+ * default value.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.1
+ */
+@API(status = INTERNAL, since = "1.1")
+public final class ConfigurationParameterUtils {
+
+	private static final Logger logger = LoggerFactory.getLogger(ConfigurationParameterUtils.class);
+
+	///CLOVER:OFF
+	private ConfigurationParameterUtils() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Get the positive integer stored under the specified {@code key}.
+	 *
+	 * @param configurationParameters the configuration parameters to read
+	 * from; never {@code null}
+	 * @param key the key to look up; never {@code null} or blank
+	 * @param defaultValue the value to return if the parameter is not set or
+	 * is not a positive integer
+	 */
+	public static int getPositiveInt(ConfigurationParameters configurationParameters, String key,
+			int defaultValue) {
+		return getPositiveInt(configurationParameters, key, defaultValue, "Falling back to " + defaultValue);
+	}
+
+	/**
+	 * Get the positive integer stored under the specified {@code key}.
+	 *
+	 * @param configurationParameters the configuration parameters to read
+	 * from; never {@code null}
+	 * @param key the key to look up; never {@code null} or blank
+	 * @param defaultValue the value to return if the parameter is not set or
+	 * is not a positive integer
+	 * @param fallbackDescription the description of the consequences of an
+	 * invalid value that is appended to the logged warning
+	 */
+	public static int getPositiveInt(ConfigurationParameters configurationParameters, String key, int defaultValue,
+			String fallbackDescription) {
+		return getPositive(configurationParameters, key, Integer::valueOf, defaultValue, "a positive integer",
+			fallbackDescription);
+	}
+
+	/**
+	 * Get the positive decimal number stored under the specified {@code key}.
+	 *
+	 * @param configurationParameters the configuration parameters to read
+	 * from; never {@code null}
+	 * @param key the key to look up; never {@code null} or blank
+	 * @param defaultValue the value to return if the parameter is not set or
+	 * is not a positive number
+	 */
+	public static double getPositiveDouble(ConfigurationParameters configurationParameters, String key,
+			double defaultValue) {
+		return getPositive(configurationParameters, key, Double::valueOf, defaultValue, "a positive number",
+			"Falling back to " + defaultValue);
+	}
+
+	private static <T extends Number> T getPositive(ConfigurationParameters configurationParameters, String key,
+			Function<String, T> parser, T defaultValue, String expectation, String fallbackDescription) {
+
+		Optional<String> value = configurationParameters.get(key);
+		if (value.isPresent()) {
+			try {
+				T number = parser.apply(value.get().trim());
+				if (number.doubleValue() > 0) {
+					return number;
+				}
+			}
+			catch (NumberFormatException ex) {
+				// fall through to the warning below
+			}
+			logger.warn(() -> String.format(
+				"Invalid value '%s' set via the '%s' configuration parameter; the value must be %s. %s.",
+				value.get(), key, expectation, fallbackDescription));
+		}
+		return defaultValue;
+	}
+
+}
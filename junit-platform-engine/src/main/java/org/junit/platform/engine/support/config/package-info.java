@@ -0,0 +1,16 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+/**
+ * Support classes for reading {@link org.junit.platform.engine.ConfigurationParameters}
+ * intended to be used within the JUnit Platform.
+ */
+
+package org.junit.platform.engine.support.config;
@@ -13,8 +13,11 @@ package org.junit.platform.engine.support.descriptor;
 import static java.util.Collections.emptySet;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -55,8 +58,11 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	 *
 	 * <p>If a subclass overrides any of the methods related to children, this
 	 * set should be used instead of a set local to the subclass.
+	 *
+	 * <p>Changes to this set are reflected in the index of unique IDs of the
+	 * enclosing {@link EngineDescriptor}, if any.
 	 */
-	protected final Set<TestDescriptor> children = Collections.synchronizedSet(new LinkedHashSet<>(16));
+	protected final Set<TestDescriptor> children = Collections.synchronizedSet(new Children(16));
 
 	/**
 	 * Create a new {@code AbstractTestDescriptor} with the supplied
@@ -147,19 +153,65 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		this.children.clear();
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>If this descriptor is part of the hierarchy of an
+	 * {@link EngineDescriptor}, the descriptor is looked up in the index of
+	 * unique IDs maintained by the engine descriptor instead of searching all
+	 * descendants.
+	 */
 	@Override
 	public Optional<? extends TestDescriptor> findByUniqueId(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, "UniqueId must not be null");
 		if (getUniqueId().equals(uniqueId)) {
 			return Optional.of(this);
 		}
-		// @formatter:off
-		return this.children.stream()
-				.map(child -> child.findByUniqueId(uniqueId))
-				.filter(Optional::isPresent)
-				.findAny()
-				.orElse(Optional.empty());
-		// @formatter:on
+		UniqueIdIndex uniqueIdIndex = findUniqueIdIndex();
+		if (uniqueIdIndex != null) {
+			return uniqueIdIndex.find(uniqueId, this);
+		}
+		return search(uniqueId);
+	}
+
+	/**
+	 * Search this descriptor and its descendants for the descriptor with the
+	 * supplied {@link UniqueId} without consulting an index.
+	 */
+	final Optional<? extends TestDescriptor> search(UniqueId uniqueId) {
+		if (getUniqueId().equals(uniqueId)) {
+			return Optional.of(this);
+		}
+		for (TestDescriptor child : copyOfChildren()) {
+			Optional<? extends TestDescriptor> result = child instanceof AbstractTestDescriptor
+					? ((AbstractTestDescriptor) child).search(uniqueId)
+					: child.findByUniqueId(uniqueId);
+			if (result.isPresent()) {
+				return result;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private List<TestDescriptor> copyOfChildren() {
+		synchronized (this.children) {
+			return new ArrayList<>(this.children);
+		}
+	}
+
+	/**
+	 * Find the index of unique IDs of the nearest {@link EngineDescriptor}
+	 * among this descriptor and its ancestors.
+	 */
+	private UniqueIdIndex findUniqueIdIndex() {
+		TestDescriptor current = this;
+		while (current != null) {
+			if (current instanceof EngineDescriptor) {
+				return ((EngineDescriptor) current).getUniqueIdIndex();
+			}
+			current = current.getParent().orElse(null);
+		}
+		return null;
 	}
 
 	@Override
@@ -184,4 +236,82 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		return getClass().getSimpleName() + ": " + getUniqueId();
 	}
 
+	/**
+	 * Set of children that keeps the index of unique IDs of the enclosing
+	 * {@link EngineDescriptor} up to date.
+	 *
+	 * <p>All modifications of a {@link LinkedHashSet} are performed via
+	 * {@link #add}, {@link #remove}, {@link #clear}, or the {@link #iterator}.
+	 */
+	private class Children extends LinkedHashSet<TestDescriptor> {
+
+		private static final long serialVersionUID = 1L;
+
+		Children(int initialCapacity) {
+			super(initialCapacity);
+		}
+
+		@Override
+		public boolean add(TestDescriptor child) {
+			boolean added = super.add(child);
+			if (added) {
+				UniqueIdIndex uniqueIdIndex = findUniqueIdIndex();
+				if (uniqueIdIndex != null) {
+					uniqueIdIndex.addAll(child);
+				}
+			}
+			return added;
+		}
+
+		@Override
+		public boolean remove(Object child) {
+			boolean removed = super.remove(child);
+			if (removed) {
+				removedFromIndex(Collections.singletonList((TestDescriptor) child));
+			}
+			return removed;
+		}
+
+		@Override
+		public void clear() {
+			List<TestDescriptor> removedChildren = new ArrayList<>(this);
+			super.clear();
+			removedFromIndex(removedChildren);
+		}
+
+		@Override
+		public Iterator<TestDescriptor> iterator() {
+			Iterator<TestDescriptor> delegate = super.iterator();
+			return new Iterator<TestDescriptor>() {
+
+				private TestDescriptor current;
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public TestDescriptor next() {
+					this.current = delegate.next();
+					return this.current;
+				}
+
+				@Override
+				public void remove() {
+					delegate.remove();
+					removedFromIndex(Collections.singletonList(this.current));
+				}
+			};
+		}
+
+		private void removedFromIndex(List<TestDescriptor> removedChildren) {
+			UniqueIdIndex uniqueIdIndex = findUniqueIdIndex();
+			if (uniqueIdIndex != null) {
+				removedChildren.forEach(uniqueIdIndex::removeAll);
+			}
+		}
+
+	}
+
 }
@@ -19,11 +19,17 @@ import org.junit.platform.engine.UniqueId;
  * An {@code EngineDescriptor} is a {@link org.junit.platform.engine.TestDescriptor
  * TestDescriptor} for a specific {@link org.junit.platform.engine.TestEngine TestEngine}.
  *
+ * <p>An {@code EngineDescriptor} maintains an index of the unique IDs of its
+ * descendants so that {@link #findByUniqueId} does not need to search the
+ * entire hierarchy.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
 public class EngineDescriptor extends AbstractTestDescriptor {
 
+	private final UniqueIdIndex uniqueIdIndex;
+
 	/**
 	 * Create a new {@code EngineDescriptor} with the supplied {@link UniqueId}
 	 * and display name.
@@ -37,6 +43,11 @@ public class EngineDescriptor extends AbstractTestDescriptor {
 	 */
 	public EngineDescriptor(UniqueId uniqueId, String displayName) {
 		super(uniqueId, displayName);
+		this.uniqueIdIndex = new UniqueIdIndex(this);
+	}
+
+	UniqueIdIndex getUniqueIdIndex() {
+		return this.uniqueIdIndex;
 	}
 
 	/**
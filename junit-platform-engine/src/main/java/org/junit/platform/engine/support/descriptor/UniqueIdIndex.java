@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.descriptor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Index of the {@link TestDescriptor TestDescriptors} in the hierarchy of an
+ * {@link EngineDescriptor} by their {@link UniqueId}.
+ *
+ * <p>The index is kept up to date by the children of all
+ * {@link AbstractTestDescriptor AbstractTestDescriptors} in the hierarchy.
+ * If the hierarchy contains descriptors whose children are not tracked, i.e.
+ * descriptors that do not extend {@code AbstractTestDescriptor} or nested
+ * engine descriptors, the index is considered incomplete; unique IDs that
+ * are not found in an incomplete index are searched for recursively.
+ *
+ * @since 1.1
+ */
+class UniqueIdIndex {
+
+	private final EngineDescriptor owner;
+	private final Map<UniqueId, TestDescriptor> descriptors = new ConcurrentHashMap<>();
+	private volatile boolean complete = true;
+
+	UniqueIdIndex(EngineDescriptor owner) {
+		this.owner = owner;
+		this.descriptors.put(owner.getUniqueId(), owner);
+	}
+
+	/**
+	 * Add the supplied descriptor and all of its descendants to this index.
+	 */
+	void addAll(TestDescriptor descriptor) {
+		if (descriptor instanceof EngineDescriptor || !(descriptor instanceof AbstractTestDescriptor)) {
+			this.complete = false;
+		}
+		TestDescriptor previous = this.descriptors.put(descriptor.getUniqueId(), descriptor);
+		if (previous != null && previous != descriptor && isDescendantOrSelf(previous, this.owner)) {
+			// Duplicate unique IDs cannot be represented by this index
+			this.complete = false;
+		}
+		descriptor.getChildren().forEach(this::addAll);
+	}
+
+	/**
+	 * Remove the supplied descriptor and all of its descendants from this index.
+	 */
+	void removeAll(TestDescriptor descriptor) {
+		this.descriptors.remove(descriptor.getUniqueId(), descriptor);
+		descriptor.getChildren().forEach(this::removeAll);
+	}
+
+	/**
+	 * Find the descriptor with the supplied {@link UniqueId} among the supplied
+	 * {@code ancestor} and its descendants.
+	 *
+	 * <p>If the supplied {@code ancestor} has not been added to this index,
+	 * it is searched recursively.
+	 */
+	Optional<? extends TestDescriptor> find(UniqueId uniqueId, AbstractTestDescriptor ancestor) {
+		if (this.descriptors.get(ancestor.getUniqueId()) != ancestor) {
+			// e.g. if the ancestor's parent was set without adding it as a child
+			return ancestor.search(uniqueId);
+		}
+		TestDescriptor descriptor = this.descriptors.get(uniqueId);
+		if (descriptor != null && isDescendantOrSelf(descriptor, ancestor)) {
+			return Optional.of(descriptor);
+		}
+		if (descriptor == null && this.complete) {
+			return Optional.empty();
+		}
+		return ancestor.search(uniqueId);
+	}
+
+	private static boolean isDescendantOrSelf(TestDescriptor descriptor, TestDescriptor ancestor) {
+		TestDescriptor current = descriptor;
+		while (current != null) {
+			if (current == ancestor) {
+				return true;
+			}
+			current = current.getParent().orElse(null);
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.Objects;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * An exclusive resource identified by a key with a lock mode that is used to
+ * synchronize access to shared resources when executing nodes in parallel.
+ *
+ * @since 1.1
+ * @see Node#getExclusiveResources()
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public class ExclusiveResource {
+
+	private final String key;
+	private final LockMode lockMode;
+
+	/**
+	 * Create a new {@code ExclusiveResource}.
+	 *
+	 * @param key the identifier of the resource; never {@code null} or blank
+	 * @param lockMode the lock mode to use to synchronize access to the
+	 * resource; never {@code null}
+	 */
+	public ExclusiveResource(String key, LockMode lockMode) {
+		this.key = Preconditions.notBlank(key, "key must not be blank");
+		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+	}
+
+	/**
+	 * Get the key of this resource.
+	 */
+	public String getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Get the lock mode of this resource.
+	 */
+	public LockMode getLockMode() {
+		return this.lockMode;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		ExclusiveResource that = (ExclusiveResource) o;
+		return this.key.equals(that.key) && this.lockMode == that.lockMode;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.key, this.lockMode);
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("key", this.key)
+				.append("lockMode", this.lockMode)
+				.toString();
+		// @formatter:on
+	}
+
+	/**
+	 * {@code LockMode} translates to the respective
+	 * {@link java.util.concurrent.locks.ReadWriteLock ReadWriteLock} locks.
+	 */
+	public enum LockMode {
+
+		/**
+		 * Require read and write access to the resource.
+		 */
+		READ_WRITE,
+
+		/**
+		 * Require only read access to the resource.
+		 */
+		READ
+
+	}
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * A {@link HierarchicalTestExecutorService} that executes
+ * {@linkplain TestTask test tasks} as fork/join tasks in a dedicated,
+ * work-stealing {@link ForkJoinPool}.
+ *
+ * <p>This is the default service used by a {@link HierarchicalTestEngine}
+ * if parallel execution is enabled.
+ *
+ * @since 1.1
+ * @see ParallelExecutionConfiguration
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private final ForkJoinPool forkJoinPool;
+
+	/**
+	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} with
+	 * the supplied parallelism.
+	 *
+	 * @param parallelism the parallelism of the underlying {@code ForkJoinPool};
+	 * must be greater than zero
+	 */
+	public ForkJoinPoolHierarchicalTestExecutorService(int parallelism) {
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than zero");
+		this.forkJoinPool = new ForkJoinPool(parallelism);
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		TestTaskAdapter adapter = new TestTaskAdapter(testTask);
+		if (isInThisPool()) {
+			return adapter.fork();
+		}
+		return this.forkJoinPool.submit(adapter);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		List<TestTaskAdapter> tasks = testTasks.stream().map(TestTaskAdapter::new).collect(toList());
+		if (isInThisPool()) {
+			ForkJoinTask.invokeAll(tasks);
+		}
+		else {
+			tasks.forEach(this.forkJoinPool::execute);
+			tasks.forEach(ForkJoinTask::join);
+		}
+	}
+
+	private boolean isInThisPool() {
+		return ForkJoinTask.getPool() == this.forkJoinPool;
+	}
+
+	@Override
+	public void close() {
+		this.forkJoinPool.shutdownNow();
+	}
+
+	@SuppressWarnings("serial")
+	private static class TestTaskAdapter extends RecursiveAction {
+
+		private final TestTask testTask;
+
+		TestTaskAdapter(TestTask testTask) {
+			this.testTask = testTask;
+		}
+
+		@Override
+		protected void compute() {
+			this.testTask.execute();
+		}
+	}
+
+}
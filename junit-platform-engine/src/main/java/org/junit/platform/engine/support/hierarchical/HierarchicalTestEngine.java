@@ -10,11 +10,13 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import org.apiguardian.api.API;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 
 /**
  * Abstract base class for all {@link TestEngine} implementations that wish
@@ -27,6 +29,54 @@ import org.junit.platform.engine.TestEngine;
 @API(status = MAINTAINED, since = "1.0")
 public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> implements TestEngine {
 
+	/**
+	 * Property name used to set the maximum number of failures after which
+	 * execution is aborted: {@value}
+	 *
+	 * <p>Once the number of {@linkplain TestExecutionResult.Status#FAILED
+	 * failed} {@linkplain org.junit.platform.engine.TestDescriptor#isTest()
+	 * tests} reaches the configured value, all nodes that have not been
+	 * started yet are reported as
+	 * {@linkplain org.junit.platform.engine.EngineExecutionListener#executionSkipped
+	 * skipped}. Nodes that are already running are allowed to finish. Failed
+	 * containers do not count toward the maximum. The failures are counted
+	 * separately for each execution of the engine, i.e. for each engine in a
+	 * launcher run and for each forked JVM.
+	 *
+	 * <p>The value must be a positive integer. If not specified, all nodes are
+	 * executed regardless of the number of failures.
+	 *
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public static final String MAX_FAILURES_PROPERTY_NAME = "junit.platform.execution.max.failures";
+
+	/**
+	 * Property name used to enable timing of the lifecycle phases of each
+	 * {@link Node}: {@value}
+	 *
+	 * <p>If set to {@code true}, the durations of {@link Node#prepare prepare},
+	 * {@link Node#shouldBeSkipped shouldBeSkipped}, {@link Node#before before},
+	 * {@link Node#execute execute}, and {@link Node#after after} are measured
+	 * via {@link System#nanoTime()} for each node and published as a
+	 * {@link org.junit.platform.engine.reporting.ReportEntry ReportEntry}
+	 * right before the node is reported as finished. The entry contains the
+	 * keys {@code timing.prepare}, {@code timing.shouldBeSkipped},
+	 * {@code timing.before}, {@code timing.execute}, and {@code timing.after};
+	 * their values are durations in nanoseconds. Phases that have not been
+	 * entered are omitted, e.g. nodes whose {@code prepare} phase failed only
+	 * report the duration of that phase. Skipped nodes are never reported as
+	 * started and therefore publish no entry. The duration of {@code execute}
+	 * includes dynamic tests registered by the node but not its static
+	 * children.
+	 *
+	 * <p>Timing is disabled by default.
+	 *
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public static final String TIMING_ENABLED_PROPERTY_NAME = "junit.platform.execution.timing.enabled";
+
 	/**
 	 * Create an initial {@linkplain #createExecutionContext execution
 	 * context}, execute the behavior of all {@linkplain Node nodes} in the
@@ -35,12 +85,59 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 	 * its {@linkplain ExecutionRequest#getEngineExecutionListener() execution
 	 * listener} of test execution events.
 	 *
+	 * <p>The nodes are scheduled by the {@linkplain #createExecutorService
+	 * executor service} created for the supplied {@code request}. Unless it is
+	 * a {@link SameThreadHierarchicalTestExecutorService}, the execution
+	 * listener is guarded so that events reported from concurrently executing
+	 * nodes &mdash; including those reported by the engine itself via the
+	 * listener in its execution context &mdash; are delivered one at a time.
+	 *
 	 * @see Node
+	 * @see #createExecutorService
 	 * @see #createExecutionContext
 	 */
 	@Override
 	public final void execute(ExecutionRequest request) {
-		new HierarchicalTestExecutor<>(request, createExecutionContext(request)).execute();
+		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
+			if (!(executorService instanceof SameThreadHierarchicalTestExecutorService)) {
+				request = new ExecutionRequest(request.getRootTestDescriptor(),
+					new SynchronizedEngineExecutionListener(request.getEngineExecutionListener()),
+					request.getConfigurationParameters());
+			}
+			new HierarchicalTestExecutor<>(request, createExecutionContext(request), executorService).execute();
+		}
+	}
+
+	/**
+	 * Create the {@linkplain HierarchicalTestExecutorService executor service}
+	 * to use for executing the supplied {@link ExecutionRequest request}.
+	 *
+	 * <p>The default implementation reads the {@link ParallelExecutionConfiguration}
+	 * from the request's configuration parameters. If parallel execution is
+	 * disabled, it returns a {@link SameThreadHierarchicalTestExecutorService};
+	 * otherwise, it returns a {@link ForkJoinPoolHierarchicalTestExecutorService}
+	 * or a {@link ThreadPerTaskHierarchicalTestExecutorService} depending on
+	 * the configured {@linkplain ParallelExecutionConfiguration.ExecutorType
+	 * executor type}.
+	 *
+	 * <p>Engines may override this method to supply a custom service.
+	 *
+	 * @param request the request about to be executed
+	 * @return the executor service to use; never {@code null}
+	 * @since 1.1
+	 * @see ParallelExecutionConfiguration
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+		ParallelExecutionConfiguration configuration = ParallelExecutionConfiguration.from(
+			request.getConfigurationParameters());
+		if (!configuration.isEnabled()) {
+			return new SameThreadHierarchicalTestExecutorService();
+		}
+		if (configuration.getExecutorType() == ParallelExecutionConfiguration.ExecutorType.THREAD_PER_TASK) {
+			return new ThreadPerTaskHierarchicalTestExecutorService();
+		}
+		return new ForkJoinPoolHierarchicalTestExecutorService(configuration.getParallelism());
 	}
 
 	/**
@@ -10,13 +10,36 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.stream.Collectors.toList;
 import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveInt;
+import static org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine.MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine.TIMING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.NodeTimer.Phase.AFTER;
+import static org.junit.platform.engine.support.hierarchical.NodeTimer.Phase.BEFORE;
+import static org.junit.platform.engine.support.hierarchical.NodeTimer.Phase.EXECUTE;
+import static org.junit.platform.engine.support.hierarchical.NodeTimer.Phase.PREPARE;
+import static org.junit.platform.engine.support.hierarchical.NodeTimer.Phase.SHOULD_BE_SKIPPED;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalAction;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
 
 /**
@@ -29,6 +52,25 @@ import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
  * executing nodes in the hierarchy in the appropriate order as well as
  * firing the necessary events in the {@link EngineExecutionListener}.
  *
+ * <p>The children of each container are passed to the engine's
+ * {@link HierarchicalTestExecutorService} which may execute them
+ * concurrently. The <em>prepare</em>, <em>before</em>, <em>execute</em>,
+ * and <em>after</em> behavior of an individual node as well as the events
+ * reported for its subtree retain their sequential ordering. Nodes that
+ * declare {@linkplain Node#getExclusiveResources() exclusive resources} are
+ * only executed while holding the corresponding locks.
+ *
+ * <p>If a {@linkplain HierarchicalTestEngine#MAX_FAILURES_PROPERTY_NAME
+ * maximum number of failures} is configured and the number of failed tests
+ * has reached it, all nodes that have not been started yet are reported as
+ * skipped.
+ *
+ * <p>If {@linkplain HierarchicalTestEngine#TIMING_ENABLED_PROPERTY_NAME
+ * timing} is enabled, the durations of the lifecycle phases that have been
+ * executed for a node are published as a
+ * {@link org.junit.platform.engine.reporting.ReportEntry ReportEntry} right
+ * before the node is reported as finished. Skipped nodes publish no entry.
+ *
  * @param <C> the type of {@code EngineExecutionContext} used by the
  * {@code HierarchicalTestEngine}
  * @since 1.0
@@ -40,26 +82,108 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final TestDescriptor rootTestDescriptor;
 	private final EngineExecutionListener listener;
 	private final C rootContext;
+	private final HierarchicalTestExecutorService executorService;
+	private final LockManager lockManager;
+	private final int maxFailures;
+	private final boolean timingEnabled;
+	private final AtomicInteger failureCount = new AtomicInteger();
 
-	HierarchicalTestExecutor(ExecutionRequest request, C rootContext) {
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext,
+			HierarchicalTestExecutorService executorService) {
 		this.rootTestDescriptor = request.getRootTestDescriptor();
 		this.listener = request.getEngineExecutionListener();
 		this.rootContext = rootContext;
+		this.executorService = executorService;
+		// Locks are only needed if nodes may be executed concurrently
+		this.lockManager = executorService instanceof SameThreadHierarchicalTestExecutorService ? null
+				: new LockManager();
+		this.maxFailures = determineMaxFailures(request.getConfigurationParameters());
+		this.timingEnabled = request.getConfigurationParameters() != null
+				&& request.getConfigurationParameters().getBoolean(TIMING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	private static int determineMaxFailures(ConfigurationParameters configurationParameters) {
+		if (configurationParameters == null) {
+			return 0;
+		}
+		return getPositiveInt(configurationParameters, MAX_FAILURES_PROPERTY_NAME, 0,
+			"All tests will be executed regardless of the number of failures");
 	}
 
 	void execute() {
-		execute(this.rootTestDescriptor, this.rootContext, new ExecutionTracker());
+		Future<Void> future = this.executorService.submit(
+			new NodeExecutionTask(this.rootTestDescriptor, this.rootContext, new ExecutionTracker()));
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
 	}
 
-	private void execute(TestDescriptor testDescriptor, C parentContext, ExecutionTracker tracker) {
+	/**
+	 * @param locked whether an ancestor of the supplied test descriptor holds
+	 * the locks for the exclusive resources of its entire subtree, in which
+	 * case the subtree is executed sequentially in the current thread
+	 */
+	private void execute(TestDescriptor testDescriptor, C parentContext, ExecutionTracker tracker, boolean locked) {
 		Node<C> node = asNode(testDescriptor);
 		tracker.markExecuted(testDescriptor);
 
+		ResourceLock resourceLock = locked || this.lockManager == null ? ResourceLock.NOP
+				: getResourceLock(testDescriptor, node);
+		try {
+			resourceLock.acquire();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			// We call executionStarted first to comply with the contract of EngineExecutionListener
+			this.listener.executionStarted(testDescriptor);
+			reportFinished(testDescriptor, TestExecutionResult.failed(e));
+			return;
+		}
+		try {
+			execute(testDescriptor, node, parentContext, tracker, locked || !resourceLock.isNop());
+		}
+		finally {
+			resourceLock.release();
+		}
+	}
+
+	private void execute(TestDescriptor testDescriptor, Node<C> node, C parentContext, ExecutionTracker tracker,
+			boolean locked) {
+
+		if (isMaxFailuresReached()) {
+			this.listener.executionSkipped(testDescriptor,
+				String.format("Maximum number of failures (%d) has been reached", this.maxFailures));
+			return;
+		}
+
+		NodeTimer timer = NodeTimer.create(this.timingEnabled);
 		C preparedContext;
 		try {
-			preparedContext = node.prepare(parentContext);
-			SkipResult skipResult = node.shouldBeSkipped(preparedContext);
+			timer.start();
+			try {
+				preparedContext = node.prepare(parentContext);
+			}
+			finally {
+				timer.stop(PREPARE);
+			}
+
+			SkipResult skipResult;
+			timer.start();
+			try {
+				skipResult = node.shouldBeSkipped(preparedContext);
+			}
+			finally {
+				timer.stop(SHOULD_BE_SKIPPED);
+			}
 			if (skipResult.isSkipped()) {
+				// Skipped nodes are never started, so they must not publish report entries
 				this.listener.executionSkipped(testDescriptor, skipResult.getReason().orElse("<unknown>"));
 				return;
 			}
@@ -68,7 +192,8 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 			rethrowIfBlacklisted(throwable);
 			// We call executionStarted first to comply with the contract of EngineExecutionListener
 			this.listener.executionStarted(testDescriptor);
-			this.listener.executionFinished(testDescriptor, TestExecutionResult.failed(throwable));
+			timer.report(this.listener, testDescriptor);
+			reportFinished(testDescriptor, TestExecutionResult.failed(throwable));
 			return;
 		}
 
@@ -77,29 +202,85 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 		TestExecutionResult result = singleTestExecutor.executeSafely(() -> {
 			C context = preparedContext;
 			try {
-				context = node.before(context);
-
-				C contextForDynamicChildren = context;
-				context = node.execute(context, dynamicTestDescriptor -> {
-					this.listener.dynamicTestRegistered(dynamicTestDescriptor);
-					execute(dynamicTestDescriptor, contextForDynamicChildren, tracker);
-				});
-
-				C contextForStaticChildren = context;
-				// @formatter:off
-				testDescriptor.getChildren().stream()
-						.filter(child -> !tracker.wasAlreadyExecuted(child))
-						.forEach(child -> execute(child, contextForStaticChildren, tracker));
-				// @formatter:on
+				timer.start();
+				try {
+					context = node.before(context);
+				}
+				finally {
+					timer.stop(BEFORE);
+				}
+
+				DefaultDynamicTestExecutor dynamicTestExecutor = new DefaultDynamicTestExecutor(context, tracker,
+					locked);
+				timer.start();
+				try {
+					context = node.execute(context, dynamicTestExecutor);
+				}
+				finally {
+					dynamicTestExecutor.awaitFinished();
+					timer.stop(EXECUTE);
+				}
+
+				executeChildren(testDescriptor, context, tracker, locked);
 			}
 			finally {
-				node.after(context);
+				timer.start();
+				try {
+					node.after(context);
+				}
+				finally {
+					timer.stop(AFTER);
+				}
 			}
 		});
 
+		timer.report(this.listener, testDescriptor);
+		reportFinished(testDescriptor, result);
+	}
+
+	private void reportFinished(TestDescriptor testDescriptor, TestExecutionResult result) {
+		// Failed containers do not count, since their tests are reported separately
+		if (this.maxFailures > 0 && result.getStatus() == FAILED && testDescriptor.isTest()) {
+			this.failureCount.incrementAndGet();
+		}
 		this.listener.executionFinished(testDescriptor, result);
 	}
 
+	private boolean isMaxFailuresReached() {
+		return this.maxFailures > 0 && this.failureCount.get() >= this.maxFailures;
+	}
+
+	private void executeChildren(TestDescriptor parent, C context, ExecutionTracker tracker, boolean locked) {
+		// @formatter:off
+		List<? extends TestDescriptor> children = parent.getChildren().stream()
+				.filter(child -> !tracker.wasAlreadyExecuted(child))
+				.collect(toList());
+		// @formatter:on
+
+		if (!locked && children.size() > 1) {
+			// @formatter:off
+			this.executorService.invokeAll(children.stream()
+					.map(child -> new NodeExecutionTask(child, context, tracker))
+					.collect(toList()));
+			// @formatter:on
+		}
+		else {
+			children.forEach(child -> execute(child, context, tracker, locked));
+		}
+	}
+
+	private ResourceLock getResourceLock(TestDescriptor testDescriptor, Node<C> node) {
+		if (node.getExclusiveResources().isEmpty()) {
+			return ResourceLock.NOP;
+		}
+		Set<ExclusiveResource> resources = new HashSet<>(node.getExclusiveResources());
+		testDescriptor.getChildren().forEach(child -> child.traverse(descendant -> {
+			resources.addAll(asNode(descendant).getExclusiveResources());
+			return TraversalAction.CONTINUE;
+		}));
+		return this.lockManager.getLockForResources(resources);
+	}
+
 	@SuppressWarnings("unchecked")
 	private Node<C> asNode(TestDescriptor testDescriptor) {
 		return (testDescriptor instanceof Node ? (Node<C>) testDescriptor : noOpNode);
@@ -109,4 +290,76 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private static final Node noOpNode = new Node() {
 	};
 
+	/**
+	 * {@link DynamicTestExecutor} that executes dynamic test descriptors
+	 * asynchronously if they were {@linkplain #submit submitted} and neither an
+	 * ancestor holds exclusive locks nor all nodes are executed in the same
+	 * thread anyway.
+	 */
+	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
+
+		private final C parentContext;
+		private final ExecutionTracker tracker;
+		private final boolean locked;
+		private final List<Future<Void>> futures = new ArrayList<>();
+
+		DefaultDynamicTestExecutor(C parentContext, ExecutionTracker tracker, boolean locked) {
+			this.parentContext = parentContext;
+			this.tracker = tracker;
+			this.locked = locked;
+		}
+
+		@Override
+		public void execute(TestDescriptor testDescriptor) {
+			listener.dynamicTestRegistered(testDescriptor);
+			HierarchicalTestExecutor.this.execute(testDescriptor, this.parentContext, this.tracker, this.locked);
+		}
+
+		@Override
+		public Future<?> submit(TestDescriptor testDescriptor) {
+			if (this.locked || lockManager == null) {
+				return DynamicTestExecutor.super.submit(testDescriptor);
+			}
+			listener.dynamicTestRegistered(testDescriptor);
+			Future<Void> future = executorService.submit(
+				new NodeExecutionTask(testDescriptor, this.parentContext, this.tracker));
+			this.futures.add(future);
+			return future;
+		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			for (Future<Void> future : this.futures) {
+				try {
+					future.get();
+				}
+				catch (ExecutionException e) {
+					throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+				}
+			}
+			this.futures.clear();
+		}
+	}
+
+	/**
+	 * Task that executes a single node and its subtree.
+	 */
+	private class NodeExecutionTask implements TestTask {
+
+		private final TestDescriptor testDescriptor;
+		private final C parentContext;
+		private final ExecutionTracker tracker;
+
+		NodeExecutionTask(TestDescriptor testDescriptor, C parentContext, ExecutionTracker tracker) {
+			this.testDescriptor = testDescriptor;
+			this.parentContext = parentContext;
+			this.tracker = tracker;
+		}
+
+		@Override
+		public void execute() {
+			HierarchicalTestExecutor.this.execute(this.testDescriptor, this.parentContext, this.tracker, false);
+		}
+	}
+
 }
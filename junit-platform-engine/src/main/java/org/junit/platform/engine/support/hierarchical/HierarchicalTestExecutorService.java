@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+import org.apiguardian.api.API;
+
+/**
+ * A closeable service that executes {@linkplain TestTask test tasks} on
+ * behalf of a {@link HierarchicalTestEngine}.
+ *
+ * <p>A {@code HierarchicalTestEngine} {@linkplain
+ * HierarchicalTestEngine#createExecutorService creates} one instance of this
+ * service per {@linkplain HierarchicalTestEngine#execute execution request},
+ * {@linkplain #submit submits} a task for the root of the hierarchy, and
+ * {@linkplain #close closes} the service once that task has completed.
+ * While executing a container, the children of the container are passed to
+ * {@link #invokeAll} which determines whether they are executed
+ * sequentially or concurrently.
+ *
+ * <p>Implementations must be able to execute tasks that are submitted from
+ * within other tasks and must not block indefinitely when all workers are
+ * busy waiting for the completion of child tasks.
+ *
+ * @since 1.1
+ * @see HierarchicalTestEngine#createExecutorService
+ * @see SameThreadHierarchicalTestExecutorService
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see ThreadPerTaskHierarchicalTestExecutorService
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public interface HierarchicalTestExecutorService extends AutoCloseable {
+
+	/**
+	 * Submit the supplied {@linkplain TestTask test task} for execution.
+	 *
+	 * <p>Typically only used for the task of the root of the hierarchy.
+	 *
+	 * @param testTask the test task to be executed
+	 * @return a future that completes once the task and its subtree have
+	 * been executed
+	 */
+	Future<Void> submit(TestTask testTask);
+
+	/**
+	 * Execute the supplied {@linkplain TestTask test tasks} and block until
+	 * all of them have completed.
+	 *
+	 * <p>Implementations are free to execute the tasks sequentially or
+	 * concurrently.
+	 *
+	 * @param testTasks the test tasks to be executed
+	 */
+	void invokeAll(List<? extends TestTask> testTasks);
+
+	/**
+	 * Close this service and release all resources held by it.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * An executable unit of work that executes a node and its subtree.
+	 *
+	 * <p>This interface is not intended to be implemented by clients.
+	 */
+	interface TestTask {
+
+		/**
+		 * Execute this task.
+		 */
+		void execute();
+
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+
+/**
+ * Maps {@link ExclusiveResource ExclusiveResources} onto a fixed number of
+ * striped {@link ReadWriteLock ReadWriteLocks}.
+ *
+ * <p>The locks for a set of resources are always acquired in ascending stripe
+ * order, which rules out deadlocks between concurrently executing nodes.
+ * Distinct resources that map onto the same stripe are merged into a single
+ * lock, using the strongest requested {@link LockMode}.
+ *
+ * @since 1.1
+ * @see ResourceLock
+ */
+class LockManager {
+
+	static final int DEFAULT_STRIPES = 64;
+
+	private final ReadWriteLock[] stripes;
+
+	LockManager() {
+		this(DEFAULT_STRIPES);
+	}
+
+	LockManager(int stripeCount) {
+		Preconditions.condition(stripeCount > 0, "stripeCount must be greater than zero");
+		this.stripes = new ReadWriteLock[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			this.stripes[i] = new ReentrantReadWriteLock();
+		}
+	}
+
+	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
+		if (resources.isEmpty()) {
+			return ResourceLock.NOP;
+		}
+		SortedMap<Integer, LockMode> modesByStripe = new TreeMap<>();
+		for (ExclusiveResource resource : resources) {
+			modesByStripe.merge(stripeFor(resource.getKey()), resource.getLockMode(),
+				(existing, requested) -> existing == READ_WRITE ? existing : requested);
+		}
+		List<Lock> locks = new ArrayList<>(modesByStripe.size());
+		modesByStripe.forEach((stripe, mode) -> {
+			ReadWriteLock readWriteLock = this.stripes[stripe];
+			locks.add(mode == READ ? readWriteLock.readLock() : readWriteLock.writeLock());
+		});
+		return new ResourceLock(locks);
+	}
+
+	private int stripeFor(String key) {
+		int hash = key.hashCode();
+		// spread higher bits downwards, as done by java.util.HashMap
+		hash ^= (hash >>> 16);
+		return (hash & Integer.MAX_VALUE) % this.stripes.length;
+	}
+
+}
@@ -10,9 +10,14 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptySet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ToStringBuilder;
@@ -71,7 +76,9 @@ public interface Node<C extends EngineExecutionContext> {
 	 * {@link HierarchicalTestEngine} handles execution of their children.
 	 *
 	 * <p>The supplied {@code dynamicTestExecutor} may be used to submit
-	 * additional dynamic tests for immediate execution.
+	 * additional dynamic tests for immediate or asynchronous execution. All
+	 * dynamic tests submitted asynchronously are guaranteed to have finished
+	 * before the <em>after</em> behavior of this node is executed.
 	 *
 	 * @param context the context to execute in
 	 * @param dynamicTestExecutor the executor to submit dynamic tests to
@@ -99,6 +106,33 @@ public interface Node<C extends EngineExecutionContext> {
 	default void after(C context) throws Exception {
 	}
 
+	/**
+	 * Get the set of {@linkplain ExclusiveResource exclusive resources}
+	 * required to execute this node.
+	 *
+	 * <p>Exclusive resources are relevant when the engine's
+	 * {@link HierarchicalTestExecutorService} executes nodes concurrently,
+	 * for example, if {@linkplain ParallelExecutionConfiguration parallel
+	 * execution} is enabled. Before a node that declares exclusive resources is prepared,
+	 * the {@link HierarchicalTestEngine} acquires the locks for the resources
+	 * of that node and of all of its descendants; the locks are released after
+	 * the node has finished. The subtree of such a node is executed
+	 * sequentially in the same thread. Resources declared by dynamic
+	 * descendants must therefore also be declared by an ancestor in order to
+	 * be taken into account.
+	 *
+	 * <p>The default implementation returns an empty set.
+	 *
+	 * @return the set of exclusive resources required by this node; never
+	 * {@code null} but potentially empty
+	 * @since 1.1
+	 * @see ExclusiveResource
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	default Set<ExclusiveResource> getExclusiveResources() {
+		return emptySet();
+	}
+
 	/**
 	 * The result of determining whether the execution of a given {@code context}
 	 * should be <em>skipped</em>.
@@ -189,6 +223,42 @@ public interface Node<C extends EngineExecutionContext> {
 		 */
 		void execute(TestDescriptor testDescriptor);
 
+		/**
+		 * Submit a dynamic test descriptor for asynchronous execution.
+		 *
+		 * <p>The test descriptor may be executed concurrently with the
+		 * submitting node and with other dynamic tests if the engine's
+		 * {@link HierarchicalTestExecutorService} supports it; otherwise, it
+		 * is executed immediately.
+		 *
+		 * <p>The default implementation delegates to {@link #execute} and
+		 * returns a completed future.
+		 *
+		 * @param testDescriptor the test descriptor to be executed
+		 * @return a future that completes once the test descriptor has been
+		 * executed
+		 * @since 1.1
+		 * @see #awaitFinished()
+		 */
+		@API(status = EXPERIMENTAL, since = "1.1")
+		default Future<?> submit(TestDescriptor testDescriptor) {
+			execute(testDescriptor);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		/**
+		 * Block until all dynamic test descriptors previously
+		 * {@linkplain #submit submitted} via this executor have been executed.
+		 *
+		 * <p>The default implementation does nothing.
+		 *
+		 * @throws InterruptedException if interrupted while waiting
+		 * @since 1.1
+		 */
+		@API(status = EXPERIMENTAL, since = "1.1")
+		default void awaitFinished() throws InterruptedException {
+		}
+
 	}
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Records the durations of the lifecycle phases of a single {@link Node}.
+ *
+ * <p>If timing is disabled, the shared {@link #DISABLED} instance is used
+ * whose methods do nothing, so that no allocations are required.
+ *
+ * @since 1.1
+ * @see HierarchicalTestEngine#TIMING_ENABLED_PROPERTY_NAME
+ */
+class NodeTimer {
+
+	static final NodeTimer DISABLED = new NodeTimer();
+
+	static NodeTimer create(boolean enabled) {
+		return enabled ? new RecordingNodeTimer() : DISABLED;
+	}
+
+	/**
+	 * Lifecycle phases of a {@link Node}.
+	 */
+	enum Phase {
+
+		PREPARE("prepare"),
+
+		SHOULD_BE_SKIPPED("shouldBeSkipped"),
+
+		BEFORE("before"),
+
+		EXECUTE("execute"),
+
+		AFTER("after");
+
+		private final String reportKey;
+
+		Phase(String reportKey) {
+			this.reportKey = "timing." + reportKey;
+		}
+
+		String getReportKey() {
+			return this.reportKey;
+		}
+
+	}
+
+	private NodeTimer() {
+	}
+
+	/**
+	 * Mark the start of the next phase.
+	 */
+	void start() {
+	}
+
+	/**
+	 * Record the time elapsed since the last call to {@link #start()} as the
+	 * duration of the supplied phase.
+	 */
+	void stop(Phase phase) {
+	}
+
+	/**
+	 * Publish the recorded durations as a {@link ReportEntry} for the supplied
+	 * test descriptor, if any have been recorded.
+	 */
+	void report(EngineExecutionListener listener, TestDescriptor testDescriptor) {
+	}
+
+	private static class RecordingNodeTimer extends NodeTimer {
+
+		private final long[] durations = new long[Phase.values().length];
+		private final boolean[] recorded = new boolean[Phase.values().length];
+		private long startTime;
+
+		@Override
+		void start() {
+			this.startTime = System.nanoTime();
+		}
+
+		@Override
+		void stop(Phase phase) {
+			this.durations[phase.ordinal()] = System.nanoTime() - this.startTime;
+			this.recorded[phase.ordinal()] = true;
+		}
+
+		@Override
+		void report(EngineExecutionListener listener, TestDescriptor testDescriptor) {
+			Map<String, String> keyValuePairs = new LinkedHashMap<>();
+			for (Phase phase : Phase.values()) {
+				if (this.recorded[phase.ordinal()]) {
+					keyValuePairs.put(phase.getReportKey(), String.valueOf(this.durations[phase.ordinal()]));
+				}
+			}
+			if (!keyValuePairs.isEmpty()) {
+				listener.reportingEntryPublished(testDescriptor, ReportEntry.from(keyValuePairs));
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveDouble;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveInt;
+
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ToStringBuilder;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Configuration of the parallel execution mode of {@link HierarchicalTestEngine
+ * HierarchicalTestEngines}.
+ *
+ * <p>Parallel execution is disabled by default and can be enabled via the
+ * {@value #PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME} configuration parameter.
+ * When enabled, sibling children of a container are executed concurrently by
+ * the {@linkplain ExecutorType executor} selected via the
+ * {@value #PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME} configuration parameter.
+ * By default, a work-stealing {@link java.util.concurrent.ForkJoinPool
+ * ForkJoinPool} is used whose parallelism is determined by the configured
+ * {@linkplain #PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME strategy}.
+ *
+ * @since 1.1
+ * @see HierarchicalTestEngine
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class ParallelExecutionConfiguration {
+
+	private static final Logger logger = LoggerFactory.getLogger(ParallelExecutionConfiguration.class);
+
+	/**
+	 * Property name used to enable parallel execution: {@value}
+	 *
+	 * <p>The default behavior is to execute all nodes sequentially in the
+	 * calling thread.
+	 */
+	public static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.parallel.enabled";
+
+	/**
+	 * Property name used to select the executor used for parallel execution: {@value}
+	 *
+	 * <h3>Supported Values</h3>
+	 *
+	 * <p>Supported values include names of enum constants defined in
+	 * {@link ExecutorType}, ignoring case.
+	 *
+	 * <p>If not specified, the default is {@code fork_join}.
+	 */
+	public static final String PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME = "junit.platform.execution.parallel.config.executor";
+
+	/**
+	 * Property name used to select the strategy for determining the desired
+	 * parallelism: {@value}
+	 *
+	 * <h3>Supported Values</h3>
+	 *
+	 * <ul>
+	 * <li>{@code fixed}: uses the value of the
+	 * {@value #PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME} configuration
+	 * parameter as the desired parallelism.
+	 * <li>{@code dynamic}: multiplies the number of available processors by the
+	 * value of the {@value #PARALLEL_EXECUTION_DYNAMIC_FACTOR_PROPERTY_NAME}
+	 * configuration parameter to compute the desired parallelism.
+	 * </ul>
+	 *
+	 * <p>If not specified, the default is {@code dynamic}.
+	 */
+	public static final String PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME = "junit.platform.execution.parallel.config.strategy";
+
+	/**
+	 * Property name used to set the desired parallelism for the {@code fixed}
+	 * strategy: {@value}
+	 *
+	 * <p>The value must be a positive integer. If not specified, the number of
+	 * available processors is used.
+	 */
+	public static final String PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME = "junit.platform.execution.parallel.config.fixed.parallelism";
+
+	/**
+	 * Property name used to set the factor to be multiplied with the number of
+	 * available processors for the {@code dynamic} strategy: {@value}
+	 *
+	 * <p>The value must be a positive decimal number. If not specified, the
+	 * default is {@code 1}.
+	 */
+	public static final String PARALLEL_EXECUTION_DYNAMIC_FACTOR_PROPERTY_NAME = "junit.platform.execution.parallel.config.dynamic.factor";
+
+	private static final ParallelExecutionConfiguration disabled = new ParallelExecutionConfiguration(false,
+		ExecutorType.FORK_JOIN, 1);
+
+	/**
+	 * Create a {@code ParallelExecutionConfiguration} from the supplied
+	 * {@link ConfigurationParameters}.
+	 *
+	 * <p>Invalid values are logged and replaced by their defaults.
+	 *
+	 * @param configurationParameters the configuration parameters to read;
+	 * may be {@code null}, in which case parallel execution is disabled
+	 */
+	static ParallelExecutionConfiguration from(ConfigurationParameters configurationParameters) {
+		if (configurationParameters == null
+				|| !configurationParameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return disabled;
+		}
+		return new ParallelExecutionConfiguration(true, determineExecutorType(configurationParameters),
+			determineParallelism(configurationParameters));
+	}
+
+	private static ExecutorType determineExecutorType(ConfigurationParameters configurationParameters) {
+		Optional<String> value = configurationParameters.get(PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME);
+		if (value.isPresent()) {
+			try {
+				return ExecutorType.valueOf(value.get().trim().toUpperCase());
+			}
+			catch (IllegalArgumentException ex) {
+				logger.warn(() -> String.format(
+					"Invalid executor '%s' set via the '%s' configuration parameter. Falling back to %s.",
+					value.get(), PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME, ExecutorType.FORK_JOIN.name()));
+			}
+		}
+		return ExecutorType.FORK_JOIN;
+	}
+
+	private static int determineParallelism(ConfigurationParameters configurationParameters) {
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		String strategy = configurationParameters.get(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME) //
+				.map(value -> value.trim().toLowerCase()) //
+				.orElse("dynamic");
+
+		if ("fixed".equals(strategy)) {
+			return getPositiveInt(configurationParameters, PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME,
+				availableProcessors);
+		}
+		if (!"dynamic".equals(strategy)) {
+			logger.warn(() -> String.format(
+				"Invalid parallel execution strategy '%s' set via the '%s' configuration parameter. "
+						+ "Falling back to the dynamic strategy.",
+				strategy, PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME));
+		}
+		double factor = getPositiveDouble(configurationParameters, PARALLEL_EXECUTION_DYNAMIC_FACTOR_PROPERTY_NAME,
+			1.0);
+		return Math.max(1, (int) (factor * availableProcessors));
+	}
+
+	private final boolean enabled;
+	private final ExecutorType executorType;
+	private final int parallelism;
+
+	private ParallelExecutionConfiguration(boolean enabled, ExecutorType executorType, int parallelism) {
+		this.enabled = enabled;
+		this.executorType = executorType;
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Whether parallel execution is enabled.
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * Get the type of executor to be used for parallel execution.
+	 */
+	public ExecutorType getExecutorType() {
+		return this.executorType;
+	}
+
+	/**
+	 * Get the desired parallelism, i.e. the number of worker threads used
+	 * for executing nodes concurrently.
+	 *
+	 * <p>Always {@code 1} if parallel execution is disabled. Not used by the
+	 * {@link ExecutorType#THREAD_PER_TASK THREAD_PER_TASK} executor.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	@Override
+	public String toString() {
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("enabled", this.enabled)
+				.append("executorType", this.executorType)
+				.append("parallelism", this.parallelism)
+				.toString();
+		// @formatter:on
+	}
+
+	/**
+	 * Supported executors for parallel execution.
+	 *
+	 * @see #PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME
+	 */
+	public enum ExecutorType {
+
+		/**
+		 * Execute nodes in a work-stealing {@code ForkJoinPool} with the
+		 * configured parallelism.
+		 *
+		 * @see ForkJoinPoolHierarchicalTestExecutorService
+		 */
+		FORK_JOIN,
+
+		/**
+		 * Execute each node in a thread of its own, using virtual threads on
+		 * Java runtimes that support them.
+		 *
+		 * @see ThreadPerTaskHierarchicalTestExecutorService
+		 */
+		THREAD_PER_TASK
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Collections.emptyList;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * A set of {@link Lock Locks} that are acquired in a fixed order and released
+ * in reverse order.
+ *
+ * <p>Acquisition is performed via {@link ForkJoinPool#managedBlock} so that a
+ * {@code ForkJoinPool} may compensate for a worker that is blocked waiting for
+ * a contended resource.
+ *
+ * @since 1.1
+ * @see LockManager
+ */
+class ResourceLock {
+
+	static final ResourceLock NOP = new ResourceLock(emptyList());
+
+	private final List<Lock> locks;
+
+	ResourceLock(List<Lock> locks) {
+		this.locks = locks;
+	}
+
+	boolean isNop() {
+		return this.locks.isEmpty();
+	}
+
+	void acquire() throws InterruptedException {
+		if (!isNop()) {
+			ForkJoinPool.managedBlock(new Blocker());
+		}
+	}
+
+	void release() {
+		release(this.locks.size());
+	}
+
+	private void release(int count) {
+		ListIterator<Lock> iterator = this.locks.listIterator(count);
+		while (iterator.hasPrevious()) {
+			iterator.previous().unlock();
+		}
+	}
+
+	private class Blocker implements ManagedBlocker {
+
+		private boolean acquired;
+
+		@Override
+		public boolean block() throws InterruptedException {
+			int count = 0;
+			try {
+				for (Lock lock : locks) {
+					lock.lockInterruptibly();
+					count++;
+				}
+			}
+			finally {
+				if (count < locks.size()) {
+					release(count);
+				}
+			}
+			this.acquired = true;
+			return true;
+		}
+
+		@Override
+		public boolean isReleasable() {
+			return this.acquired;
+		}
+	}
+
+}
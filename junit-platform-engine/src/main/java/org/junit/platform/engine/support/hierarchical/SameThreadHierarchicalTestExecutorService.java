@@ -0,0 +1,49 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import org.apiguardian.api.API;
+
+/**
+ * A {@link HierarchicalTestExecutorService} that executes each
+ * {@linkplain TestTask test task} immediately in the calling thread.
+ *
+ * <p>This is the default service used by a {@link HierarchicalTestEngine}
+ * if parallel execution is disabled.
+ *
+ * @since 1.1
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public class SameThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		testTask.execute();
+		return CompletableFuture.completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		testTasks.forEach(TestTask::execute);
+	}
+
+	@Override
+	public void close() {
+		// nothing to do
+	}
+
+}
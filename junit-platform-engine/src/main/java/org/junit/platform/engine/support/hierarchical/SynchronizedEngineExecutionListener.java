@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * {@link EngineExecutionListener} that serializes all events before
+ * delegating them, so that listeners which are not thread-safe can be
+ * used in parallel execution mode.
+ *
+ * @since 1.1
+ * @see ParallelExecutionConfiguration
+ */
+class SynchronizedEngineExecutionListener implements EngineExecutionListener {
+
+	private final EngineExecutionListener delegate;
+
+	SynchronizedEngineExecutionListener(EngineExecutionListener delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		this.delegate.dynamicTestRegistered(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		this.delegate.executionSkipped(testDescriptor, reason);
+	}
+
+	@Override
+	public synchronized void executionStarted(TestDescriptor testDescriptor) {
+		this.delegate.executionStarted(testDescriptor);
+	}
+
+	@Override
+	public synchronized void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		this.delegate.executionFinished(testDescriptor, testExecutionResult);
+	}
+
+	@Override
+	public synchronized void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		this.delegate.reportingEntryPublished(testDescriptor, entry);
+	}
+
+}
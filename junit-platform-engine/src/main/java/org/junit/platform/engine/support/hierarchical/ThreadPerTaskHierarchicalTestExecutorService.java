@@ -0,0 +1,124 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.toList;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * A {@link HierarchicalTestExecutorService} that executes each
+ * {@linkplain TestTask test task} in a thread of its own.
+ *
+ * <p>On Java runtimes that support virtual threads, each task is executed in
+ * a new virtual thread. Tasks that spend most of their time waiting for I/O
+ * can therefore be executed with a degree of concurrency that is not bounded
+ * by the number of platform threads. On other runtimes, tasks are executed in
+ * daemon platform threads which are created on demand and reused once idle.
+ *
+ * <p>The parallelism of this service is unbounded; access to shared resources
+ * should be guarded via {@linkplain Node#getExclusiveResources() exclusive
+ * resources}.
+ *
+ * @since 1.1
+ * @see ParallelExecutionConfiguration
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public class ThreadPerTaskHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private static final Logger logger = LoggerFactory.getLogger(ThreadPerTaskHierarchicalTestExecutorService.class);
+
+	private final ExecutorService executorService;
+
+	public ThreadPerTaskHierarchicalTestExecutorService() {
+		this.executorService = createVirtualThreadPerTaskExecutor().orElseGet(
+			() -> Executors.newCachedThreadPool(new DaemonThreadFactory()));
+	}
+
+	private static Optional<ExecutorService> createVirtualThreadPerTaskExecutor() {
+		return ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor").flatMap(
+			ThreadPerTaskHierarchicalTestExecutorService::invokeExecutorFactoryMethod);
+	}
+
+	static Optional<ExecutorService> invokeExecutorFactoryMethod(Method method) {
+		try {
+			return Optional.of((ExecutorService) ReflectionUtils.invokeMethod(method, null));
+		}
+		catch (Exception ex) {
+			// e.g. UnsupportedOperationException on Java 19 and 20 without --enable-preview
+			logger.debug(ex, () -> "Failed to create executor service via " + method);
+			return Optional.empty();
+		}
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		return this.executorService.submit(() -> {
+			testTask.execute();
+			return null;
+		});
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> testTasks) {
+		List<Future<Void>> futures = testTasks.stream().map(this::submit).collect(toList());
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(e.getCause());
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		this.executorService.shutdownNow();
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+		DaemonThreadFactory() {
+			logger.config(() -> "Virtual threads are not supported by the current Java runtime; "
+					+ "falling back to platform threads.");
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-thread-per-task-" + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+}
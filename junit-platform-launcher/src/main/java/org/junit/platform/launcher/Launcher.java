@@ -10,9 +10,11 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
+import org.junit.platform.commons.JUnitException;
 
 /**
  * The {@code Launcher} API is the main entry point for client code that
@@ -34,7 +36,8 @@ import org.apiguardian.api.API;
  *
  * <p>Clients of this interface may optionally call {@link #discover} prior to
  * {@link #execute} in order to inspect the {@link TestPlan} before executing
- * it.
+ * it. In order to avoid discovering the tests a second time, the discovered
+ * {@code TestPlan} may be passed to {@link #execute(TestPlan, TestExecutionListener...)}.
  *
  * <p>Prior to executing tests, clients of this interface should
  * {@linkplain #registerTestExecutionListeners register} one or more
@@ -89,4 +92,36 @@ public interface Launcher {
 	 */
 	void execute(LauncherDiscoveryRequest launcherDiscoveryRequest, TestExecutionListener... listeners);
 
+	/**
+	 * Execute the supplied {@link TestPlan} and notify
+	 * {@linkplain #registerTestExecutionListeners registered listeners} about
+	 * the progress and results of the execution.
+	 *
+	 * <p>The supplied test plan must have been created by a previous call to
+	 * {@link #discover} on this launcher. Engines execute exactly the tests
+	 * and containers that were discovered for the test plan without
+	 * discovering them again. A test plan may only be executed once.
+	 *
+	 * <p>Supplied test execution listeners are registered in addition to already
+	 * registered listeners but only for the supplied test plan.
+	 *
+	 * <p>The default implementation throws a {@link JUnitException} since
+	 * launchers are not required to retain the results of previous discovery
+	 * requests. The launcher returned by
+	 * {@link org.junit.platform.launcher.core.LauncherFactory#create LauncherFactory.create()}
+	 * supports this method.
+	 *
+	 * @param testPlan the test plan to execute; never {@code null}
+	 * @param listeners additional test execution listeners; never {@code null}
+	 * @throws JUnitException if this launcher does not support executing
+	 * previously discovered test plans
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	default void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+		throw new JUnitException(String.format(
+			"%s does not support executing a previously discovered TestPlan; execute a LauncherDiscoveryRequest instead.",
+			getClass().getName()));
+	}
+
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import org.apiguardian.api.API;
+
+/**
+ * Collection of constants related to the {@link Launcher}.
+ *
+ * <p>The configuration parameters defined here are read from the
+ * {@linkplain LauncherDiscoveryRequest#getConfigurationParameters()
+ * configuration parameters} of the request passed to the launcher.
+ *
+ * @since 1.1
+ * @see org.junit.platform.engine.ConfigurationParameters
+ */
+@API(status = EXPERIMENTAL, since = "1.1")
+public final class LauncherConstants {
+
+	///CLOVER:OFF
+	private LauncherConstants() {
+		/* no-op */
+	}
+	///CLOVER:ON
+
+	/**
+	 * Property name used to set the maximum number of
+	 * {@linkplain org.junit.platform.engine.TestEngine test engines} that
+	 * discover tests concurrently: {@value}
+	 *
+	 * <p>The value must be a positive integer. If not specified, engines
+	 * discover tests sequentially, i.e. the default is {@code 1}. Regardless
+	 * of this setting, the resulting {@link TestPlan} contains the engines in
+	 * the order in which they were registered.
+	 */
+	public static final String DISCOVERY_PARALLELISM_PROPERTY_NAME = "junit.platform.discovery.parallelism";
+
+	/**
+	 * Property name used to enable the persistent discovery cache by setting
+	 * the directory in which its files are stored: {@value}
+	 *
+	 * <p>If set, the launcher remembers which top-level tests and containers
+	 * each engine discovered in each selected classpath root, along with a
+	 * fingerprint of the root that is based on the sizes and modification
+	 * times of its files. In subsequent runs, roots whose fingerprint has not
+	 * changed are not scanned again; instead, the cached tests and containers
+	 * are selected by their unique IDs. Roots that have changed are scanned
+	 * and their cache entries are replaced.
+	 *
+	 * <p>Cache entries are only reused if the included engines, the filters,
+	 * all configuration parameters, and all other entries of the classpath
+	 * are unchanged. JAR files on the classpath are compared by their size and
+	 * modification time; directories by a hash of their class files. The
+	 * cache is only used if all filters are created via the factory methods
+	 * of the JUnit Platform, e.g.
+	 * {@link org.junit.platform.engine.discovery.ClassNameFilter#includeClassNamePatterns
+	 * ClassNameFilter.includeClassNamePatterns()}; custom filter
+	 * implementations disable it.
+	 *
+	 * <p>The cache is only used for discovery requests that exclusively
+	 * consist of {@linkplain org.junit.platform.engine.discovery.ClasspathRootSelector
+	 * classpath root selectors}. It is disabled by default.
+	 */
+	public static final String DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME = "junit.platform.discovery.cache.dir";
+
+	/**
+	 * Property name used to set the number of shards the discovered tests are
+	 * partitioned into: {@value}
+	 *
+	 * <p>If set, the {@link TestPlan} only contains the tests of the shard
+	 * selected via {@link #SHARD_INDEX_PROPERTY_NAME}. Tests are partitioned
+	 * at the granularity of the top-level containers of each engine, e.g. test
+	 * classes. All shards compute the same partitioning, so that each test is
+	 * executed by exactly one shard.
+	 *
+	 * <p>The value must be a positive integer. If this parameter or
+	 * {@link #SHARD_INDEX_PROPERTY_NAME} is set, both must be set to valid
+	 * values; otherwise, discovery fails with a
+	 * {@link org.junit.platform.commons.util.PreconditionViolationException
+	 * PreconditionViolationException}.
+	 *
+	 * @see #SHARD_INDEX_PROPERTY_NAME
+	 * @see #SHARD_TIMINGS_FILE_PROPERTY_NAME
+	 */
+	public static final String SHARD_COUNT_PROPERTY_NAME = "junit.platform.sharding.count";
+
+	/**
+	 * Property name used to select the shard whose tests are executed: {@value}
+	 *
+	 * <p>The value must be between {@code 0} and the
+	 * {@linkplain #SHARD_COUNT_PROPERTY_NAME shard count} minus {@code 1}.
+	 *
+	 * @see #SHARD_COUNT_PROPERTY_NAME
+	 */
+	public static final String SHARD_INDEX_PROPERTY_NAME = "junit.platform.sharding.index";
+
+	/**
+	 * Property name used to set the path of a file containing the durations
+	 * of previous executions that are used to balance shards: {@value}
+	 *
+	 * <p>Each line of the file consists of a duration in milliseconds,
+	 * followed by whitespace and the unique ID of a top-level container;
+	 * lines starting with {@code #} are ignored. If set, containers are
+	 * assigned to shards such that the total durations of all shards are
+	 * roughly equal. Otherwise, containers are assigned to shards based on a
+	 * hash of their unique IDs.
+	 *
+	 * @see #SHARD_COUNT_PROPERTY_NAME
+	 */
+	public static final String SHARD_TIMINGS_FILE_PROPERTY_NAME = "junit.platform.sharding.timings.file";
+
+	/**
+	 * Property name used to set the maximum number of failures after which
+	 * each engine skips its remaining tests: {@value}
+	 *
+	 * <p>The value must be a positive integer. The budget is not global: each
+	 * engine based on
+	 * {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine
+	 * HierarchicalTestEngine}, including JUnit Jupiter, counts its own failed
+	 * tests and, once the configured value has been reached, reports the nodes
+	 * it has not started yet as skipped. Failed containers do not count. When
+	 * tests are executed in forked JVMs, each fork counts its failures
+	 * separately as well. Other engines, such as JUnit Vintage, ignore this
+	 * configuration parameter.
+	 *
+	 * <p>This is the same key as
+	 * {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine#MAX_FAILURES_PROPERTY_NAME}.
+	 *
+	 * @see org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder#maxFailures(int)
+	 */
+	public static final String MAX_FAILURES_PROPERTY_NAME = "junit.platform.execution.max.failures";
+
+	/**
+	 * Property name used to enable asynchronous dispatch of events to
+	 * {@linkplain TestExecutionListener test execution listeners}: {@value}
+	 *
+	 * <p>If set to {@code true}, the launcher hands events to a bounded queue
+	 * that is drained by a dedicated thread, so that slow listeners do not
+	 * delay the execution of tests. Each listener receives events in the order
+	 * in which they were reported. If the queue is full, the reporting thread
+	 * waits until the listeners have caught up. All events have been
+	 * delivered once the launcher returns from
+	 * {@link Launcher#execute(LauncherDiscoveryRequest, TestExecutionListener...)
+	 * execute()}.
+	 *
+	 * <p>Since exceptions thrown by listeners cannot be propagated to the
+	 * thread that reported the event, the remaining events are still
+	 * delivered and the first exception is rethrown from {@code execute()}
+	 * once all events have been delivered.
+	 *
+	 * <p>Asynchronous dispatch is disabled by default.
+	 *
+	 * @see #ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME
+	 */
+	public static final String ASYNC_LISTENERS_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to set the capacity of the queue used for
+	 * {@linkplain #ASYNC_LISTENERS_ENABLED_PROPERTY_NAME asynchronous dispatch}
+	 * of events to test execution listeners: {@value}
+	 *
+	 * <p>The value must be a positive integer. If not specified, the default
+	 * is {@code 1024}.
+	 */
+	public static final String ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME = "junit.platform.execution.listeners.async.capacity";
+
+}
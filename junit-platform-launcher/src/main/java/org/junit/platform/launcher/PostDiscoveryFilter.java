@@ -10,9 +10,13 @@
 
 package org.junit.platform.launcher;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.Optional;
+
 import org.apiguardian.api.API;
+import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
@@ -25,7 +29,10 @@ import org.junit.platform.engine.TestEngine;
  * {@link TestDescriptor TestDescriptors} it is applied to in any way.
  *
  * <p>{@link TestEngine TestEngines} must <strong>not</strong> apply
- * {@code PostDiscoveryFilters} during the test discovery phase.
+ * {@code PostDiscoveryFilters} during the test discovery phase. However, a
+ * {@code PostDiscoveryFilter} may provide a corresponding
+ * {@linkplain #toDiscoveryFilter() discovery filter} that is offered to
+ * engines instead.
  *
  * @since 1.0
  * @see LauncherDiscoveryRequest
@@ -33,4 +40,27 @@ import org.junit.platform.engine.TestEngine;
  */
 @API(status = STABLE, since = "1.0")
 public interface PostDiscoveryFilter extends Filter<TestDescriptor> {
+
+	/**
+	 * Get a {@link DiscoveryFilter} that corresponds to this filter and may be
+	 * offered to {@link TestEngine TestEngines} during the test discovery
+	 * phase, if any.
+	 *
+	 * <p>Engines that support the returned filter may use it to avoid
+	 * resolving tests that this filter would remove anyway. Since this filter
+	 * is still applied after discovery, the returned filter must never exclude
+	 * a test that this filter includes.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return the corresponding discovery filter; never {@code null} but
+	 * potentially empty
+	 * @since 1.1
+	 * @see org.junit.platform.engine.EngineDiscoveryRequest#getFiltersByType(Class)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	default Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+		return Optional.empty();
+	}
+
 }
@@ -11,16 +11,19 @@
 package org.junit.platform.launcher;
 
 import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.discovery.TestTagFilter;
 
 /**
  * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
@@ -75,9 +78,7 @@ public final class TagFilter {
 	 * @see TestTag#isValid(String)
 	 */
 	public static PostDiscoveryFilter includeTags(List<String> tags) throws PreconditionViolationException {
-		Preconditions.notEmpty(tags, "tags list must not be null or empty");
-		List<TestTag> activeTags = toTestTags(tags);
-		return descriptor -> FilterResult.includedIf(descriptor.getTags().stream().anyMatch(activeTags::contains));
+		return new TestTagPostDiscoveryFilter(TestTagFilter.includeTags(tags));
 	}
 
 	/**
@@ -116,13 +117,36 @@ public final class TagFilter {
 	 * @see TestTag#isValid(String)
 	 */
 	public static PostDiscoveryFilter excludeTags(List<String> tags) throws PreconditionViolationException {
-		Preconditions.notEmpty(tags, "tags list must not be null or empty");
-		List<TestTag> activeTags = toTestTags(tags);
-		return descriptor -> FilterResult.includedIf(descriptor.getTags().stream().noneMatch(activeTags::contains));
+		return new TestTagPostDiscoveryFilter(TestTagFilter.excludeTags(tags));
 	}
 
-	private static List<TestTag> toTestTags(List<String> tags) {
-		return tags.stream().map(TestTag::create).collect(toList());
+	/**
+	 * Applies a {@link TestTagFilter} to the tags of a {@link TestDescriptor}
+	 * and offers it to engines during discovery.
+	 */
+	private static class TestTagPostDiscoveryFilter implements PostDiscoveryFilter {
+
+		private final TestTagFilter testTagFilter;
+
+		TestTagPostDiscoveryFilter(TestTagFilter testTagFilter) {
+			this.testTagFilter = testTagFilter;
+		}
+
+		@Override
+		public FilterResult apply(TestDescriptor descriptor) {
+			return this.testTagFilter.apply(descriptor.getTags());
+		}
+
+		@Override
+		public Optional<DiscoveryFilter<?>> toDiscoveryFilter() {
+			return Optional.of(this.testTagFilter);
+		}
+
+		@Override
+		public String toString() {
+			return TagFilter.class.getSimpleName() + ": " + this.testTagFilter;
+		}
+
 	}
 
 }
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
@@ -19,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.Preconditions;
@@ -54,25 +56,57 @@ public final class TestIdentifier implements Serializable {
 	@API(status = INTERNAL, since = "1.0")
 	public static TestIdentifier from(TestDescriptor testDescriptor) {
 		Preconditions.notNull(testDescriptor, "TestDescriptor must not be null");
+		String parentId = testDescriptor.getParent().map(
+			parentDescriptor -> parentDescriptor.getUniqueId().toString()).orElse(null);
+		return from(testDescriptor, parentId, TestIdentifier::copyOf);
+	}
+
+	/**
+	 * Factory for creating a new {@link TestIdentifier} from a {@link TestDescriptor}
+	 * that shares its parent ID and tags with other identifiers.
+	 *
+	 * @param parentId the unique ID of the parent, typically the same instance
+	 * as returned by {@link #getUniqueId()} for the parent's identifier; may be
+	 * {@code null}
+	 * @param tagSets function that returns an unmodifiable, potentially shared,
+	 * copy of the supplied tags
+	 * @since 1.1
+	 */
+	static TestIdentifier from(TestDescriptor testDescriptor, String parentId, UnaryOperator<Set<TestTag>> tagSets) {
 		String uniqueId = testDescriptor.getUniqueId().toString();
 		String displayName = testDescriptor.getDisplayName();
 		TestSource source = testDescriptor.getSource().orElse(null);
-		Set<TestTag> tags = testDescriptor.getTags();
+		Set<TestTag> tags = tagSets.apply(testDescriptor.getTags());
 		Type type = testDescriptor.getType();
-		String parentId = testDescriptor.getParent().map(
-			parentDescriptor -> parentDescriptor.getUniqueId().toString()).orElse(null);
 		String legacyReportingName = testDescriptor.getLegacyReportingName();
-		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
+		return new TestIdentifier(uniqueId, parentId, displayName, legacyReportingName, source, tags, type);
+	}
+
+	/**
+	 * Create an unmodifiable copy of the supplied tags.
+	 *
+	 * @since 1.1
+	 */
+	static Set<TestTag> copyOf(Set<TestTag> tags) {
+		return tags.isEmpty() ? emptySet() : unmodifiableSet(new LinkedHashSet<>(tags));
 	}
 
 	TestIdentifier(String uniqueId, String displayName, TestSource source, Set<TestTag> tags, Type type,
 			String parentId, String legacyReportingName) {
+		this(uniqueId, parentId, displayName, legacyReportingName, source, copyOf(tags), type);
+	}
+
+	/**
+	 * @param tags an unmodifiable set of tags that is used as is
+	 */
+	private TestIdentifier(String uniqueId, String parentId, String displayName, String legacyReportingName,
+			TestSource source, Set<TestTag> tags, Type type) {
 		Preconditions.notNull(type, "TestDescriptor.Type must not be null");
 		this.uniqueId = uniqueId;
 		this.parentId = parentId;
 		this.displayName = displayName;
 		this.source = source;
-		this.tags = unmodifiableSet(new LinkedHashSet<>(tags));
+		this.tags = tags;
 		this.type = type;
 		this.legacyReportingName = legacyReportingName;
 	}
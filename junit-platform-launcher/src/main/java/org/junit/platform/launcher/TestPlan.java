@@ -12,23 +12,32 @@ package org.junit.platform.launcher;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.TestDescriptor;
-import org.junit.platform.engine.TestDescriptor.Visitor;
+import org.junit.platform.engine.TestTag;
 
 /**
  * {@code TestPlan} describes the tree of tests and containers as discovered
@@ -56,10 +65,29 @@ public final class TestPlan {
 
 	private final Set<TestIdentifier> roots = Collections.synchronizedSet(new LinkedHashSet<>(4));
 
-	private final Map<String, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
+	private final Map<String, Children> children = new ConcurrentHashMap<>(32);
 
 	private final Map<String, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
 
+	/**
+	 * Guards the structure of this test plan and the indexes derived from it;
+	 * lookups by unique ID do not require it.
+	 */
+	private final Object lock = new Object();
+
+	private long testCount;
+
+	private long containerCount;
+
+	/**
+	 * All identifiers reachable from the roots in pre-order, so that the
+	 * descendants of each identifier form a contiguous range; {@code null}
+	 * if it needs to be rebuilt after identifiers have been added.
+	 */
+	private TestIdentifier[] preorder;
+
+	private int preorderVersion;
+
 	private final boolean containsTests;
 
 	/**
@@ -77,8 +105,7 @@ public final class TestPlan {
 	public static TestPlan from(Collection<TestDescriptor> engineDescriptors) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		TestPlan testPlan = new TestPlan(engineDescriptors.stream().anyMatch(TestDescriptor::containsTests));
-		Visitor visitor = descriptor -> testPlan.add(TestIdentifier.from(descriptor));
-		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
+		testPlan.addAll(engineDescriptors);
 		return testPlan;
 	}
 
@@ -86,6 +113,33 @@ public final class TestPlan {
 		this.containsTests = containsTests;
 	}
 
+	private void addAll(Collection<TestDescriptor> engineDescriptors) {
+		// Identifiers with equal tags share a single set
+		Map<Set<TestTag>, Set<TestTag>> sharedTagSets = new HashMap<>();
+		UnaryOperator<Set<TestTag>> tagSets = tags -> {
+			Set<TestTag> sharedTags = sharedTagSets.get(tags);
+			if (sharedTags == null) {
+				sharedTags = TestIdentifier.copyOf(tags);
+				sharedTagSets.put(sharedTags, sharedTags);
+			}
+			return sharedTags;
+		};
+		engineDescriptors.forEach(engineDescriptor -> {
+			String parentId = engineDescriptor.getParent().map(
+				parentDescriptor -> parentDescriptor.getUniqueId().toString()).orElse(null);
+			addAll(engineDescriptor, parentId, tagSets);
+		});
+	}
+
+	private void addAll(TestDescriptor descriptor, String parentId, UnaryOperator<Set<TestTag>> tagSets) {
+		TestIdentifier testIdentifier = TestIdentifier.from(descriptor, parentId, tagSets);
+		add(testIdentifier);
+		// Children share the unique ID of their parent's identifier as parent ID
+		for (TestDescriptor child : descriptor.getChildren()) {
+			addAll(child, testIdentifier.getUniqueId(), tagSets);
+		}
+	}
+
 	/**
 	 * Add the supplied {@link TestIdentifier} to this test plan.
 	 *
@@ -93,15 +147,42 @@ public final class TestPlan {
 	 */
 	public void add(TestIdentifier testIdentifier) {
 		Preconditions.notNull(testIdentifier, "testIdentifier must not be null");
-		allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
-		if (testIdentifier.getParentId().isPresent()) {
-			String parentId = testIdentifier.getParentId().get();
-			Set<TestIdentifier> directChildren = children.computeIfAbsent(parentId,
-				key -> Collections.synchronizedSet(new LinkedHashSet<>(16)));
-			directChildren.add(testIdentifier);
+		synchronized (this.lock) {
+			TestIdentifier previous = allIdentifiers.put(testIdentifier.getUniqueId(), testIdentifier);
+			if (previous != null && previous.getParentId().equals(testIdentifier.getParentId())) {
+				return;
+			}
+			if (testIdentifier.getParentId().isPresent()) {
+				String parentId = testIdentifier.getParentId().get();
+				children.computeIfAbsent(parentId, Children::new).append(testIdentifier);
+			}
+			else {
+				roots.add(testIdentifier);
+			}
+			updateCounts(testIdentifier);
+			this.preorder = null;
+		}
+	}
+
+	private void updateCounts(TestIdentifier testIdentifier) {
+		int tests = testIdentifier.isTest() ? 1 : 0;
+		int containers = testIdentifier.isContainer() ? 1 : 0;
+		this.testCount += tests;
+		this.containerCount += containers;
+
+		// Descendants added before this identifier have not been propagated beyond it yet
+		Children ownChildren = children.get(testIdentifier.getUniqueId());
+		if (ownChildren != null) {
+			tests += ownChildren.descendantTests;
+			containers += ownChildren.descendantContainers;
 		}
-		else {
-			roots.add(testIdentifier);
+		String ancestorId = testIdentifier.getParentId().orElse(null);
+		while (ancestorId != null) {
+			Children ancestorChildren = children.get(ancestorId);
+			ancestorChildren.descendantTests += tests;
+			ancestorChildren.descendantContainers += containers;
+			TestIdentifier ancestor = allIdentifiers.get(ancestorId);
+			ancestorId = ancestor == null ? null : ancestor.getParentId().orElse(null);
 		}
 	}
 
@@ -147,7 +228,8 @@ public final class TestPlan {
 	 */
 	public Set<TestIdentifier> getChildren(String parentId) {
 		Preconditions.notBlank(parentId, "parent ID must not be null or blank");
-		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
+		Children directChildren = children.get(parentId);
+		return directChildren != null ? directChildren : emptySet();
 	}
 
 	/**
@@ -179,25 +261,290 @@ public final class TestPlan {
 		return allIdentifiers.values().stream().filter(predicate).count();
 	}
 
+	/**
+	 * Count all {@link TestIdentifier TestIdentifiers} in this test plan that
+	 * {@linkplain TestIdentifier#isTest() represent tests}.
+	 *
+	 * <p>In contrast to {@link #countTestIdentifiers(Predicate)}, the count is
+	 * maintained when identifiers are added and therefore does not require
+	 * iterating over all identifiers.
+	 *
+	 * @return the number of tests
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public long countTests() {
+		synchronized (this.lock) {
+			return this.testCount;
+		}
+	}
+
+	/**
+	 * Count all {@link TestIdentifier TestIdentifiers} in this test plan that
+	 * {@linkplain TestIdentifier#isContainer() represent containers}.
+	 *
+	 * <p>In contrast to {@link #countTestIdentifiers(Predicate)}, the count is
+	 * maintained when identifiers are added and therefore does not require
+	 * iterating over all identifiers.
+	 *
+	 * @return the number of containers
+	 * @since 1.1
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public long countContainers() {
+		synchronized (this.lock) {
+			return this.containerCount;
+		}
+	}
+
+	/**
+	 * Count the descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isTest() represent tests}, excluding the
+	 * supplied identifier itself.
+	 *
+	 * @param parent the identifier to count the descendant tests for; never
+	 * {@code null}
+	 * @return the number of tests in the subtree below the parent
+	 * @since 1.1
+	 * @see #getDescendants(TestIdentifier)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public long countDescendantTests(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		synchronized (this.lock) {
+			Children directChildren = children.get(parent.getUniqueId());
+			return directChildren == null ? 0 : directChildren.descendantTests;
+		}
+	}
+
+	/**
+	 * Count the descendants of the supplied {@link TestIdentifier} that
+	 * {@linkplain TestIdentifier#isContainer() represent containers},
+	 * excluding the supplied identifier itself.
+	 *
+	 * @param parent the identifier to count the descendant containers for;
+	 * never {@code null}
+	 * @return the number of containers in the subtree below the parent
+	 * @since 1.1
+	 * @see #getDescendants(TestIdentifier)
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public long countDescendantContainers(TestIdentifier parent) {
+		Preconditions.notNull(parent, "parent must not be null");
+		synchronized (this.lock) {
+			Children directChildren = children.get(parent.getUniqueId());
+			return directChildren == null ? 0 : directChildren.descendantContainers;
+		}
+	}
+
 	/**
 	 * Get all descendants of the supplied {@link TestIdentifier} (i.e.,
 	 * all of its children and their children, recursively).
 	 *
+	 * <p>The descendants are returned in pre-order, i.e. each identifier is
+	 * directly followed by its own descendants. The returned set is a view of
+	 * a range of an index that is maintained by this test plan; it reflects
+	 * the descendants at the time of the call.
+	 *
 	 * @param parent the identifier to look up the descendants for; never {@code null}
 	 * @return an unmodifiable set of the parent's descendants, potentially empty
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
-		Set<TestIdentifier> result = new LinkedHashSet<>(16);
-		Set<TestIdentifier> children = getChildren(parent);
-		result.addAll(children);
-		for (TestIdentifier child : children) {
-			result.addAll(getDescendants(child));
+		synchronized (this.lock) {
+			Children directChildren = children.get(parent.getUniqueId());
+			if (directChildren == null) {
+				return emptySet();
+			}
+			TestIdentifier[] index = getPreorder();
+			if (directChildren.preorderVersion == this.preorderVersion) {
+				return new Descendants(parent.getUniqueId(), index, directChildren.preorderStart,
+					directChildren.preorderEnd);
+			}
 		}
+		// Not reachable from the roots, e.g. since its parent has not been added
+		Set<TestIdentifier> result = new LinkedHashSet<>(16);
+		collectDescendants(parent, result);
 		return unmodifiableSet(result);
 	}
 
+	private void collectDescendants(TestIdentifier parent, Set<TestIdentifier> result) {
+		for (TestIdentifier child : getChildren(parent)) {
+			result.add(child);
+			collectDescendants(child, result);
+		}
+	}
+
+	private TestIdentifier[] getPreorder() {
+		if (this.preorder == null) {
+			this.preorderVersion++;
+			List<TestIdentifier> identifiers = new ArrayList<>(allIdentifiers.size());
+			synchronized (roots) {
+				roots.forEach(root -> indexPreorder(root, identifiers));
+			}
+			this.preorder = identifiers.toArray(new TestIdentifier[0]);
+		}
+		return this.preorder;
+	}
+
+	private void indexPreorder(TestIdentifier testIdentifier, List<TestIdentifier> identifiers) {
+		identifiers.add(testIdentifier);
+		Children directChildren = children.get(testIdentifier.getUniqueId());
+		if (directChildren != null) {
+			directChildren.preorderStart = identifiers.size();
+			directChildren.forEach(child -> indexPreorder(child, identifiers));
+			directChildren.preorderEnd = identifiers.size();
+			directChildren.preorderVersion = this.preorderVersion;
+		}
+	}
+
 	public boolean containsTests() {
 		return containsTests;
 	}
+
+	/**
+	 * Unmodifiable, insertion-ordered set of the children of a parent, backed
+	 * by an array rather than by a hash table to keep large test plans small.
+	 *
+	 * <p>Since unique IDs are unique across the test plan, membership is
+	 * determined via the parent ID of the identifier in question.
+	 */
+	private class Children extends AbstractSet<TestIdentifier> {
+
+		private final String parentId;
+		private TestIdentifier[] elements = new TestIdentifier[2];
+		private int size;
+
+		// The following fields are guarded by the lock of the enclosing test plan
+		private long descendantTests;
+		private long descendantContainers;
+		private int preorderStart;
+		private int preorderEnd;
+		private int preorderVersion;
+
+		Children(String parentId) {
+			this.parentId = parentId;
+		}
+
+		synchronized void append(TestIdentifier testIdentifier) {
+			if (this.size == this.elements.length) {
+				this.elements = Arrays.copyOf(this.elements, this.size + (this.size >> 1));
+			}
+			this.elements[this.size++] = testIdentifier;
+		}
+
+		@Override
+		public synchronized int size() {
+			return this.size;
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			if (!(obj instanceof TestIdentifier)) {
+				return false;
+			}
+			TestIdentifier testIdentifier = (TestIdentifier) obj;
+			return this.parentId.equals(testIdentifier.getParentId().orElse(null))
+					&& allIdentifiers.containsKey(testIdentifier.getUniqueId());
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			// Elements are only ever appended, so a snapshot of the array and its size is stable
+			TestIdentifier[] snapshot;
+			int snapshotSize;
+			synchronized (this) {
+				snapshot = this.elements;
+				snapshotSize = this.size;
+			}
+			return new Iterator<TestIdentifier>() {
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < snapshotSize;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return snapshot[this.index++];
+				}
+			};
+		}
+
+	}
+
+	/**
+	 * Unmodifiable set of the descendants of an identifier, backed by a range
+	 * of the pre-order index.
+	 *
+	 * <p>Membership is determined by walking up the parent IDs of the
+	 * identifier in question.
+	 */
+	private class Descendants extends AbstractSet<TestIdentifier> {
+
+		private final String ancestorId;
+		private final TestIdentifier[] preorder;
+		private final int start;
+		private final int end;
+
+		Descendants(String ancestorId, TestIdentifier[] preorder, int start, int end) {
+			this.ancestorId = ancestorId;
+			this.preorder = preorder;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public int size() {
+			return this.end - this.start;
+		}
+
+		@Override
+		public boolean contains(Object obj) {
+			if (!(obj instanceof TestIdentifier)) {
+				return false;
+			}
+			TestIdentifier testIdentifier = (TestIdentifier) obj;
+			if (!allIdentifiers.containsKey(testIdentifier.getUniqueId())) {
+				return false;
+			}
+			String parentId = testIdentifier.getParentId().orElse(null);
+			while (parentId != null) {
+				if (parentId.equals(this.ancestorId)) {
+					return true;
+				}
+				TestIdentifier parent = allIdentifiers.get(parentId);
+				parentId = parent == null ? null : parent.getParentId().orElse(null);
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<TestIdentifier>() {
+
+				private int index = start;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < end;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					return preorder[this.index++];
+				}
+			};
+		}
+
+	}
+
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BooleanSupplier;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that hands all events to a bounded queue
+ * which is drained in batches by a dedicated dispatcher thread that notifies
+ * the delegate listener.
+ *
+ * <p>Events are delivered to the delegate in the order in which they were
+ * enqueued. If the queue is full, the reporting thread blocks until the
+ * dispatcher thread has made room; events reported before {@link #close()}
+ * are never dropped. Events reported after the listener has been closed are
+ * logged and dropped. {@link #testPlanExecutionFinished} blocks until all
+ * events, including itself, have been delivered.
+ *
+ * <p>Exceptions thrown by the delegate do not affect the delivery of
+ * subsequent events. Unlike with synchronous listeners, they cannot be
+ * thrown to the caller that reported the event. Instead, the first exception
+ * is rethrown to the caller of {@link #close()}, i.e. from
+ * {@link #testPlanExecutionFinished}, unless a blacklisted exception has been
+ * thrown, which takes precedence. All further exceptions are logged.
+ *
+ * @since 1.1
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENERS_ENABLED_PROPERTY_NAME
+ */
+class AsyncTestExecutionListener implements TestExecutionListener, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncTestExecutionListener.class);
+
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private static final Runnable STOP = () -> {
+	};
+
+	private final TestExecutionListener delegate;
+	private final BlockingQueue<Runnable> queue;
+	private final Thread dispatcherThread;
+
+	/**
+	 * Guards {@link #closed}: events are enqueued while holding the read lock
+	 * and the listener is closed while holding the write lock, so that no
+	 * event can be enqueued after the {@link #STOP} event.
+	 */
+	private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+	private volatile Throwable blacklistedThrowable;
+	private volatile Throwable firstThrowable;
+	private boolean closed;
+
+	AsyncTestExecutionListener(TestExecutionListener delegate, int capacity) {
+		Preconditions.notNull(delegate, "delegate must not be null");
+		Preconditions.condition(capacity > 0, "capacity must be greater than zero");
+		this.delegate = delegate;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.dispatcherThread = new Thread(this::dispatchEvents, "junit-listener-dispatcher");
+		this.dispatcherThread.setDaemon(true);
+		this.dispatcherThread.start();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		enqueue(() -> this.delegate.testPlanExecutionStarted(testPlan));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		enqueue(() -> this.delegate.testPlanExecutionFinished(testPlan));
+		close();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		enqueue(() -> this.delegate.dynamicTestRegistered(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		enqueue(() -> this.delegate.executionSkipped(testIdentifier, reason));
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		enqueue(() -> this.delegate.executionStarted(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		enqueue(() -> this.delegate.executionFinished(testIdentifier, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		enqueue(() -> this.delegate.reportingEntryPublished(testIdentifier, entry));
+	}
+
+	/**
+	 * Deliver all pending events, stop the dispatcher thread, and wait for it
+	 * to terminate.
+	 *
+	 * <p>Calling this method more than once has no effect.
+	 */
+	@Override
+	public synchronized void close() {
+		Lock writeLock = this.closeLock.writeLock();
+		writeLock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			offer(STOP, this.dispatcherThread::isAlive);
+		}
+		finally {
+			writeLock.unlock();
+		}
+		boolean interrupted = false;
+		while (this.dispatcherThread.isAlive()) {
+			try {
+				this.dispatcherThread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		if (this.blacklistedThrowable != null) {
+			throw ExceptionUtils.throwAsUncheckedException(this.blacklistedThrowable);
+		}
+		if (this.firstThrowable != null) {
+			throw ExceptionUtils.throwAsUncheckedException(this.firstThrowable);
+		}
+	}
+
+	private void enqueue(Runnable event) {
+		Lock readLock = this.closeLock.readLock();
+		readLock.lock();
+		try {
+			// Once closed, the STOP event has been enqueued so that the event would never be delivered
+			if (this.closed || !offer(event, this.dispatcherThread::isAlive)) {
+				logger.warn(() -> "Dropping event reported after TestExecutionListener has been closed");
+			}
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	/**
+	 * Offer the supplied event to the queue, retrying as long as the supplied
+	 * condition holds.
+	 *
+	 * <p>Waiting for room in the queue is not interruptible since events must
+	 * not be dropped, but it is bounded by the supplied condition so that the
+	 * calling thread never blocks forever once the dispatcher thread has been
+	 * stopped.
+	 *
+	 * @return {@code true} if the event was enqueued
+	 */
+	private boolean offer(Runnable event, BooleanSupplier keepTrying) {
+		boolean interrupted = false;
+		try {
+			while (true) {
+				try {
+					if (this.queue.offer(event, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+					if (!keepTrying.getAsBoolean()) {
+						return false;
+					}
+				}
+				catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		}
+		finally {
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void dispatchEvents() {
+		List<Runnable> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(this.queue.take());
+			}
+			catch (InterruptedException e) {
+				// The dispatcher thread only terminates once it has received the STOP event
+				continue;
+			}
+			this.queue.drainTo(batch);
+			for (Runnable event : batch) {
+				if (event == STOP) {
+					return;
+				}
+				dispatch(event);
+			}
+			batch.clear();
+		}
+	}
+
+	private void dispatch(Runnable event) {
+		try {
+			event.run();
+		}
+		catch (Throwable throwable) {
+			// Only the dispatcher thread writes these fields
+			if (BlacklistedExceptions.isBlacklisted(throwable)) {
+				if (this.blacklistedThrowable == null) {
+					this.blacklistedThrowable = throwable;
+					return;
+				}
+			}
+			else if (this.firstThrowable == null) {
+				this.firstThrowable = throwable;
+				return;
+			}
+			logger.warn(throwable, () -> "TestExecutionListener threw an exception while handling an event");
+		}
+	}
+
+}
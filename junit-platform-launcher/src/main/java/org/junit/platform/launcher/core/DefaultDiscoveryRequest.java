@@ -12,8 +12,11 @@ package org.junit.platform.launcher.core;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Stream.concat;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -38,7 +41,8 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 	// Filters based on engines
 	private final List<EngineFilter> engineFilters;
 
-	// Discovery filters are handed through to all engines to be applied during discovery.
+	// Discovery filters are handed through to all engines to be applied during discovery,
+	// along with the discovery filters offered by post-discovery filters.
 	private final List<DiscoveryFilter<?>> discoveryFilters;
 
 	// Descriptor filters are applied by the launcher itself after engines have performed discovery.
@@ -71,7 +75,16 @@ final class DefaultDiscoveryRequest implements LauncherDiscoveryRequest {
 	@Override
 	public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
 		Preconditions.notNull(filterType, "filterType must not be null");
-		return this.discoveryFilters.stream().filter(filterType::isInstance).map(filterType::cast).collect(toList());
+		// @formatter:off
+		Stream<DiscoveryFilter<?>> offeredFilters = this.postDiscoveryFilters.stream()
+				.map(PostDiscoveryFilter::toDiscoveryFilter)
+				.filter(Optional::isPresent)
+				.map(Optional::get);
+		return concat(this.discoveryFilters.stream(), offeredFilters)
+				.filter(filterType::isInstance)
+				.map(filterType::cast)
+				.collect(toList());
+		// @formatter:on
 	}
 
 	@Override
@@ -10,14 +10,32 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Collections.synchronizedMap;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveInt;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
+
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.ExecutionRequest;
@@ -43,9 +61,19 @@ class DefaultLauncher implements Launcher {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultLauncher.class);
 
+	private static final int DEFAULT_ASYNC_LISTENERS_QUEUE_CAPACITY = 1024;
+
 	private final TestExecutionListenerRegistry listenerRegistry = new TestExecutionListenerRegistry();
 	private final Iterable<TestEngine> testEngines;
 
+	/**
+	 * Results of the discovery of the test plans returned by
+	 * {@link #discover}, so that they can be executed without discovering the
+	 * tests again; entries are released once their test plan has been
+	 * executed or is no longer referenced.
+	 */
+	private final Map<TestPlan, DiscoveryResult> discoveryResults = synchronizedMap(new WeakHashMap<>());
+
 	/**
 	 * Construct a new {@code DefaultLauncher} with the supplied test engines.
 	 *
@@ -79,7 +107,10 @@ class DefaultLauncher implements Launcher {
 	@Override
 	public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
-		return TestPlan.from(discoverRoot(discoveryRequest, "discovery").getEngineDescriptors());
+		Root root = discoverRoot(discoveryRequest, "discovery");
+		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
+		this.discoveryResults.put(testPlan, new DiscoveryResult(root, discoveryRequest.getConfigurationParameters()));
+		return testPlan;
 	}
 
 	@Override
@@ -87,7 +118,25 @@ class DefaultLauncher implements Launcher {
 		Preconditions.notNull(discoveryRequest, "LauncherDiscoveryRequest must not be null");
 		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
 		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
-		execute(discoverRoot(discoveryRequest, "execution"), discoveryRequest.getConfigurationParameters(), listeners);
+		Root root = discoverRoot(discoveryRequest, "execution");
+		execute(TestPlan.from(root.getEngineDescriptors()), root, discoveryRequest.getConfigurationParameters(),
+			listeners);
+	}
+
+	@Override
+	public void execute(TestPlan testPlan, TestExecutionListener... listeners) {
+		Preconditions.notNull(testPlan, "TestPlan must not be null");
+		Preconditions.notNull(listeners, "TestExecutionListener array must not be null");
+		Preconditions.containsNoNullElements(listeners, "individual listeners must not be null");
+		DiscoveryResult discoveryResult;
+		synchronized (this.discoveryResults) {
+			Preconditions.condition(this.discoveryResults.containsKey(testPlan),
+				"TestPlan must have been created by a call to discover() on this Launcher");
+			// Keep the key so that a second execution can be reported as such
+			discoveryResult = this.discoveryResults.put(testPlan, null);
+		}
+		Preconditions.notNull(discoveryResult, "TestPlan must only be executed once");
+		execute(testPlan, discoveryResult.root, discoveryResult.configurationParameters, listeners);
 	}
 
 	TestExecutionListenerRegistry getTestExecutionListenerRegistry() {
@@ -95,7 +144,9 @@ class DefaultLauncher implements Launcher {
 	}
 
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
-		Root root = new Root();
+		// Validate the sharding configuration before spending time on discovery
+		Optional<TestPlanSharding> sharding = TestPlanSharding.from(discoveryRequest.getConfigurationParameters());
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
@@ -110,20 +161,84 @@ class DefaultLauncher implements Launcher {
 					testEngine.getId(), phase));
 				continue;
 			}
+			includedTestEngines.add(testEngine);
+		}
 
-			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
-				testEngine.getId()));
+		Optional<DiscoveryCache> discoveryCache = DiscoveryCache.create(discoveryRequest, includedTestEngines);
+		LauncherDiscoveryRequest engineDiscoveryRequest = discoveryCache.isPresent()
+				? discoveryCache.get().apply(discoveryRequest)
+				: discoveryRequest;
 
-			Optional<TestDescriptor> engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
-			engineRoot.ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
+		List<Optional<TestDescriptor>> engineRoots;
+		int parallelism = Math.min(getPositiveInt(discoveryRequest.getConfigurationParameters(),
+			DISCOVERY_PARALLELISM_PROPERTY_NAME, 1), includedTestEngines.size());
+		if (parallelism > 1) {
+			engineRoots = discoverEngineRootsConcurrently(includedTestEngines, engineDiscoveryRequest, phase,
+				parallelism);
+		}
+		else {
+			// @formatter:off
+			engineRoots = includedTestEngines.stream()
+					.map(testEngine -> discoverEngineRoot(testEngine, engineDiscoveryRequest, phase))
+					.collect(toList());
+			// @formatter:on
+		}
+		if (discoveryCache.isPresent()) {
+			discoveryCache.get().store(includedTestEngines, engineRoots);
+		}
+
+		// Assemble the root in registration order regardless of the order in which engines finished discovery
+		Root root = new Root();
+		for (int i = 0; i < includedTestEngines.size(); i++) {
+			TestEngine testEngine = includedTestEngines.get(i);
+			engineRoots.get(i).ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
 		}
 		root.applyPostDiscoveryFilters(discoveryRequest);
 		root.prune();
+		sharding.ifPresent(testPlanSharding -> {
+			testPlanSharding.apply(root);
+			root.prune();
+		});
 		return root;
 	}
 
+	private List<Optional<TestDescriptor>> discoverEngineRootsConcurrently(List<TestEngine> testEngines,
+			LauncherDiscoveryRequest discoveryRequest, String phase, int parallelism) {
+
+		// Engines typically load classes via the context class loader, so it is propagated to the worker threads
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		ExecutorService executorService = Executors.newFixedThreadPool(parallelism,
+			new DiscoveryThreadFactory(contextClassLoader));
+		try {
+			// @formatter:off
+			List<Future<Optional<TestDescriptor>>> futures = testEngines.stream()
+					.map(testEngine -> executorService.submit(() -> discoverEngineRoot(testEngine, discoveryRequest, phase)))
+					.collect(toList());
+			// @formatter:on
+			List<Optional<TestDescriptor>> engineRoots = new ArrayList<>(futures.size());
+			for (Future<Optional<TestDescriptor>> future : futures) {
+				engineRoots.add(future.get());
+			}
+			return engineRoots;
+		}
+		catch (ExecutionException ex) {
+			// Only blacklisted exceptions are rethrown by discoverEngineRoot()
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(ex);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
 	private Optional<TestDescriptor> discoverEngineRoot(TestEngine testEngine,
-			LauncherDiscoveryRequest discoveryRequest) {
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+
+		logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
+			testEngine.getId()));
 
 		UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
 		try {
@@ -140,15 +255,28 @@ class DefaultLauncher implements Launcher {
 		}
 	}
 
-	private void execute(Root root, ConfigurationParameters configurationParameters,
+	private void execute(TestPlan testPlan, Root root, ConfigurationParameters configurationParameters,
 			TestExecutionListener... listeners) {
 
 		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
-		TestPlan testPlan = TestPlan.from(root.getEngineDescriptors());
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+		TestExecutionListener compositeListener = listenerRegistry.getCompositeTestExecutionListener();
+		if (!configurationParameters.getBoolean(ASYNC_LISTENERS_ENABLED_PROPERTY_NAME).orElse(false)) {
+			execute(root, testPlan, configurationParameters, compositeListener);
+			return;
+		}
+		int capacity = getPositiveInt(configurationParameters, ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME,
+			DEFAULT_ASYNC_LISTENERS_QUEUE_CAPACITY);
+		try (AsyncTestExecutionListener asyncListener = new AsyncTestExecutionListener(compositeListener, capacity)) {
+			execute(root, testPlan, configurationParameters, asyncListener);
+		}
+	}
+
+	private void execute(Root root, TestPlan testPlan, ConfigurationParameters configurationParameters,
+			TestExecutionListener testExecutionListener) {
+
 		testExecutionListener.testPlanExecutionStarted(testPlan);
 		ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(testPlan,
-			testExecutionListener);
+			root.getEngineDescriptors(), testExecutionListener);
 		for (TestEngine testEngine : root.getTestEngines()) {
 			TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
 			execute(testEngine, new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
@@ -180,4 +308,33 @@ class DefaultLauncher implements Launcher {
 		BlacklistedExceptions.rethrowIfBlacklisted(throwable);
 	}
 
+	private static class DiscoveryResult {
+
+		private final Root root;
+		private final ConfigurationParameters configurationParameters;
+
+		DiscoveryResult(Root root, ConfigurationParameters configurationParameters) {
+			this.root = root;
+			this.configurationParameters = configurationParameters;
+		}
+	}
+
+	private static class DiscoveryThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadNumber = new AtomicInteger(1);
+		private final ClassLoader contextClassLoader;
+
+		DiscoveryThreadFactory(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "junit-discovery-" + this.threadNumber.getAndIncrement());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
+	}
+
 }
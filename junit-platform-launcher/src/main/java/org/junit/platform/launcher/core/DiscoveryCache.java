@@ -0,0 +1,573 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ClassLoaderUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.DiscoveryFilter;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.Filter;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Persistent cache of the results of scanning classpath roots for tests.
+ *
+ * <p>Test descriptors are engine-specific and cannot be recreated without
+ * the engine that created them. Instead, the cache stores the unique IDs of
+ * the top-level descriptors each engine discovered in a classpath root,
+ * keyed by a fingerprint of the root. If the fingerprint of a root has not
+ * changed since the last run, the {@link ClasspathRootSelector} for the root
+ * is replaced by {@linkplain DiscoverySelectors#selectUniqueId(String)
+ * unique ID selectors} for the cached IDs so that engines do not have to
+ * scan it again. Roots whose fingerprint has changed are scanned as usual.
+ *
+ * <p>The cache is only used for requests that consist solely of classpath
+ * root selectors. Its entries are stored per request signature, which
+ * covers the included engines, the selected classpath roots, the
+ * {@linkplain EngineFilter engine filters} and
+ * {@linkplain DiscoveryFilter discovery filters}, all configuration
+ * parameters, and fingerprints of all other entries of the effective
+ * classpath. JAR files are fingerprinted by their size and modification
+ * time; directories by a hash of the contents of their class files. Filters
+ * are described by their {@link Object#toString() toString()}
+ * representation, which is only known to reflect their complete state for
+ * the filter types provided by the JUnit Platform; if the request contains a
+ * filter of any other type, the cache is not used.
+ *
+ * @since 1.1
+ * @see org.junit.platform.launcher.LauncherConstants#DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME
+ */
+class DiscoveryCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(DiscoveryCache.class);
+
+	private static final int FORMAT_VERSION = 3;
+
+	/**
+	 * Names of the filter types whose {@code toString()} representation
+	 * includes all of their configuration, e.g. their patterns.
+	 */
+	private static final Set<String> DESCRIBABLE_FILTER_TYPES = Collections.unmodifiableSet(
+		new HashSet<>(Arrays.asList(EngineFilter.class.getName(), //
+			"org.junit.platform.engine.discovery.IncludeClassNameFilter", //
+			"org.junit.platform.engine.discovery.ExcludeClassNameFilter", //
+			"org.junit.platform.engine.discovery.IncludePackageNameFilter", //
+			"org.junit.platform.engine.discovery.ExcludePackageNameFilter", //
+			"org.junit.platform.engine.discovery.IncludeTestTagFilter", //
+			"org.junit.platform.engine.discovery.ExcludeTestTagFilter")));
+
+	private final Path cacheFile;
+	private final String requestSignature;
+	private final List<String> engineIds;
+	private final Map<URI, String> fingerprints;
+	private final Map<URI, Map<String, List<String>>> cachedUniqueIds;
+
+	/**
+	 * Create a cache for the supplied request, if the cache is enabled and
+	 * applicable to the request.
+	 */
+	static Optional<DiscoveryCache> create(LauncherDiscoveryRequest discoveryRequest,
+			List<TestEngine> testEngines) {
+
+		ConfigurationParameters configurationParameters = discoveryRequest.getConfigurationParameters();
+		Optional<String> directory = configurationParameters.get(DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME);
+		if (!directory.isPresent() || directory.get().trim().isEmpty()) {
+			return Optional.empty();
+		}
+		List<DiscoverySelector> selectors = discoveryRequest.getSelectorsByType(DiscoverySelector.class);
+		if (selectors.isEmpty() || !selectors.stream().allMatch(ClasspathRootSelector.class::isInstance)) {
+			logger.debug(() -> "Discovery cache is only used for requests that exclusively select classpath roots.");
+			return Optional.empty();
+		}
+		try {
+			List<String> engineIds = testEngines.stream().map(TestEngine::getId).collect(toList());
+			Optional<String> requestDescription = describeRequest(discoveryRequest, engineIds);
+			if (!requestDescription.isPresent()) {
+				return Optional.empty();
+			}
+			String requestSignature = sha256(requestDescription.get());
+			Path cacheFile = Paths.get(directory.get().trim()).resolve(
+				"discovery-" + requestSignature.substring(0, 16) + ".cache");
+			DiscoveryCache cache = new DiscoveryCache(cacheFile, requestSignature, engineIds);
+			for (ClasspathRootSelector selector : discoveryRequest.getSelectorsByType(
+				ClasspathRootSelector.class)) {
+				URI root = selector.getClasspathRoot();
+				cache.fingerprints.put(root, fingerprint(Paths.get(root)));
+			}
+			cache.load();
+			return Optional.of(cache);
+		}
+		catch (Throwable t) {
+			BlacklistedExceptions.rethrowIfBlacklisted(t);
+			logger.warn(t, () -> "Failed to initialize discovery cache; discovering tests without it.");
+			return Optional.empty();
+		}
+	}
+
+	private DiscoveryCache(Path cacheFile, String requestSignature, List<String> engineIds) {
+		this.cacheFile = cacheFile;
+		this.requestSignature = requestSignature;
+		this.engineIds = engineIds;
+		this.fingerprints = new LinkedHashMap<>();
+		this.cachedUniqueIds = new HashMap<>();
+	}
+
+	/**
+	 * Get a request equivalent to the supplied one in which the selectors for
+	 * all classpath roots with a valid cache entry have been replaced by
+	 * unique ID selectors for the cached top-level descriptors.
+	 */
+	LauncherDiscoveryRequest apply(LauncherDiscoveryRequest discoveryRequest) {
+		if (this.cachedUniqueIds.isEmpty()) {
+			return discoveryRequest;
+		}
+		List<DiscoverySelector> selectors = new ArrayList<>();
+		for (ClasspathRootSelector selector : discoveryRequest.getSelectorsByType(ClasspathRootSelector.class)) {
+			Map<String, List<String>> uniqueIdsByEngine = this.cachedUniqueIds.get(selector.getClasspathRoot());
+			if (uniqueIdsByEngine == null) {
+				selectors.add(selector);
+				continue;
+			}
+			logger.debug(() -> String.format("Using cached discovery results for classpath root '%s'.",
+				selector.getClasspathRoot()));
+			// @formatter:off
+			uniqueIdsByEngine.values().stream()
+					.flatMap(Collection::stream)
+					.map(DiscoverySelectors::selectUniqueId)
+					.forEach(selectors::add);
+			// @formatter:on
+		}
+		return new CachedDiscoveryRequest(discoveryRequest, selectors);
+	}
+
+	/**
+	 * Store the unique IDs of the top-level descriptors discovered by the
+	 * supplied engines, grouped by the classpath root they originate from.
+	 *
+	 * <p>If a top-level descriptor cannot be attributed to exactly one of the
+	 * selected classpath roots, nothing is stored. The cache file is only
+	 * written if its entries have changed.
+	 */
+	void store(List<TestEngine> testEngines, List<Optional<TestDescriptor>> engineRoots) {
+		Map<URI, Map<String, List<String>>> entries = new LinkedHashMap<>();
+		this.fingerprints.forEach((root, fingerprint) -> {
+			if (fingerprint != null) {
+				Map<String, List<String>> uniqueIdsByEngine = new LinkedHashMap<>();
+				this.engineIds.forEach(engineId -> uniqueIdsByEngine.put(engineId, new ArrayList<>()));
+				entries.put(root, uniqueIdsByEngine);
+			}
+		});
+		for (int i = 0; i < testEngines.size(); i++) {
+			if (!engineRoots.get(i).isPresent()) {
+				// Discovery failed, so the results of this engine are incomplete
+				return;
+			}
+			String engineId = testEngines.get(i).getId();
+			for (TestDescriptor descriptor : engineRoots.get(i).get().getChildren()) {
+				Optional<URI> root = determineClasspathRoot(descriptor);
+				if (!root.isPresent()) {
+					logger.debug(() -> String.format(
+						"Not updating discovery cache: cannot determine classpath root of '%s'.",
+						descriptor.getUniqueId()));
+					return;
+				}
+				Map<String, List<String>> uniqueIdsByEngine = entries.get(root.get());
+				if (uniqueIdsByEngine != null) {
+					uniqueIdsByEngine.get(engineId).add(descriptor.getUniqueId().toString());
+				}
+			}
+		}
+		if (entries.equals(this.cachedUniqueIds)) {
+			logger.debug(() -> String.format("Discovery cache file '%s' is up to date.", this.cacheFile));
+			return;
+		}
+		try {
+			write(entries);
+		}
+		catch (IOException e) {
+			logger.warn(e, () -> String.format("Failed to write discovery cache file '%s'.", this.cacheFile));
+		}
+	}
+
+	private Optional<URI> determineClasspathRoot(TestDescriptor descriptor) {
+		Optional<TestSource> source = descriptor.getSource();
+		if (!source.isPresent() || !(source.get() instanceof ClassSource)) {
+			return Optional.empty();
+		}
+		try {
+			CodeSource codeSource = ((ClassSource) source.get()).getJavaClass().getProtectionDomain().getCodeSource();
+			if (codeSource == null || codeSource.getLocation() == null) {
+				return Optional.empty();
+			}
+			Path location = Paths.get(codeSource.getLocation().toURI());
+			// @formatter:off
+			return this.fingerprints.keySet().stream()
+					.filter(root -> isSameFile(Paths.get(root), location))
+					.findFirst();
+			// @formatter:on
+		}
+		catch (Exception e) {
+			return Optional.empty();
+		}
+	}
+
+	private void load() throws IOException {
+		if (!Files.isRegularFile(this.cacheFile)) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(
+			new BufferedInputStream(Files.newInputStream(this.cacheFile)))) {
+			if (in.readInt() != FORMAT_VERSION || !this.requestSignature.equals(in.readUTF())) {
+				return;
+			}
+			int rootCount = in.readInt();
+			for (int i = 0; i < rootCount; i++) {
+				URI root = URI.create(in.readUTF());
+				String fingerprint = in.readUTF();
+				Map<String, List<String>> uniqueIdsByEngine = new LinkedHashMap<>();
+				int engineCount = in.readInt();
+				for (int j = 0; j < engineCount; j++) {
+					String engineId = in.readUTF();
+					int uniqueIdCount = in.readInt();
+					List<String> uniqueIds = new ArrayList<>(uniqueIdCount);
+					for (int k = 0; k < uniqueIdCount; k++) {
+						uniqueIds.add(in.readUTF());
+					}
+					uniqueIdsByEngine.put(engineId, uniqueIds);
+				}
+				if (fingerprint.equals(this.fingerprints.get(root))
+						&& uniqueIdsByEngine.keySet().containsAll(this.engineIds)) {
+					this.cachedUniqueIds.put(root, uniqueIdsByEngine);
+				}
+			}
+		}
+	}
+
+	private void write(Map<URI, Map<String, List<String>>> entries) throws IOException {
+		Files.createDirectories(this.cacheFile.getParent());
+		Path tempFile = Files.createTempFile(this.cacheFile.getParent(), "discovery-", ".tmp");
+		try {
+			try (DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+				out.writeInt(FORMAT_VERSION);
+				out.writeUTF(this.requestSignature);
+				out.writeInt(entries.size());
+				for (Map.Entry<URI, Map<String, List<String>>> entry : entries.entrySet()) {
+					out.writeUTF(entry.getKey().toString());
+					out.writeUTF(this.fingerprints.get(entry.getKey()));
+					out.writeInt(entry.getValue().size());
+					for (Map.Entry<String, List<String>> engineEntry : entry.getValue().entrySet()) {
+						out.writeUTF(engineEntry.getKey());
+						out.writeInt(engineEntry.getValue().size());
+						for (String uniqueId : engineEntry.getValue()) {
+							out.writeUTF(uniqueId);
+						}
+					}
+				}
+			}
+			Files.move(tempFile, this.cacheFile, REPLACE_EXISTING, ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	/**
+	 * Describe all aspects of the supplied request apart from its selectors
+	 * that influence which tests are discovered in its classpath roots.
+	 *
+	 * @return the description, or empty if the request cannot be described
+	 * reliably
+	 */
+	private static Optional<String> describeRequest(LauncherDiscoveryRequest discoveryRequest,
+			List<String> engineIds) throws IOException, NoSuchAlgorithmException {
+
+		ConfigurationParameters configurationParameters = discoveryRequest.getConfigurationParameters();
+		if (!(configurationParameters instanceof LauncherConfigurationParameters)) {
+			logger.debug(() -> "Discovery cache is only used for configuration parameters created by the launcher.");
+			return Optional.empty();
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		List<DiscoveryFilter<?>> discoveryFilters = (List) discoveryRequest.getFiltersByType(DiscoveryFilter.class);
+		List<Filter<?>> filters = new ArrayList<>(discoveryRequest.getEngineFilters());
+		filters.addAll(discoveryFilters);
+		List<String> filterDescriptions = new ArrayList<>();
+		for (Filter<?> filter : filters) {
+			String filterType = filter.getClass().getName();
+			if (!DESCRIBABLE_FILTER_TYPES.contains(filterType)) {
+				logger.debug(() -> String.format(
+					"Discovery cache is not used since the state of filter type '%s' cannot be described.",
+					filterType));
+				return Optional.empty();
+			}
+			filterDescriptions.add(filterType + ":" + filter);
+		}
+		filterDescriptions.sort(null);
+
+		Set<Path> roots = new LinkedHashSet<>();
+		for (ClasspathRootSelector selector : discoveryRequest.getSelectorsByType(ClasspathRootSelector.class)) {
+			roots.add(normalize(Paths.get(selector.getClasspathRoot())));
+		}
+
+		StringBuilder description = new StringBuilder();
+		description.append("engines=").append(String.join(",", engineIds)).append('\n');
+		description.append("filters=").append(String.join(",", filterDescriptions)).append('\n');
+		((LauncherConfigurationParameters) configurationParameters).getAll().forEach(
+			(key, value) -> description.append("parameter:").append(key).append('=').append(value).append('\n'));
+		for (Path root : roots) {
+			description.append("root:").append(root).append('\n');
+		}
+		for (Path entry : determineClasspathEntries()) {
+			if (!roots.contains(entry)) {
+				description.append("classpath:").append(entry).append('=').append(
+					fingerprintClasspathEntry(entry)).append('\n');
+			}
+		}
+		return Optional.of(description.toString());
+	}
+
+	/**
+	 * Determine the entries of the effective classpath, i.e. the system
+	 * classpath and the URLs of all {@link URLClassLoader URLClassLoaders}
+	 * in the hierarchy of the default class loader.
+	 */
+	private static Set<Path> determineClasspathEntries() {
+		Set<Path> entries = new LinkedHashSet<>();
+		for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+			if (!entry.isEmpty()) {
+				entries.add(normalize(Paths.get(entry)));
+			}
+		}
+		for (ClassLoader classLoader = ClassLoaderUtils.getDefaultClassLoader(); classLoader != null;
+				classLoader = classLoader.getParent()) {
+			if (classLoader instanceof URLClassLoader) {
+				for (URL url : ((URLClassLoader) classLoader).getURLs()) {
+					if ("file".equals(url.getProtocol())) {
+						try {
+							entries.add(normalize(Paths.get(url.toURI())));
+						}
+						catch (URISyntaxException e) {
+							entries.add(normalize(Paths.get(url.getPath())));
+						}
+					}
+				}
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Compute a fingerprint of the supplied classpath entry.
+	 *
+	 * <p>Files, e.g. JARs, are fingerprinted by their size and modification
+	 * time, which is cheap even for large classpaths. Directories are
+	 * fingerprinted by a hash of the relative paths and contents of their
+	 * class files, since build tools frequently touch them without changing
+	 * their contents and vice versa.
+	 */
+	private static String fingerprintClasspathEntry(Path entry) throws IOException, NoSuchAlgorithmException {
+		if (!Files.isDirectory(entry)) {
+			String fingerprint = fingerprint(entry);
+			if (fingerprint == null) {
+				throw new IOException("Failed to compute fingerprint of classpath entry " + entry);
+			}
+			return fingerprint;
+		}
+		List<Path> classFiles;
+		try (Stream<Path> files = Files.walk(entry)) {
+			// @formatter:off
+			classFiles = files
+					.filter(file -> file.getFileName().toString().endsWith(".class"))
+					.filter(Files::isRegularFile)
+					.sorted()
+					.collect(toList());
+			// @formatter:on
+		}
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		byte[] buffer = new byte[8192];
+		for (Path classFile : classFiles) {
+			digest.update(entry.relativize(classFile).toString().getBytes(UTF_8));
+			try (InputStream in = Files.newInputStream(classFile)) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					digest.update(buffer, 0, read);
+				}
+			}
+		}
+		return "classes:" + classFiles.size() + ":" + toHexString(digest.digest());
+	}
+
+	private static Path normalize(Path path) {
+		return path.toAbsolutePath().normalize();
+	}
+
+	/**
+	 * Compute a fingerprint of the supplied classpath root that changes
+	 * whenever a file below it is added, removed, or modified.
+	 *
+	 * @return the fingerprint, or {@code null} if it cannot be computed
+	 */
+	private static String fingerprint(Path root) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(root, BasicFileAttributes.class);
+			if (!attributes.isDirectory()) {
+				return "file:" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+			}
+			long[] countSizeAndLastModified = new long[3];
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					record(attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+					record(attrs);
+					return FileVisitResult.CONTINUE;
+				}
+
+				private void record(BasicFileAttributes attrs) {
+					countSizeAndLastModified[0]++;
+					countSizeAndLastModified[1] += attrs.isDirectory() ? 0 : attrs.size();
+					countSizeAndLastModified[2] = Math.max(countSizeAndLastModified[2],
+						attrs.lastModifiedTime().toMillis());
+				}
+			});
+			return "dir:" + countSizeAndLastModified[0] + ":" + countSizeAndLastModified[1] + ":"
+					+ countSizeAndLastModified[2];
+		}
+		catch (NoSuchFileException e) {
+			return "missing";
+		}
+		catch (IOException e) {
+			logger.debug(e, () -> String.format("Failed to compute fingerprint of classpath root '%s'.", root));
+			return null;
+		}
+	}
+
+	private static boolean isSameFile(Path root, Path location) {
+		try {
+			return Files.isSameFile(root, location);
+		}
+		catch (IOException e) {
+			return false;
+		}
+	}
+
+	private static String sha256(String value) throws NoSuchAlgorithmException {
+		return toHexString(MessageDigest.getInstance("SHA-256").digest(value.getBytes(UTF_8)));
+	}
+
+	private static String toHexString(byte[] digest) {
+		StringBuilder builder = new StringBuilder();
+		for (byte b : digest) {
+			builder.append(String.format("%02x", b));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * {@link LauncherDiscoveryRequest} that replaces the selectors of another
+	 * request.
+	 */
+	private static class CachedDiscoveryRequest implements LauncherDiscoveryRequest {
+
+		private final LauncherDiscoveryRequest delegate;
+		private final List<DiscoverySelector> selectors;
+
+		CachedDiscoveryRequest(LauncherDiscoveryRequest delegate, List<DiscoverySelector> selectors) {
+			this.delegate = delegate;
+			this.selectors = selectors;
+		}
+
+		@Override
+		public <T extends DiscoverySelector> List<T> getSelectorsByType(Class<T> selectorType) {
+			return this.selectors.stream().filter(selectorType::isInstance).map(selectorType::cast).collect(toList());
+		}
+
+		@Override
+		public <T extends DiscoveryFilter<?>> List<T> getFiltersByType(Class<T> filterType) {
+			return this.delegate.getFiltersByType(filterType);
+		}
+
+		@Override
+		public ConfigurationParameters getConfigurationParameters() {
+			return this.delegate.getConfigurationParameters();
+		}
+
+		@Override
+		public List<EngineFilter> getEngineFilters() {
+			return this.delegate.getEngineFilters();
+		}
+
+		@Override
+		public List<PostDiscoveryFilter> getPostDiscoveryFilters() {
+			return this.delegate.getPostDiscoveryFilters();
+		}
+
+	}
+
+}
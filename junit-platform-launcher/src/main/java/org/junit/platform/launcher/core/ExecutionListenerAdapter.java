@@ -10,6 +10,13 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedMap;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
@@ -22,6 +29,14 @@ import org.junit.platform.launcher.TestPlan;
  * An {@code ExecutionListenerAdapter} adapts a {@link TestPlan} and a corresponding
  * {@link TestExecutionListener} to the {@link EngineExecutionListener} API.
  *
+ * <p>The descriptors of the supplied engine descriptors and their
+ * descendants, as well as dynamic tests until they have completed, are
+ * mapped to their identifiers by identity so that events can be dispatched
+ * without formatting and looking up unique IDs. All other descriptors are
+ * looked up by their unique ID. An adapter is only used for a single
+ * execution, so the mapping is released along with it once the execution
+ * has finished.
+ *
  * @since 1.0
  */
 class ExecutionListenerAdapter implements EngineExecutionListener {
@@ -29,15 +44,32 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 	private final TestPlan testPlan;
 	private final TestExecutionListener testExecutionListener;
 
+	// Only modified during construction
+	private final Map<TestDescriptor, TestIdentifier> discoveredIdentifiers = new IdentityHashMap<>();
+
+	// Dynamic tests may be registered concurrently and are removed once
+	// finished or skipped so that their descriptors are not retained
+	private final Map<TestDescriptor, TestIdentifier> dynamicIdentifiers = synchronizedMap(new IdentityHashMap<>());
+
 	ExecutionListenerAdapter(TestPlan testPlan, TestExecutionListener testExecutionListener) {
+		this(testPlan, emptyList(), testExecutionListener);
+	}
+
+	ExecutionListenerAdapter(TestPlan testPlan, Collection<? extends TestDescriptor> engineDescriptors,
+			TestExecutionListener testExecutionListener) {
 		this.testPlan = testPlan;
 		this.testExecutionListener = testExecutionListener;
+		for (TestDescriptor engineDescriptor : engineDescriptors) {
+			engineDescriptor.accept(descriptor -> this.discoveredIdentifiers.put(descriptor,
+				testPlan.getTestIdentifier(descriptor.getUniqueId().toString())));
+		}
 	}
 
 	@Override
 	public void dynamicTestRegistered(TestDescriptor testDescriptor) {
 		TestIdentifier testIdentifier = TestIdentifier.from(testDescriptor);
 		this.testPlan.add(testIdentifier);
+		this.dynamicIdentifiers.put(testDescriptor, testIdentifier);
 		this.testExecutionListener.dynamicTestRegistered(testIdentifier);
 	}
 
@@ -49,11 +81,13 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 	@Override
 	public void executionSkipped(TestDescriptor testDescriptor, String reason) {
 		this.testExecutionListener.executionSkipped(getTestIdentifier(testDescriptor), reason);
+		completed(testDescriptor);
 	}
 
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
 		this.testExecutionListener.executionFinished(getTestIdentifier(testDescriptor), testExecutionResult);
+		completed(testDescriptor);
 	}
 
 	@Override
@@ -61,8 +95,26 @@ class ExecutionListenerAdapter implements EngineExecutionListener {
 		this.testExecutionListener.reportingEntryPublished(getTestIdentifier(testDescriptor), entry);
 	}
 
+	boolean containsDynamicTest(TestDescriptor testDescriptor) {
+		return this.dynamicIdentifiers.containsKey(testDescriptor);
+	}
+
 	private TestIdentifier getTestIdentifier(TestDescriptor testDescriptor) {
-		return this.testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+		TestIdentifier testIdentifier = this.discoveredIdentifiers.get(testDescriptor);
+		if (testIdentifier == null) {
+			testIdentifier = this.dynamicIdentifiers.get(testDescriptor);
+		}
+		if (testIdentifier == null) {
+			testIdentifier = this.testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+		}
+		return testIdentifier;
+	}
+
+	private void completed(TestDescriptor testDescriptor) {
+		// Avoid synchronizing on the dynamic identifiers for discovered tests
+		if (!this.discoveredIdentifiers.containsKey(testDescriptor)) {
+			this.dynamicIdentifiers.remove(testDescriptor);
+		}
 	}
 
 }
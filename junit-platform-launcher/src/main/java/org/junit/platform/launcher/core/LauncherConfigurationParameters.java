@@ -17,6 +17,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeMap;
 
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -97,6 +98,29 @@ class LauncherConfigurationParameters implements ConfigurationParameters {
 		return this.explicitConfigParams.size();
 	}
 
+	/**
+	 * Get all configuration parameters that are set explicitly or via the
+	 * configuration file, along with all JVM system properties whose keys
+	 * start with {@code junit.}, sorted by key.
+	 *
+	 * <p>Values are resolved with the same precedence as {@link #get(String)}.
+	 */
+	Map<String, String> getAll() {
+		Map<String, String> all = new TreeMap<>();
+		this.configParamsFromFile.stringPropertyNames().forEach(
+			key -> all.put(key, this.configParamsFromFile.getProperty(key)));
+		try {
+			System.getProperties().stringPropertyNames().stream() //
+					.filter(key -> key.startsWith("junit.")) //
+					.forEach(key -> all.put(key, System.getProperty(key)));
+		}
+		catch (Exception ex) {
+			/* ignore */
+		}
+		all.putAll(this.explicitConfigParams);
+		return all;
+	}
+
 	private String getProperty(String key) {
 		Preconditions.notBlank(key, "key must not be null or blank");
 
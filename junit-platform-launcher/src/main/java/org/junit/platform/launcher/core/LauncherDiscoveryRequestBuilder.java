@@ -10,7 +10,9 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.launcher.LauncherConstants.MAX_FAILURES_PROPERTY_NAME;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -25,6 +27,7 @@ import org.junit.platform.engine.DiscoveryFilter;
 import org.junit.platform.engine.DiscoverySelector;
 import org.junit.platform.engine.Filter;
 import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherConstants;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 
@@ -169,6 +172,30 @@ public final class LauncherDiscoveryRequestBuilder {
 		return this;
 	}
 
+	/**
+	 * Set the maximum number of failures after which each engine skips its
+	 * remaining tests.
+	 *
+	 * <p>This is a shortcut for setting the
+	 * {@value LauncherConstants#MAX_FAILURES_PROPERTY_NAME} configuration
+	 * parameter. The budget applies to each engine separately rather than to
+	 * the request as a whole: it is honored by all engines based on
+	 * {@link org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine
+	 * HierarchicalTestEngine}, including JUnit Jupiter, and ignored by other
+	 * engines such as JUnit Vintage.
+	 *
+	 * @param maxFailures the maximum number of failed tests per engine; must
+	 * be greater than zero
+	 * @return this builder for method chaining
+	 * @since 1.1
+	 * @see LauncherConstants#MAX_FAILURES_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.1")
+	public LauncherDiscoveryRequestBuilder maxFailures(int maxFailures) {
+		Preconditions.condition(maxFailures > 0, "maxFailures must be greater than zero");
+		return configurationParameter(MAX_FAILURES_PROPERTY_NAME, String.valueOf(maxFailures));
+	}
+
 	private void storeFilter(Filter<?> filter) {
 		if (filter instanceof EngineFilter) {
 			this.engineFilters.add((EngineFilter) filter);
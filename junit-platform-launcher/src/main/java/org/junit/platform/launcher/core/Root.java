@@ -18,6 +18,8 @@ import java.util.Map;
 
 import org.junit.platform.engine.Filter;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalAction;
+import org.junit.platform.engine.TestDescriptor.TraversalVisitor;
 import org.junit.platform.engine.TestEngine;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 
@@ -52,12 +54,14 @@ class Root {
 
 	void applyPostDiscoveryFilters(LauncherDiscoveryRequest discoveryRequest) {
 		Filter<TestDescriptor> postDiscoveryFilter = composeFilters(discoveryRequest.getPostDiscoveryFilters());
-		TestDescriptor.Visitor removeExcludedTestDescriptors = descriptor -> {
+		TraversalVisitor removeExcludedTestDescriptors = descriptor -> {
 			if (!descriptor.isRoot() && isExcluded(descriptor, postDiscoveryFilter)) {
 				descriptor.removeFromHierarchy();
+				return TraversalAction.SKIP_CHILDREN;
 			}
+			return TraversalAction.CONTINUE;
 		};
-		acceptInAllTestEngines(removeExcludedTestDescriptors);
+		traverseAllTestEngines(removeExcludedTestDescriptors);
 	}
 
 	/**
@@ -68,15 +72,19 @@ class Root {
 	 * pruning, it will <strong>not</strong> be removed.
 	 */
 	void prune() {
-		acceptInAllTestEngines(TestDescriptor::prune);
+		traverseAllTestEngines(descriptor -> {
+			descriptor.prune();
+			// Pruned descriptors no longer have children, thus there's nothing to skip
+			return TraversalAction.CONTINUE;
+		});
 	}
 
 	private boolean isExcluded(TestDescriptor descriptor, Filter<TestDescriptor> postDiscoveryFilter) {
 		return descriptor.getChildren().isEmpty() && postDiscoveryFilter.apply(descriptor).excluded();
 	}
 
-	private void acceptInAllTestEngines(TestDescriptor.Visitor visitor) {
-		this.testEngineDescriptors.values().forEach(descriptor -> descriptor.accept(visitor));
+	private void traverseAllTestEngines(TraversalVisitor visitor) {
+		this.testEngineDescriptors.values().forEach(descriptor -> descriptor.traverse(visitor));
 	}
 
 }
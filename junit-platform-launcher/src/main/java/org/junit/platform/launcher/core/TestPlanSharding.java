@@ -0,0 +1,202 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TIMINGS_FILE_PROPERTY_NAME;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+
+/**
+ * Deterministically partitions the discovered tests into shards and removes
+ * all tests that do not belong to the configured shard.
+ *
+ * <p>The unit of partitioning are the direct children of the engine
+ * descriptors, e.g. test classes. Without historical durations, each unit is
+ * assigned to a shard based on a stable hash of its unique ID. If a timings
+ * file is configured, units are instead assigned greedily, longest first, to
+ * the shard with the smallest total duration so far. Units without a recorded
+ * duration are assumed to take the average of all recorded durations.
+ *
+ * <p>Since the assignment only depends on the discovered unique IDs and the
+ * contents of the timings file, every shard computes the same partitioning
+ * independently.
+ *
+ * @since 1.1
+ * @see org.junit.platform.launcher.LauncherConstants#SHARD_INDEX_PROPERTY_NAME
+ * @see org.junit.platform.launcher.LauncherConstants#SHARD_COUNT_PROPERTY_NAME
+ * @see org.junit.platform.launcher.LauncherConstants#SHARD_TIMINGS_FILE_PROPERTY_NAME
+ */
+class TestPlanSharding {
+
+	private static final Logger logger = LoggerFactory.getLogger(TestPlanSharding.class);
+
+	/**
+	 * Create the sharding configured via the supplied configuration
+	 * parameters, if any.
+	 *
+	 * @throws PreconditionViolationException if only one of the shard count
+	 * and index is set or if either of them is invalid, since executing all
+	 * tests on every shard would silently defeat the purpose of sharding
+	 */
+	static Optional<TestPlanSharding> from(ConfigurationParameters configurationParameters) {
+		Optional<String> shardCount = configurationParameters.get(SHARD_COUNT_PROPERTY_NAME);
+		Optional<String> shardIndex = configurationParameters.get(SHARD_INDEX_PROPERTY_NAME);
+		if (!shardCount.isPresent() && !shardIndex.isPresent()) {
+			return Optional.empty();
+		}
+		Preconditions.condition(shardCount.isPresent(),
+			() -> String.format("The '%s' configuration parameter must be set if '%s' is set",
+				SHARD_COUNT_PROPERTY_NAME, SHARD_INDEX_PROPERTY_NAME));
+		Preconditions.condition(shardIndex.isPresent(),
+			() -> String.format("The '%s' configuration parameter must be set if '%s' is set",
+				SHARD_INDEX_PROPERTY_NAME, SHARD_COUNT_PROPERTY_NAME));
+		int count = parseInt(SHARD_COUNT_PROPERTY_NAME, shardCount.get());
+		int index = parseInt(SHARD_INDEX_PROPERTY_NAME, shardIndex.get());
+		Preconditions.condition(count > 0,
+			() -> String.format("Invalid value '%s' set via the '%s' configuration parameter; "
+					+ "the value must be a positive integer",
+				shardCount.get(), SHARD_COUNT_PROPERTY_NAME));
+		Preconditions.condition(index >= 0 && index < count,
+			() -> String.format("Invalid value '%s' set via the '%s' configuration parameter; "
+					+ "the value must be between 0 and %d",
+				shardIndex.get(), SHARD_INDEX_PROPERTY_NAME, count - 1));
+		Map<String, Long> durations = configurationParameters.get(SHARD_TIMINGS_FILE_PROPERTY_NAME).map(
+			TestPlanSharding::readDurations).orElse(Collections.emptyMap());
+		return Optional.of(new TestPlanSharding(index, count, durations));
+	}
+
+	private static int parseInt(String key, String value) {
+		try {
+			return Integer.parseInt(value.trim());
+		}
+		catch (NumberFormatException ex) {
+			throw new PreconditionViolationException(String.format(
+				"Invalid value '%s' set via the '%s' configuration parameter; the value must be an integer", value,
+				key), ex);
+		}
+	}
+
+	/**
+	 * Read the durations from the supplied timings file.
+	 *
+	 * <p>Each non-empty line that does not start with {@code #} consists of a
+	 * duration in milliseconds, followed by whitespace and the unique ID.
+	 */
+	private static Map<String, Long> readDurations(String timingsFile) {
+		Map<String, Long> durations = new HashMap<>();
+		try {
+			for (String line : Files.readAllLines(Paths.get(timingsFile.trim()), UTF_8)) {
+				String trimmed = line.trim();
+				if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+					continue;
+				}
+				String[] durationAndUniqueId = trimmed.split("\\s+", 2);
+				try {
+					durations.put(durationAndUniqueId[1], Long.parseLong(durationAndUniqueId[0]));
+				}
+				catch (RuntimeException ex) {
+					logger.warn(() -> String.format("Ignoring invalid line in timings file '%s': %s", timingsFile,
+						line));
+				}
+			}
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> String.format(
+				"Failed to read timings file '%s'; assigning tests to shards based on their unique IDs.",
+				timingsFile));
+			return Collections.emptyMap();
+		}
+		return durations;
+	}
+
+	private final int shardIndex;
+	private final int shardCount;
+	private final Map<String, Long> durations;
+
+	private TestPlanSharding(int shardIndex, int shardCount, Map<String, Long> durations) {
+		this.shardIndex = shardIndex;
+		this.shardCount = shardCount;
+		this.durations = durations;
+	}
+
+	/**
+	 * Remove all units of the supplied root that do not belong to this shard.
+	 */
+	void apply(Root root) {
+		List<TestDescriptor> units = new ArrayList<>();
+		root.getEngineDescriptors().forEach(engineDescriptor -> units.addAll(engineDescriptor.getChildren()));
+
+		int[] shards = this.durations.isEmpty() ? assignByHash(units) : assignByDuration(units);
+		for (int i = 0; i < units.size(); i++) {
+			if (shards[i] != this.shardIndex) {
+				units.get(i).removeFromHierarchy();
+			}
+		}
+	}
+
+	private int[] assignByHash(List<TestDescriptor> units) {
+		int[] shards = new int[units.size()];
+		for (int i = 0; i < units.size(); i++) {
+			// String.hashCode() is specified and therefore stable across JVMs
+			shards[i] = Math.floorMod(units.get(i).getUniqueId().toString().hashCode(), this.shardCount);
+		}
+		return shards;
+	}
+
+	private int[] assignByDuration(List<TestDescriptor> units) {
+		long defaultDuration = Math.max(1,
+			(long) this.durations.values().stream().mapToLong(Long::longValue).average().orElse(1));
+		List<Integer> order = new ArrayList<>(units.size());
+		String[] uniqueIds = new String[units.size()];
+		long[] unitDurations = new long[units.size()];
+		for (int i = 0; i < units.size(); i++) {
+			order.add(i);
+			uniqueIds[i] = units.get(i).getUniqueId().toString();
+			unitDurations[i] = this.durations.getOrDefault(uniqueIds[i], defaultDuration);
+		}
+		// Longest first; ties are broken by unique ID to make the order independent of discovery order
+		order.sort(comparing((Integer i) -> -unitDurations[i]).thenComparing(i -> uniqueIds[i]));
+
+		int[] shards = new int[units.size()];
+		long[] shardDurations = new long[this.shardCount];
+		for (int i : order) {
+			int shard = 0;
+			for (int candidate = 1; candidate < this.shardCount; candidate++) {
+				if (shardDurations[candidate] < shardDurations[shard]) {
+					shard = candidate;
+				}
+			}
+			shards[i] = shard;
+			shardDurations[shard] += unitDurations[i];
+		}
+		return shards;
+	}
+
+}
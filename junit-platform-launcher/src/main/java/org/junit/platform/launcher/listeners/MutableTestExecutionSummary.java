@@ -53,8 +53,8 @@ class MutableTestExecutionSummary implements TestExecutionSummary {
 
 	MutableTestExecutionSummary(TestPlan testPlan) {
 		this.testPlan = testPlan;
-		this.containersFound.set(testPlan.countTestIdentifiers(TestIdentifier::isContainer));
-		this.testsFound.set(testPlan.countTestIdentifiers(TestIdentifier::isTest));
+		this.containersFound.set(testPlan.countContainers());
+		this.testsFound.set(testPlan.countTests());
 		this.timeStarted = System.currentTimeMillis();
 	}
 
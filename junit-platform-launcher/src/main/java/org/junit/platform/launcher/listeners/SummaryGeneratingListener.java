@@ -10,11 +10,8 @@
 
 package org.junit.platform.launcher.listeners;
 
-import static java.util.stream.Stream.concat;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
-import java.util.stream.Stream;
-
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.TestExecutionResult;
@@ -65,14 +62,9 @@ public class SummaryGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		// @formatter:off
-		long skippedContainers = concat(Stream.of(testIdentifier), testPlan.getDescendants(testIdentifier).stream())
-				.filter(TestIdentifier::isContainer)
-				.count();
-		long skippedTests = concat(Stream.of(testIdentifier), testPlan.getDescendants(testIdentifier).stream())
-				.filter(TestIdentifier::isTest)
-				.count();
-		// @formatter:on
+		long skippedContainers = (testIdentifier.isContainer() ? 1 : 0)
+				+ testPlan.countDescendantContainers(testIdentifier);
+		long skippedTests = (testIdentifier.isTest() ? 1 : 0) + testPlan.countDescendantTests(testIdentifier);
 		this.summary.containersSkipped.addAndGet(skippedContainers);
 		this.summary.testsSkipped.addAndGet(skippedTests);
 	}
@@ -110,6 +110,7 @@ public class JUnitPlatform extends Runner implements Filterable {
 
 	private LauncherDiscoveryRequest discoveryRequest;
 	private JUnitPlatformTestTree testTree;
+	private boolean testPlanExecuted;
 
 	public JUnitPlatform(Class<?> testClass) throws InitializationError {
 		this(testClass, LauncherFactory.create());
@@ -131,8 +132,14 @@ public class JUnitPlatform extends Runner implements Filterable {
 	@Override
 	public void run(RunNotifier notifier) {
 		JUnitPlatformRunnerListener listener = new JUnitPlatformRunnerListener(this.testTree, notifier);
-		this.launcher.registerTestExecutionListeners(listener);
-		this.launcher.execute(this.discoveryRequest);
+		if (this.testPlanExecuted) {
+			// A TestPlan may only be executed once, so subsequent runs discover the tests again
+			this.launcher.execute(this.discoveryRequest, listener);
+		}
+		else {
+			this.testPlanExecuted = true;
+			this.launcher.execute(this.testTree.getTestPlan(), listener);
+		}
 	}
 
 	private JUnitPlatformTestTree generateTestTree() {
@@ -310,6 +317,7 @@ public class JUnitPlatform extends Runner implements Filterable {
 		}
 		this.discoveryRequest = createDiscoveryRequestForUniqueIds(filteredIdentifiers);
 		this.testTree = generateTestTree();
+		this.testPlanExecuted = false;
 	}
 
 	private LauncherDiscoveryRequest createDiscoveryRequestForUniqueIds(Set<TestIdentifier> testIdentifiers) {
@@ -54,6 +54,10 @@ class JUnitPlatformTestTree {
 		return testClass.isAnnotationPresent(UseTechnicalNames.class);
 	}
 
+	TestPlan getTestPlan() {
+		return this.plan;
+	}
+
 	Description getSuiteDescription() {
 		return this.suiteDescription;
 	}
@@ -10,10 +10,7 @@
 
 package org.junit.vintage.engine.execution;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 import static org.junit.platform.engine.TestExecutionResult.successful;
@@ -27,9 +24,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.stream.Stream;
 
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalAction;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.runner.Description;
 import org.junit.vintage.engine.descriptor.RunnerTestDescriptor;
@@ -51,13 +48,17 @@ class TestRun {
 
 	TestRun(RunnerTestDescriptor runnerTestDescriptor) {
 		this.runnerTestDescriptor = runnerTestDescriptor;
-		runnerDescendants = new LinkedHashSet<>(runnerTestDescriptor.getDescendants());
-		// @formatter:off
-		descriptionToDescriptors = concat(Stream.of(runnerTestDescriptor), runnerDescendants.stream())
-				.map(VintageTestDescriptor.class::cast)
-				.collect(groupingBy(
-						VintageTestDescriptor::getDescription, HashMap::new, toCollection(ArrayList::new)));
-		// @formatter:on
+		runnerDescendants = new LinkedHashSet<>();
+		descriptionToDescriptors = new HashMap<>();
+		runnerTestDescriptor.traverse(descriptor -> {
+			if (descriptor != runnerTestDescriptor) {
+				runnerDescendants.add(descriptor);
+			}
+			VintageTestDescriptor vintageTestDescriptor = (VintageTestDescriptor) descriptor;
+			descriptionToDescriptors.computeIfAbsent(vintageTestDescriptor.getDescription(),
+				key -> new ArrayList<>()).add(vintageTestDescriptor);
+			return TraversalAction.CONTINUE;
+		});
 	}
 
 	void registerDynamicTest(VintageTestDescriptor testDescriptor) {
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ReflectionUtils#findMethods(Class, Predicate, HierarchyTraversalMode)}
+ * on a deep class hierarchy that also implements interfaces with default
+ * methods.
+ *
+ * <p>Compares repeated lookups that are served from the cache of method
+ * hierarchies with the first lookup for a class. For the latter, the
+ * hierarchy is loaded by a fresh class loader before each invocation, so
+ * that the cache does not contain any of its classes yet.
+ *
+ * @since 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ReflectionUtilsBenchmarks {
+
+	private static final Predicate<Method> isTestMethod = method -> method.getName().startsWith("test");
+
+	@Benchmark
+	public List<Method> findMethodsWithWarmCache() {
+		return ReflectionUtils.findMethods(Level9.class, isTestMethod, TOP_DOWN);
+	}
+
+	@Benchmark
+	public List<Method> findMethodsWithColdCache(FreshlyLoadedHierarchy hierarchy) {
+		return ReflectionUtils.findMethods(hierarchy.level9, isTestMethod, TOP_DOWN);
+	}
+
+	@State(Scope.Thread)
+	public static class FreshlyLoadedHierarchy {
+
+		Class<?> level9;
+
+		@Setup(Level.Invocation)
+		public void loadClasses() throws ClassNotFoundException {
+			this.level9 = Class.forName(Level9.class.getName(), false, new HierarchyClassLoader());
+		}
+
+	}
+
+	/**
+	 * Defines its own copies of the classes and interfaces nested in
+	 * {@link ReflectionUtilsBenchmarks} and delegates all other classes to
+	 * its parent.
+	 */
+	static class HierarchyClassLoader extends ClassLoader {
+
+		private static final String PREFIX = ReflectionUtilsBenchmarks.class.getName() + "$";
+
+		HierarchyClassLoader() {
+			super(ReflectionUtilsBenchmarks.class.getClassLoader());
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(PREFIX)) {
+				return super.loadClass(name, resolve);
+			}
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loadedClass = findLoadedClass(name);
+				if (loadedClass == null) {
+					byte[] bytes = readClassFile(name);
+					loadedClass = defineClass(name, bytes, 0, bytes.length);
+				}
+				if (resolve) {
+					resolveClass(loadedClass);
+				}
+				return loadedClass;
+			}
+		}
+
+		private byte[] readClassFile(String name) throws ClassNotFoundException {
+			try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+				if (in == null) {
+					throw new ClassNotFoundException(name);
+				}
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				int length;
+				while ((length = in.read(buffer)) != -1) {
+					out.write(buffer, 0, length);
+				}
+				return out.toByteArray();
+			}
+			catch (IOException ex) {
+				throw new ClassNotFoundException(name, ex);
+			}
+		}
+
+	}
+
+	interface Lifecycle {
+
+		default void beforeEach() {
+		}
+
+		default void afterEach() {
+		}
+
+	}
+
+	interface Reporting extends Lifecycle {
+
+		default void report() {
+		}
+
+	}
+
+	static class Level0 implements Reporting {
+
+		void test0_0() {
+		}
+
+		void test0_1() {
+		}
+
+		void test0_2() {
+		}
+
+		void test0_3() {
+		}
+
+		void test0_4() {
+		}
+
+		void helper0() {
+		}
+
+	}
+
+	static class Level1 extends Level0 {
+
+		void test1_0() {
+		}
+
+		void test1_1() {
+		}
+
+		void test1_2() {
+		}
+
+		void test1_3() {
+		}
+
+		void test1_4() {
+		}
+
+		void helper1() {
+		}
+
+	}
+
+	static class Level2 extends Level1 {
+
+		void test2_0() {
+		}
+
+		void test2_1() {
+		}
+
+		void test2_2() {
+		}
+
+		void test2_3() {
+		}
+
+		void test2_4() {
+		}
+
+		void helper2() {
+		}
+
+	}
+
+	static class Level3 extends Level2 {
+
+		void test3_0() {
+		}
+
+		void test3_1() {
+		}
+
+		void test3_2() {
+		}
+
+		void test3_3() {
+		}
+
+		void test3_4() {
+		}
+
+		void helper3() {
+		}
+
+	}
+
+	static class Level4 extends Level3 {
+
+		void test4_0() {
+		}
+
+		void test4_1() {
+		}
+
+		void test4_2() {
+		}
+
+		void test4_3() {
+		}
+
+		void test4_4() {
+		}
+
+		void helper4() {
+		}
+
+	}
+
+	static class Level5 extends Level4 implements Lifecycle {
+
+		void test5_0() {
+		}
+
+		void test5_1() {
+		}
+
+		void test5_2() {
+		}
+
+		void test5_3() {
+		}
+
+		void test5_4() {
+		}
+
+		void helper5() {
+		}
+
+	}
+
+	static class Level6 extends Level5 {
+
+		void test6_0() {
+		}
+
+		void test6_1() {
+		}
+
+		void test6_2() {
+		}
+
+		void test6_3() {
+		}
+
+		void test6_4() {
+		}
+
+		void helper6() {
+		}
+
+	}
+
+	static class Level7 extends Level6 {
+
+		void test7_0() {
+		}
+
+		void test7_1() {
+		}
+
+		void test7_2() {
+		}
+
+		void test7_3() {
+		}
+
+		void test7_4() {
+		}
+
+		void helper7() {
+		}
+
+	}
+
+	static class Level8 extends Level7 {
+
+		void test8_0() {
+		}
+
+		void test8_1() {
+		}
+
+		void test8_2() {
+		}
+
+		void test8_3() {
+		}
+
+		void test8_4() {
+		}
+
+		void helper8() {
+		}
+
+	}
+
+	static class Level9 extends Level8 {
+
+		void test9_0() {
+		}
+
+		void test9_1() {
+		}
+
+		void test9_2() {
+		}
+
+		void test9_3() {
+		}
+
+		void test9_4() {
+		}
+
+		void helper9() {
+		}
+
+	}
+
+}
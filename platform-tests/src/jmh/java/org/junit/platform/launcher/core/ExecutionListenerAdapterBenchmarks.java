@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.Collections.singleton;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for dispatching execution events via the
+ * {@link ExecutionListenerAdapter}.
+ *
+ * <p>Compares mapping test descriptors to their identifiers by identity, as
+ * done by the {@link DefaultLauncher}, with looking them up by their
+ * formatted unique IDs. Since the identity mapping is built for each
+ * execution, creating the adapter is part of the measured work. Each
+ * invocation reports a started and a finished event for every test.
+ *
+ * @since 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class ExecutionListenerAdapterBenchmarks {
+
+	@Param({ "10", "100" })
+	int testsPerClass;
+
+	private final List<TestDescriptor> tests = new ArrayList<>();
+
+	private final BlackholeListener listener = new BlackholeListener();
+	private EngineDescriptor engineDescriptor;
+	private TestPlan testPlan;
+
+	@Setup
+	public void setUp() {
+		this.engineDescriptor = createEngineDescriptor(100, this.testsPerClass);
+		this.testPlan = TestPlan.from(singleton(this.engineDescriptor));
+		this.engineDescriptor.accept(descriptor -> {
+			if (descriptor.isTest()) {
+				this.tests.add(descriptor);
+			}
+		});
+	}
+
+	@Benchmark
+	public void lookUpByIdentity(Blackhole blackhole) {
+		dispatchEvents(new ExecutionListenerAdapter(this.testPlan, singleton(this.engineDescriptor), this.listener),
+			blackhole);
+	}
+
+	@Benchmark
+	public void lookUpByUniqueId(Blackhole blackhole) {
+		dispatchEvents(new ExecutionListenerAdapter(this.testPlan, this.listener), blackhole);
+	}
+
+	private void dispatchEvents(ExecutionListenerAdapter adapter, Blackhole blackhole) {
+		this.listener.blackhole = blackhole;
+		for (TestDescriptor test : this.tests) {
+			adapter.executionStarted(test);
+			adapter.executionFinished(test, TestExecutionResult.successful());
+		}
+	}
+
+	private static class BlackholeListener implements TestExecutionListener {
+
+		private Blackhole blackhole;
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			this.blackhole.consume(testIdentifier);
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			this.blackhole.consume(testIdentifier);
+		}
+
+	}
+
+	private static EngineDescriptor createEngineDescriptor(int numberOfClasses, int testsPerClass) {
+		EngineDescriptor engineDescriptor = new EngineDescriptor(UniqueId.forEngine("benchmark"), "benchmark");
+		for (int i = 0; i < numberOfClasses; i++) {
+			String className = "com.example.BenchmarkTests" + i;
+			BenchmarkDescriptor classDescriptor = new BenchmarkDescriptor(
+				engineDescriptor.getUniqueId().append("class", className), className, Type.CONTAINER);
+			engineDescriptor.addChild(classDescriptor);
+			for (int j = 0; j < testsPerClass; j++) {
+				String methodName = "test" + j + "()";
+				classDescriptor.addChild(new BenchmarkDescriptor(
+					classDescriptor.getUniqueId().append("method", methodName), methodName, Type.TEST));
+			}
+		}
+		return engineDescriptor;
+	}
+
+	private static class BenchmarkDescriptor extends AbstractTestDescriptor {
+
+		private final Type type;
+
+		BenchmarkDescriptor(UniqueId uniqueId, String displayName, Type type) {
+			super(uniqueId, displayName);
+			this.type = type;
+		}
+
+		@Override
+		public Type getType() {
+			return this.type;
+		}
+
+	}
+
+}
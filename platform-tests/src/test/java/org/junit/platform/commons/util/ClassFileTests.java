@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Tags;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassFile}.
+ *
+ * @since 1.1
+ */
+class ClassFileTests {
+
+	@Test
+	void readsNamesOfClassAndSuperTypes() throws Exception {
+		ClassFile classFile = read(SubclassWithInterface.class);
+
+		assertThat(classFile.getName()).isEqualTo(internalName(SubclassWithInterface.class));
+		assertThat(classFile.getSuperName()).isEqualTo(internalName(ClassWithAnnotations.class));
+		assertThat(classFile.getInterfaceNames()).containsExactly(internalName(Serializable.class));
+	}
+
+	@Test
+	void superNameOfObjectIsNull() throws Exception {
+		assertThat(read(Object.class).getSuperName()).isNull();
+	}
+
+	@Test
+	void readsRuntimeVisibleAnnotationTypesIncludingNestedAnnotations() throws Exception {
+		ClassFile classFile = read(ClassWithAnnotations.class);
+
+		assertThat(classFile.getClassAnnotationTypes()).containsExactly(internalName(Tags.class),
+			internalName(Tag.class));
+		assertThat(classFile.getMemberAnnotationTypes()).containsExactly(internalName(Deprecated.class),
+			internalName(Test.class));
+	}
+
+	@Test
+	void readsMemberClassesButNotEnclosingClass() throws Exception {
+		assertThat(read(ClassWithAnnotations.class).getMemberClassNames()).containsExactly(
+			internalName(ClassWithAnnotations.Member.class));
+		assertThat(read(ClassWithAnnotations.Member.class).getMemberClassNames()).isEmpty();
+	}
+
+	@Test
+	void restoresWrittenSummary() throws Exception {
+		ClassFile original = read(SubclassWithInterface.class);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			original.writeSummary(out);
+			read(ClassWithAnnotations.class).writeSummary(out);
+		}
+
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			ClassFile restored = ClassFile.readSummary(in);
+			assertThat(restored.getName()).isEqualTo(original.getName());
+			assertThat(restored.getSuperName()).isEqualTo(original.getSuperName());
+			assertThat(restored.getInterfaceNames()).containsExactlyElementsOf(original.getInterfaceNames());
+
+			restored = ClassFile.readSummary(in);
+			assertThat(restored.getClassAnnotationTypes()).containsExactly(internalName(Tags.class),
+				internalName(Tag.class));
+			assertThat(restored.getMemberAnnotationTypes()).containsExactly(internalName(Deprecated.class),
+				internalName(Test.class));
+			assertThat(restored.getMemberClassNames()).containsExactly(
+				internalName(ClassWithAnnotations.Member.class));
+		}
+	}
+
+	@Test
+	void rejectsBytesThatAreNotAClassFile() {
+		assertThrows(IOException.class, () -> ClassFile.read(new byte[] { 1, 2, 3, 4 }));
+	}
+
+	@Test
+	void rejectsTruncatedClassFile() {
+		assertThrows(IOException.class, () -> ClassFile.read(new byte[] { (byte) 0xCA, (byte) 0xFE, (byte) 0xBA,
+				(byte) 0xBE, 0, 0, 0, 52, 0, 10 }));
+	}
+
+	private static ClassFile read(Class<?> type) throws IOException {
+		try (InputStream inputStream = type.getResourceAsStream("/" + internalName(type) + ".class")) {
+			return ClassFile.read(inputStream);
+		}
+	}
+
+	private static String internalName(Class<?> type) {
+		return type.getName().replace('.', '/');
+	}
+
+	@Tag("a")
+	@Tag("b")
+	static class ClassWithAnnotations {
+
+		@Deprecated
+		Object field;
+
+		@Test
+		void method() {
+		}
+
+		static class Member {
+		}
+	}
+
+	static class SubclassWithInterface extends ClassWithAnnotations implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+}
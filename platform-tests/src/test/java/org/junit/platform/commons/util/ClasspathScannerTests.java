@@ -10,6 +10,8 @@
 
 package org.junit.platform.commons.util;
 
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -18,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 import java.io.IOException;
+import java.lang.annotation.Retention;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -30,9 +33,13 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -174,6 +181,73 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void scanForClassesInPackageWithinJarFileOnlyConsidersClassFilesWithinPackage(@Root Path tempDir)
+			throws Exception {
+
+		Path jarFile = writeJarFileWithEmptyEntries(tempDir.resolve("test.jar"), "pkg/", "pkg/A.class",
+			"pkg/sub/B.class", "pkg/package-info.class", "pkg/resource.txt", "pkgother/C.class", "D.class");
+		List<String> requestedClassNames = new ArrayList<>();
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, null)) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, (name, loader) -> {
+				requestedClassNames.add(name);
+				return Optional.empty();
+			});
+
+			classpathScanner.scanForClassesInPackage("pkg", allClasses);
+		}
+
+		assertThat(requestedClassNames).containsOnly("pkg.A", "pkg.sub.B");
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void scanForClassesInClasspathRootWithinDirectoryOfJarFile(@Root Path tempDir) throws Exception {
+		assertClassNamesInClasspathRootWithinDirectoryOfJarFile(tempDir, () -> null);
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void scanForClassesInClasspathRootWithinDirectoryOfJarFileUsingIndex(@Root Path tempDir) throws Exception {
+		Path indexDirectory = tempDir.resolve("index");
+
+		assertClassNamesInClasspathRootWithinDirectoryOfJarFile(tempDir, () -> indexDirectory);
+		assertClassNamesInClasspathRootWithinDirectoryOfJarFile(tempDir, () -> indexDirectory);
+	}
+
+	private void assertClassNamesInClasspathRootWithinDirectoryOfJarFile(Path tempDir,
+			Supplier<Path> indexDirectorySupplier) throws Exception {
+
+		Path jarFile = tempDir.resolve("test.jar");
+		if (!Files.exists(jarFile)) {
+			writeJarFileWithEmptyEntries(jarFile, "BOOT-INF/classes/A.class", "BOOT-INF/classes/pkg/B.class",
+				"BOOT-INF/lib/C.class", "D.class");
+		}
+		URI root = URI.create("jar:" + jarFile.toUri() + "!/BOOT-INF/classes");
+		List<String> requestedClassNames = new ArrayList<>();
+
+		ClasspathScanner classpathScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			(name, loader) -> {
+				requestedClassNames.add(name);
+				return Optional.empty();
+			}, () -> null, indexDirectorySupplier);
+		classpathScanner.scanForClassesInClasspathRoot(root, allClasses);
+
+		assertThat(requestedClassNames).containsOnly("A", "pkg.B");
+	}
+
+	private static Path writeJarFileWithEmptyEntries(Path jarFile, String... entryNames) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jarFile))) {
+			for (String entryName : entryNames) {
+				out.putNextEntry(new ZipEntry(entryName));
+				out.closeEntry();
+			}
+		}
+		return jarFile;
+	}
+
 	@Test
 	void scanForClassesInPackage() throws Exception {
 		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
@@ -198,6 +272,97 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void scanForClassesInPackageInParallelFindsSameClassesInDeterministicOrder() throws Exception {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, () -> 4);
+
+		List<Class<?>> sequentiallyScannedClasses = classpathScanner.scanForClassesInPackage(
+			"org.junit.platform.commons", allClasses);
+		List<Class<?>> classes = parallelScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+
+		assertThat(classes).doesNotHaveDuplicates().hasSameSizeAs(sequentiallyScannedClasses).containsOnlyElementsOf(
+			sequentiallyScannedClasses);
+		assertEquals(classes, parallelScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses));
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelSortsClassesByName() throws Exception {
+		ClasspathScanner parallelScanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass, () -> 4);
+		ClassFilter commonsClasses = ClassFilter.of(
+			className -> className.startsWith("org.junit.platform.commons.util."), type -> true);
+
+		List<Class<?>> classes = parallelScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), commonsClasses);
+
+		List<String> classNames = classes.stream().map(Class::getName).collect(Collectors.toList());
+		assertThat(classNames).contains(ClasspathScannerTests.class.getName()).isSorted();
+	}
+
+	@Test
+	void findAllClassesInPackageWithinJarFileInParallel() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass,
+				() -> 2);
+
+			List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.jartest", allClasses);
+			List<String> classNames = classes.stream().map(Class::getName).collect(Collectors.toList());
+			assertThat(classNames).containsExactly("org.junit.platform.jartest.included.Included",
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+				"org.junit.platform.jartest.notincluded.NotIncluded");
+		}
+	}
+
+	@Test
+	@ExtendWith(TempDirectory.class)
+	void findAllClassesInPackageWithinJarFileUsingIndex(@Root Path tempDir) throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+		Path indexDirectory = tempDir.resolve("index");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader, ReflectionUtils::loadClass,
+				() -> null, () -> indexDirectory);
+
+			for (int i = 0; i < 2; i++) {
+				List<Class<?>> classes = classpathScanner.scanForClassesInPackage(
+					"org.junit.platform.jartest.included", allClasses);
+				List<String> classNames = classes.stream().map(Class::getName).collect(Collectors.toList());
+				assertThat(classNames).containsOnly("org.junit.platform.jartest.included.Included",
+					"org.junit.platform.jartest.included.recursive.RecursivelyIncluded");
+			}
+		}
+
+		try (Stream<Path> indexFiles = Files.list(indexDirectory)) {
+			List<String> indexFileNames = indexFiles.map(file -> file.getFileName().toString()).collect(
+				Collectors.toList());
+			assertThat(indexFileNames).hasSize(1);
+			assertThat(indexFileNames.get(0)).startsWith("jartest.jar-").endsWith(".idx");
+		}
+	}
+
+	@Test
+	void scanForClassesInPackageSequentiallyIfParallelismIsInvalid(LogRecordListener listener) {
+		ClasspathScanner scanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::loadClass);
+		System.setProperty(ClasspathScanner.PARALLELISM_PROPERTY_NAME, "many");
+		try {
+			List<Class<?>> classes = scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+			assertTrue(classes.contains(ClasspathScannerTests.class));
+		}
+		finally {
+			System.clearProperty(ClasspathScanner.PARALLELISM_PROPERTY_NAME);
+		}
+		// @formatter:off
+		assertThat(listener.stream(ClasspathScanner.class, Level.WARNING)
+				.map(LogRecord::getMessage)
+				.filter(message -> message.contains(ClasspathScanner.PARALLELISM_PROPERTY_NAME))
+				.count()
+		).isEqualTo(1);
+		// @formatter:on
+	}
+
 	@Test
 	void scanForClassesInDefaultPackage() throws Exception {
 		ClassFilter classFilter = ClassFilter.of(this::inDefaultPackage);
@@ -250,6 +415,22 @@ class ClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
 	}
 
+	@Test
+	void scanForClassesInPackageOnlyLoadsClassesThatPassTheAnnotationPrefilter() throws Exception {
+		String prefix = ClasspathScannerTests.class.getName() + "$Prefilter";
+		Predicate<String> classNameFilter = name -> name.startsWith(prefix);
+		ClassFilter classFilter = ClassFilter.of(classNameFilter, type -> true).withAnnotationPrefilter(
+			singletonList(PrefilterAnnotation.class));
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInPackage("org.junit.platform.commons", classFilter);
+
+		assertThat(classes).containsOnly(PrefilterComposedAnnotation.class, PrefilterAnnotatedClass.class,
+			PrefilterClassWithMetaAnnotatedMethod.class, PrefilterSubclass.class,
+			PrefilterInterfaceWithAnnotatedMethod.class, PrefilterImplementation.class,
+			PrefilterEnclosingClass.class, PrefilterEnclosingClass.Member.class);
+		assertThat(loadedClasses).containsOnlyElementsOf(classes);
+	}
+
 	@Test
 	void findAllClassesInClasspathRoot() throws Exception {
 		ClassFilter thisClassOnly = ClassFilter.of(clazz -> clazz == ClasspathScannerTests.class);
@@ -352,6 +533,56 @@ class ClasspathScannerTests {
 	static class ClassForOutOfMemoryErrorSimulation {
 	}
 
+	@Retention(RUNTIME)
+	@interface PrefilterAnnotation {
+	}
+
+	@Retention(RUNTIME)
+	@PrefilterAnnotation
+	@interface PrefilterComposedAnnotation {
+	}
+
+	@PrefilterAnnotation
+	static class PrefilterAnnotatedClass {
+	}
+
+	static class PrefilterClassWithMetaAnnotatedMethod {
+
+		@PrefilterComposedAnnotation
+		void method() {
+		}
+	}
+
+	static class PrefilterSubclass extends PrefilterAnnotatedClass {
+	}
+
+	interface PrefilterInterfaceWithAnnotatedMethod {
+
+		@PrefilterAnnotation
+		default void method() {
+		}
+	}
+
+	static class PrefilterImplementation implements PrefilterInterfaceWithAnnotatedMethod {
+	}
+
+	static class PrefilterEnclosingClass {
+
+		@PrefilterAnnotation
+		static class Member {
+		}
+	}
+
+	static class PrefilterUnannotatedClass {
+
+		@Deprecated
+		void method() {
+		}
+	}
+
+	static class PrefilterUnannotatedSubclass extends Thread {
+	}
+
 	private static class ThrowingClassLoader extends ClassLoader {
 
 		@Override
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+
+/**
+ * Unit tests for {@link JarClassIndex}.
+ *
+ * @since 1.1
+ */
+@ExtendWith(TempDirectory.class)
+class JarClassIndexTests {
+
+	private static final String FIXTURE_ENTRY_NAME = internalName(Fixture.class) + ".class";
+
+	@Test
+	void indexesClassFilesOfJarFile(@Root Path tempDir) throws Exception {
+		Path jarFile = writeJarFile(tempDir.resolve("test.jar"), "a/");
+
+		JarClassIndex index = JarClassIndex.getOrCreate(tempDir.resolve("index"), jarFile);
+
+		Map<String, Optional<ClassFile>> classFiles = classFilesByEntryName(index);
+		assertThat(classFiles.keySet()).containsExactly(FIXTURE_ENTRY_NAME, "a/Invalid.class");
+		assertThat(classFiles.get(FIXTURE_ENTRY_NAME).get().getMemberAnnotationTypes()).containsExactly(
+			internalName(Deprecated.class));
+		assertThat(classFiles.get("a/Invalid.class")).isEmpty();
+	}
+
+	@Test
+	void reusesStoredIndexWhileJarFileIsUnchanged(@Root Path tempDir) throws Exception {
+		Path jarFile = writeJarFile(tempDir.resolve("test.jar"), "a/");
+		Path indexDirectory = tempDir.resolve("index");
+		JarClassIndex.getOrCreate(indexDirectory, jarFile);
+		Path indexFile = getIndexFile(indexDirectory);
+		FileTime marker = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(indexFile, marker);
+
+		JarClassIndex index = JarClassIndex.getOrCreate(indexDirectory, jarFile);
+
+		assertEquals(marker, Files.getLastModifiedTime(indexFile));
+		Map<String, Optional<ClassFile>> classFiles = classFilesByEntryName(index);
+		assertThat(classFiles.keySet()).containsExactly(FIXTURE_ENTRY_NAME, "a/Invalid.class");
+		assertThat(classFiles.get(FIXTURE_ENTRY_NAME).get().getName()).isEqualTo(internalName(Fixture.class));
+	}
+
+	@Test
+	void rebuildsIndexWhenJarFileChanges(@Root Path tempDir) throws Exception {
+		Path jarFile = writeJarFile(tempDir.resolve("test.jar"), "a/");
+		Path indexDirectory = tempDir.resolve("index");
+		JarClassIndex.getOrCreate(indexDirectory, jarFile);
+
+		writeJarFile(jarFile, "changed/");
+		Files.setLastModifiedTime(jarFile, FileTime.fromMillis(Files.getLastModifiedTime(jarFile).toMillis() + 1000));
+		JarClassIndex index = JarClassIndex.getOrCreate(indexDirectory, jarFile);
+
+		assertThat(classFilesByEntryName(index).keySet()).containsExactly(FIXTURE_ENTRY_NAME, "changed/Invalid.class");
+		assertThat(classFilesByEntryName(JarClassIndex.getOrCreate(indexDirectory, jarFile)).keySet()).containsExactly(
+			FIXTURE_ENTRY_NAME, "changed/Invalid.class");
+	}
+
+	@Test
+	void rebuildsIndexWhenStoredIndexIsCorrupt(@Root Path tempDir) throws Exception {
+		Path jarFile = writeJarFile(tempDir.resolve("test.jar"), "a/");
+		Path indexDirectory = tempDir.resolve("index");
+		JarClassIndex.getOrCreate(indexDirectory, jarFile);
+		Files.write(getIndexFile(indexDirectory), new byte[] { 1, 2, 3 });
+
+		JarClassIndex index = JarClassIndex.getOrCreate(indexDirectory, jarFile);
+
+		assertThat(classFilesByEntryName(index).keySet()).containsExactly(FIXTURE_ENTRY_NAME, "a/Invalid.class");
+	}
+
+	private static Path writeJarFile(Path jarFile, String packagePath) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jarFile))) {
+			out.putNextEntry(new ZipEntry(packagePath));
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry(FIXTURE_ENTRY_NAME));
+			try (InputStream in = Fixture.class.getResourceAsStream("/" + FIXTURE_ENTRY_NAME)) {
+				byte[] buffer = new byte[4096];
+				int count;
+				while ((count = in.read(buffer)) != -1) {
+					out.write(buffer, 0, count);
+				}
+			}
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry(packagePath + "Invalid.class"));
+			out.write(new byte[] { 1, 2, 3 });
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry(packagePath + "package-info.class"));
+			out.closeEntry();
+			out.putNextEntry(new ZipEntry(packagePath + "resource.txt"));
+			out.closeEntry();
+		}
+		return jarFile;
+	}
+
+	private static Path getIndexFile(Path indexDirectory) throws IOException {
+		try (Stream<Path> indexFiles = Files.list(indexDirectory)) {
+			List<Path> indexFileList = indexFiles.collect(Collectors.toList());
+			assertThat(indexFileList).hasSize(1);
+			return indexFileList.get(0);
+		}
+	}
+
+	private static Map<String, Optional<ClassFile>> classFilesByEntryName(JarClassIndex index) {
+		// @formatter:off
+		return index.getEntries().stream()
+				.collect(Collectors.toMap(JarClassIndex.Entry::getName, JarClassIndex.Entry::getClassFile,
+					(a, b) -> a, LinkedHashMap::new));
+		// @formatter:on
+	}
+
+	private static String internalName(Class<?> type) {
+		return type.getName().replace('.', '/');
+	}
+
+	static class Fixture {
+
+		@Deprecated
+		void method() {
+		}
+	}
+
+}
@@ -18,9 +18,12 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
 import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.BOTTOM_UP;
 import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
 import static org.junit.platform.commons.util.ReflectionUtils.findMethod;
@@ -33,9 +36,12 @@ import static org.mockito.Mockito.mock;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -994,6 +1000,52 @@ class ReflectionUtilsTests {
 		assertEquals(0, methods.stream().filter(Method::isBridge).count());
 	}
 
+	@Test
+	void findMethodsReturnsSameMethodsOnRepeatedInvocations() throws Exception {
+		List<Method> topDown = findMethods(ChildClass.class, method -> true, TOP_DOWN);
+		List<Method> bottomUp = findMethods(ChildClass.class, method -> true, BOTTOM_UP);
+
+		assertThat(findMethods(ChildClass.class, method -> true, TOP_DOWN)).containsExactlyElementsOf(topDown);
+		assertThat(findMethods(ChildClass.class, method -> true, BOTTOM_UP)).containsExactlyElementsOf(bottomUp);
+		assertThat(findMethods(ChildClass.class, method -> method.getName().contains("method"), TOP_DOWN))//
+				.containsExactly(GrandparentClass.class.getMethod("method1"),
+					GrandparentInterface.class.getMethod("method2"), ParentClass.class.getMethod("method3"),
+					ChildClass.class.getMethod("method4"));
+	}
+
+	@Test
+	void findMethodsDoesNotShareMethodInstancesBetweenInvocations() {
+		Method method = getOnlyElement(findMethods(ChildClass.class, m -> m.getName().equals("method4")));
+		assertFalse(method.isAccessible());
+
+		method.setAccessible(true);
+
+		Method methodOfSecondInvocation = getOnlyElement(
+			findMethods(ChildClass.class, m -> m.getName().equals("method4")));
+		assertEquals(method, methodOfSecondInvocation);
+		assertNotSame(method, methodOfSecondInvocation);
+		assertFalse(methodOfSecondInvocation.isAccessible());
+	}
+
+	@Test
+	void findMethodsDoesNotPreventClassesFromBeingUnloaded() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+		URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile }, null);
+		Class<?> clazz = Class.forName("org.junit.platform.jartest.included.Included", false, classLoader);
+		assertThat(findMethods(clazz, method -> true)).isNotNull();
+		WeakReference<ClassLoader> classLoaderReference = new WeakReference<>(classLoader);
+		classLoader.close();
+		classLoader = null;
+		clazz = null;
+
+		for (int i = 0; i < 10 && classLoaderReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+
+		assertNull(classLoaderReference.get());
+	}
+
 	@Test
 	void isGeneric() throws Exception {
 		for (Method method : Generic.class.getMethods()) {
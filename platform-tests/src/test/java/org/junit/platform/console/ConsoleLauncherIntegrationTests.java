@@ -14,9 +14,11 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.junit.platform.commons.util.StringUtils.isBlank;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +27,8 @@ import org.junit.jupiter.api.Test;
  */
 class ConsoleLauncherIntegrationTests {
 
+	private static final String FORKED_PROPERTY_NAME = "junit.platform.console.forked";
+
 	@Test
 	void executeWithoutArgumentsFailsAndPrintsHelpInformation() {
 		ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(-1);
@@ -54,6 +58,55 @@ class ConsoleLauncherIntegrationTests {
 		);
 	}
 
+	@Test
+	void executeInForkedJvms() {
+		String[] args = { "--fork-count", "2", "-e", "junit-jupiter", "-p", "org.junit.platform.console.subpackage" };
+		ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(args);
+		assertAll("tests are executed in forked JVMs and reported by the current JVM", //
+			() -> assertEquals(0, result.code), //
+			() -> assertEquals(2, result.getTestsFoundCount()), //
+			() -> assertTrue(result.out.contains("2 tests successful")) //
+		);
+	}
+
+	@Test
+	void executeOnlySelectedTestsInForkedJvmsWithSystemPropertiesOfCurrentJvm() {
+		String[] args = { "--fork-count", "1", "-e", "junit-jupiter", "-n", ".*", "-m",
+				ForkedTestCase.class.getName() + "#passes" };
+		System.setProperty(FORKED_PROPERTY_NAME, "true");
+		try {
+			ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(args);
+			assertAll("only the selected test is executed in the forked JVM", //
+				() -> assertEquals(0, result.code), //
+				() -> assertEquals(1, result.getTestsFoundCount()), //
+				() -> assertEquals(1, result.getTestsSucceededCount()) //
+			);
+		}
+		finally {
+			System.clearProperty(FORKED_PROPERTY_NAME);
+		}
+	}
+
+	@Test
+	void executeInForkedJvmsReportsTestsOfCrashedJvmAsFailed() {
+		String[] args = { "--fork-count", "1", "-e", "junit-jupiter", "-n", ".*", "-c",
+				ForkedTestCase.class.getName(), "-c", NotExecutedTestCase.class.getName() };
+		System.setProperty(FORKED_PROPERTY_NAME, "true");
+		try {
+			ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(Optional.empty(), args);
+			assertAll("unfinished and never executed tests of the crashed JVM are reported as failed", //
+				() -> assertEquals(1, result.code), //
+				() -> assertEquals(3, result.getTestsFoundCount()), //
+				() -> assertEquals(1, result.getTestsFailedCount()), //
+				() -> assertEquals(3, result.getContainersFailedCount()), //
+				() -> assertTrue(result.out.contains("Forked JVM terminated abnormally")) //
+			);
+		}
+		finally {
+			System.clearProperty(FORKED_PROPERTY_NAME);
+		}
+	}
+
 	@Test
 	void executeSelectingModuleNames() {
 		String[] args1 = { "-e", "junit-jupiter", "-o", "java.base" };
@@ -68,4 +121,27 @@ class ConsoleLauncherIntegrationTests {
 		assertEquals(0, new ConsoleLauncherWrapper().execute(args1).getTestsFoundCount());
 	}
 
+	static class ForkedTestCase {
+
+		@Test
+		void passes() {
+			assertEquals("true", System.getProperty(FORKED_PROPERTY_NAME));
+		}
+
+		@Test
+		void crashesForkedJvm() {
+			assumeTrue(Boolean.getBoolean(FORKED_PROPERTY_NAME));
+			System.exit(1);
+		}
+
+	}
+
+	static class NotExecutedTestCase {
+
+		@Test
+		void test() {
+		}
+
+	}
+
 }
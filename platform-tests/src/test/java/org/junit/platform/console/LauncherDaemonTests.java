@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.console;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.console.options.JOptSimpleCommandLineOptionsParser;
+
+/**
+ * @since 1.1
+ */
+class LauncherDaemonTests {
+
+	private LauncherDaemon daemon;
+	private Thread daemonThread;
+
+	@BeforeEach
+	void startDaemon() throws Exception {
+		daemon = LauncherDaemon.bind(0, new JOptSimpleCommandLineOptionsParser());
+		daemonThread = new Thread(() -> daemon.serve(System.err));
+		daemonThread.start();
+	}
+
+	@AfterEach
+	void stopDaemon() throws Exception {
+		daemon.close();
+		daemonThread.join(5000);
+	}
+
+	@Test
+	void executesRequestsInDaemonAndStreamsOutputToClient() {
+		String[] args = { "--daemon", String.valueOf(daemon.getPort()), "-e", "junit-jupiter", "-p",
+				"org.junit.platform.console.subpackage" };
+
+		assertThat(new ConsoleLauncherWrapper().execute(args).out).contains("OneTest", "TwoTest",
+			"2 tests successful");
+		// The daemon keeps running between requests
+		assertThat(new ConsoleLauncherWrapper().execute(args).out).contains("2 tests successful");
+	}
+
+	@Test
+	void reportsExitCodeOfFailedRequestToClient() {
+		String[] args = { "--daemon", String.valueOf(daemon.getPort()) };
+
+		ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(-1, args);
+
+		assertThat(result.err).contains("No arguments were supplied to the ConsoleLauncher");
+	}
+
+	@Test
+	void forwardsOutputOfTestsToClient() {
+		String[] args = { "--daemon", String.valueOf(daemon.getPort()), "-e", "junit-jupiter", "-n", ".*",
+				"-c", PrintingTestCase.class.getName() };
+
+		ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(Optional.empty(), args);
+
+		assertEquals(0, result.code);
+		assertThat(result.out).contains("printed by test", "1 tests successful");
+		assertThat(result.err).contains("printed to stderr by test");
+	}
+
+	@Test
+	void rejectsRequestsWithUnsupportedProtocolVersion() throws Exception {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			out.writeInt(LauncherDaemon.PROTOCOL_VERSION + 1);
+			out.flush();
+
+			assertRejected(socket, "Unsupported protocol version");
+		}
+	}
+
+	@Test
+	void storesTokenInFileOnlyReadableByOwner() throws Exception {
+		Path tokenFile = LauncherDaemon.tokenFile(daemon.getPort());
+		assertTrue(Files.exists(tokenFile));
+
+		PosixFileAttributeView view = Files.getFileAttributeView(tokenFile, PosixFileAttributeView.class);
+		assumeTrue(view != null, "POSIX file permissions not supported");
+		assertEquals("rw-------", PosixFilePermissions.toString(view.readAttributes().permissions()));
+
+		daemon.close();
+		assertFalse(Files.exists(tokenFile));
+	}
+
+	@Test
+	void rejectsRequestsWithInvalidToken() throws Exception {
+		try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), daemon.getPort())) {
+			DataOutputStream out = new DataOutputStream(socket.getOutputStream());
+			out.writeInt(LauncherDaemon.PROTOCOL_VERSION);
+			out.writeUTF("not the token");
+			out.flush();
+
+			assertRejected(socket, "Invalid token");
+		}
+	}
+
+	@Test
+	void shutsDownWhenClassPathHasChanged() throws Exception {
+		Path classpathEntry = Files.createTempFile("daemon", ".jar");
+		String originalClassPath = System.getProperty("java.class.path");
+		LauncherDaemon otherDaemon;
+		System.setProperty("java.class.path", originalClassPath + File.pathSeparator + classpathEntry);
+		try {
+			otherDaemon = LauncherDaemon.bind(0, new JOptSimpleCommandLineOptionsParser());
+		}
+		finally {
+			System.setProperty("java.class.path", originalClassPath);
+		}
+		Thread otherDaemonThread = new Thread(() -> otherDaemon.serve(System.err));
+		otherDaemonThread.start();
+		try {
+			Files.write(classpathEntry, new byte[] { 42 });
+			String[] args = { "--daemon", String.valueOf(otherDaemon.getPort()), "-e", "junit-jupiter", "-p",
+					"org.junit.platform.console.subpackage" };
+
+			ConsoleLauncherWrapperResult result = new ConsoleLauncherWrapper().execute(-1, args);
+
+			assertThat(result.err).contains("class path of the daemon has changed");
+			otherDaemonThread.join(5000);
+			assertFalse(otherDaemonThread.isAlive());
+			assertFalse(Files.exists(LauncherDaemon.tokenFile(otherDaemon.getPort())));
+		}
+		finally {
+			otherDaemon.close();
+			Files.delete(classpathEntry);
+		}
+	}
+
+	private static void assertRejected(Socket socket, String expectedMessage) throws Exception {
+		DataInputStream in = new DataInputStream(socket.getInputStream());
+		assertEquals(LauncherDaemon.ERR, in.readByte());
+		byte[] message = new byte[in.readInt()];
+		in.readFully(message);
+		assertThat(new String(message, StandardCharsets.UTF_8)).contains(expectedMessage);
+		assertEquals(LauncherDaemon.EXIT, in.readByte());
+		assertEquals(-1, in.readInt());
+	}
+
+	static class PrintingTestCase {
+
+		@Test
+		void print() {
+			System.out.println("printed by test");
+			System.err.println("printed to stderr by test");
+		}
+	}
+
+}
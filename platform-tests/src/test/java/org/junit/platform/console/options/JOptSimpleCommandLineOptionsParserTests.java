@@ -68,7 +68,14 @@ class JOptSimpleCommandLineOptionsParserTests {
 			() -> assertEquals(emptyList(), options.getSelectedPackages()),
 			() -> assertEquals(emptyList(), options.getSelectedMethods()),
 			() -> assertEquals(emptyList(), options.getSelectedClasspathEntries()),
-			() -> assertEquals(emptyMap(), options.getConfigurationParameters())
+			() -> assertEquals(emptyMap(), options.getConfigurationParameters()),
+			() -> assertEquals(Optional.empty(), options.getMaxFailures()),
+			() -> assertEquals(Optional.empty(), options.getStartDaemonPort()),
+			() -> assertEquals(Optional.empty(), options.getDaemonPort()),
+			() -> assertEquals(Optional.empty(), options.getShardIndex()),
+			() -> assertEquals(Optional.empty(), options.getShardCount()),
+			() -> assertEquals(Optional.empty(), options.getShardTimingsFile()),
+			() -> assertEquals(Optional.empty(), options.getForkCount())
 		);
 		// @formatter:on
 	}
@@ -496,6 +503,70 @@ class JOptSimpleCommandLineOptionsParserTests {
 		assertOptionWithMissingRequiredArgumentThrowsException("-config", "--config");
 	}
 
+	@Test
+	void parseValidMaxFailures() {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(5), parseArgLine("--max-failures 5").getMaxFailures()),
+			() -> assertEquals(Optional.of(5), parseArgLine("--max-failures=5").getMaxFailures())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidMaxFailures() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--max-failures");
+	}
+
+	@Test
+	void parseValidDaemonPorts() {
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(4711), parseArgLine("--start-daemon 4711").getStartDaemonPort()),
+			() -> assertEquals(Optional.of(4711), parseArgLine("--start-daemon=4711").getStartDaemonPort()),
+			() -> assertEquals(Optional.of(4711), parseArgLine("--daemon 4711").getDaemonPort()),
+			() -> assertEquals(Optional.of(4711), parseArgLine("--daemon=4711").getDaemonPort())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidDaemonPorts() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--start-daemon");
+		assertOptionWithMissingRequiredArgumentThrowsException("--daemon");
+	}
+
+	@Test
+	void parseValidShardingOptions() {
+		CommandLineOptions options = parseArgLine("--shard-index 3 --shard-count=16 --shard-timings timings.txt");
+
+		// @formatter:off
+		assertAll(
+			() -> assertEquals(Optional.of(3), options.getShardIndex()),
+			() -> assertEquals(Optional.of(16), options.getShardCount()),
+			() -> assertEquals(Optional.of(Paths.get("timings.txt")), options.getShardTimingsFile())
+		);
+		// @formatter:on
+	}
+
+	@Test
+	void parseInvalidShardingOptions() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-index");
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-count");
+		assertOptionWithMissingRequiredArgumentThrowsException("--shard-timings");
+	}
+
+	@Test
+	void parseValidForkCount() {
+		assertEquals(Optional.of(4), parseArgLine("--fork-count 4").getForkCount());
+		assertEquals(Optional.of(2), parseArgLine("--fork-count=2").getForkCount());
+	}
+
+	@Test
+	void parseInvalidForkCount() {
+		assertOptionWithMissingRequiredArgumentThrowsException("--fork-count");
+	}
+
 	@Test
 	void printHelpOutputsHelpOption() {
 		StringWriter writer = new StringWriter();
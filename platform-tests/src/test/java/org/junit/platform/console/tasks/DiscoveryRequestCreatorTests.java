@@ -17,6 +17,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.platform.engine.discovery.ClassNameFilter.STANDARD_INCLUDE_PATTERN;
+import static org.junit.platform.launcher.LauncherConstants.MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TIMINGS_FILE_PROPERTY_NAME;
 
 import java.io.File;
 import java.net.URI;
@@ -277,6 +281,32 @@ class DiscoveryRequestCreatorTests {
 		assertThat(configurationParameters.getBoolean("baz")).contains(true);
 	}
 
+	@Test
+	void convertsMaxFailuresToConfigurationParameter() {
+		options.setScanClasspath(true);
+		options.setMaxFailures(3);
+
+		LauncherDiscoveryRequest request = convert();
+
+		assertThat(request.getConfigurationParameters().get(MAX_FAILURES_PROPERTY_NAME)).contains("3");
+	}
+
+	@Test
+	void convertsShardingOptionsToConfigurationParameters() {
+		options.setScanClasspath(true);
+		options.setShardIndex(2);
+		options.setShardCount(16);
+		options.setShardTimingsFile(Paths.get("timings.txt"));
+
+		LauncherDiscoveryRequest request = convert();
+
+		ConfigurationParameters configurationParameters = request.getConfigurationParameters();
+		assertThat(configurationParameters.get(SHARD_INDEX_PROPERTY_NAME)).contains("2");
+		assertThat(configurationParameters.get(SHARD_COUNT_PROPERTY_NAME)).contains("16");
+		assertThat(configurationParameters.get(SHARD_TIMINGS_FILE_PROPERTY_NAME)).contains(
+			Paths.get("timings.txt").toAbsolutePath().toString());
+	}
+
 	private LauncherDiscoveryRequest convert() {
 		DiscoveryRequestCreator creator = new DiscoveryRequestCreator();
 		return creator.toDiscoveryRequest(options);
@@ -10,10 +10,17 @@
 
 package org.junit.platform.engine;
 
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.serializeAndDeserialize;
 
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
@@ -191,6 +198,52 @@ class UniqueIdTests {
 			assertFalse(id1.equals(id2));
 			assertFalse(id2.equals(id1));
 		}
+
+		@Test
+		void appendedAndParsedUniqueIdsAreEqual() {
+			UniqueId appended = UniqueId.root("engine", "junit-jupiter").append("t1", "v1").append("t2", "v2");
+			UniqueId parsed = UniqueId.parse(appended.toString());
+
+			assertTrue(appended.equals(parsed));
+			assertTrue(parsed.equals(appended));
+			assertEquals(appended.hashCode(), parsed.hashCode());
+		}
+
+		@Test
+		void hashCodeIsHashCodeOfSegments() {
+			UniqueId uniqueId = UniqueId.root("engine", "junit-jupiter").append("t1", "v1").append("t2", "v2");
+
+			assertEquals(uniqueId.getSegments().hashCode(), uniqueId.hashCode());
+			assertEquals(asList(new Segment("t1", "v1")).hashCode(), UniqueId.root("t1", "v1").hashCode());
+		}
+	}
+
+	@Nested
+	class Serialization {
+
+		@Test
+		void serializedFormConsistsOfFormatAndSegments() {
+			// @formatter:off
+			List<String> fieldNames = Arrays.stream(ObjectStreamClass.lookup(UniqueId.class).getFields())
+					.map(ObjectStreamField::getName)
+					.collect(toList());
+			// @formatter:on
+
+			assertEquals(asList("segments", "uniqueIdFormat"), fieldNames);
+		}
+
+		@Test
+		void deserializedUniqueIdIsEqualToOriginal() throws Exception {
+			UniqueId uniqueId = UniqueId.root("engine", "junit-jupiter").append("t1", "v1").append("t2", "v2");
+
+			UniqueId deserialized = serializeAndDeserialize(uniqueId);
+
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueId.hashCode(), deserialized.hashCode());
+			assertEquals(uniqueId.toString(), deserialized.toString());
+			assertEquals(uniqueId.getSegments(), deserialized.getSegments());
+			assertEquals(uniqueId.append("t3", "v3"), deserialized.append("t3", "v3"));
+		}
 	}
 
 	private void assertSegment(Segment segment, String expectedType, String expectedValue) {
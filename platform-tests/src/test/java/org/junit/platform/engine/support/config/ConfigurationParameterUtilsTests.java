@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveDouble;
+import static org.junit.platform.engine.support.config.ConfigurationParameterUtils.getPositiveInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * Unit tests for {@link ConfigurationParameterUtils}.
+ *
+ * @since 1.1
+ */
+class ConfigurationParameterUtilsTests {
+
+	private static final String KEY = "key";
+
+	private ConfigurationParameters configParams;
+
+	@BeforeEach
+	void init() {
+		configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(any())).thenReturn(Optional.empty());
+	}
+
+	@Test
+	void returnsDefaultValueIfParameterIsNotSet() {
+		assertThat(getPositiveInt(configParams, KEY, 42)).isEqualTo(42);
+		assertThat(getPositiveDouble(configParams, KEY, 1.5)).isEqualTo(1.5);
+	}
+
+	@Test
+	void parsesPositiveValues() {
+		when(configParams.get(KEY)).thenReturn(Optional.of(" 7 "));
+
+		assertThat(getPositiveInt(configParams, KEY, 42)).isEqualTo(7);
+		assertThat(getPositiveDouble(configParams, KEY, 1.5)).isEqualTo(7.0);
+	}
+
+	@Test
+	void parsesPositiveDecimalNumbers() {
+		when(configParams.get(KEY)).thenReturn(Optional.of("0.5"));
+
+		assertThat(getPositiveDouble(configParams, KEY, 1.5)).isEqualTo(0.5);
+		assertThat(getPositiveInt(configParams, KEY, 42)).isEqualTo(42);
+	}
+
+	@Test
+	void fallsBackToDefaultValueForNonPositiveValues() {
+		when(configParams.get(KEY)).thenReturn(Optional.of("0"));
+		assertThat(getPositiveInt(configParams, KEY, 42)).isEqualTo(42);
+		assertThat(getPositiveDouble(configParams, KEY, 1.5)).isEqualTo(1.5);
+
+		when(configParams.get(KEY)).thenReturn(Optional.of("-3"));
+		assertThat(getPositiveInt(configParams, KEY, 42, "Ignoring it")).isEqualTo(42);
+	}
+
+	@Test
+	void fallsBackToDefaultValueForInvalidValues() {
+		when(configParams.get(KEY)).thenReturn(Optional.of("many"));
+
+		assertThat(getPositiveInt(configParams, KEY, 42)).isEqualTo(42);
+		assertThat(getPositiveDouble(configParams, KEY, 1.5)).isEqualTo(1.5);
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.descriptor;
 
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.TraversalAction;
 import org.junit.platform.engine.UniqueId;
 
 /**
@@ -134,6 +136,110 @@ class AbstractTestDescriptorTests {
 		assertFalse(visited.contains(UniqueId.root("group", "group1")));
 	}
 
+	@Test
+	void traverseVisitsAllNodesInSameOrderAsAccept() {
+		List<TestDescriptor> accepted = new ArrayList<>();
+		engineDescriptor.accept(accepted::add);
+
+		List<TestDescriptor> traversed = new ArrayList<>();
+		engineDescriptor.traverse(descriptor -> {
+			traversed.add(descriptor);
+			return TraversalAction.CONTINUE;
+		});
+
+		assertEquals(accepted, traversed);
+	}
+
+	@Test
+	void traverseSkipsChildren() {
+		List<UniqueId> visited = new ArrayList<>();
+		engineDescriptor.traverse(descriptor -> {
+			visited.add(descriptor.getUniqueId());
+			return descriptor.getUniqueId().equals(UniqueId.root("group", "group1")) ? TraversalAction.SKIP_CHILDREN
+					: TraversalAction.CONTINUE;
+		});
+
+		assertEquals(asList(UniqueId.forEngine("testEngine"), UniqueId.root("group", "group1"),
+			UniqueId.root("group", "group2"), UniqueId.root("leaf", "leaf2-1")), visited);
+	}
+
+	@Test
+	void traverseTerminates() {
+		List<UniqueId> visited = new ArrayList<>();
+		engineDescriptor.traverse(descriptor -> {
+			visited.add(descriptor.getUniqueId());
+			return descriptor.getUniqueId().equals(UniqueId.root("group", "group1-1")) ? TraversalAction.TERMINATE
+					: TraversalAction.CONTINUE;
+		});
+
+		assertEquals(asList(UniqueId.forEngine("testEngine"), UniqueId.root("group", "group1"),
+			UniqueId.root("group", "group1-1")), visited);
+	}
+
+	@Test
+	void getDescendantsReturnsChildrenBeforeTheirDescendants() {
+		List<UniqueId> descendants = new ArrayList<>();
+		engineDescriptor.getDescendants().forEach(descriptor -> descendants.add(descriptor.getUniqueId()));
+
+		assertEquals(asList(UniqueId.root("group", "group1"), UniqueId.root("group", "group2"),
+			UniqueId.root("group", "group1-1"), UniqueId.root("leaf", "leaf1-1"), UniqueId.root("leaf", "leaf1-2"),
+			UniqueId.root("leaf", "leaf11-1"), UniqueId.root("leaf", "leaf2-1")), descendants);
+	}
+
+	@Test
+	void findByUniqueIdFindsDescendants() {
+		TestDescriptor group1 = engineDescriptor.findByUniqueId(UniqueId.root("group", "group1")).get();
+		TestDescriptor leaf = engineDescriptor.findByUniqueId(UniqueId.root("leaf", "leaf11-1")).get();
+
+		assertEquals(UniqueId.root("leaf", "leaf11-1"), leaf.getUniqueId());
+		assertSame(leaf, group1.findByUniqueId(UniqueId.root("leaf", "leaf11-1")).get());
+		assertSame(engineDescriptor, engineDescriptor.findByUniqueId(UniqueId.forEngine("testEngine")).get());
+		assertFalse(group1.findByUniqueId(UniqueId.root("leaf", "leaf2-1")).isPresent());
+		assertFalse(engineDescriptor.findByUniqueId(UniqueId.root("leaf", "unknown")).isPresent());
+	}
+
+	@Test
+	void findByUniqueIdReflectsChangesOfHierarchy() {
+		GroupDescriptor group3 = new GroupDescriptor(UniqueId.root("group", "group3"));
+		LeafDescriptor leaf31 = new LeafDescriptor(UniqueId.root("leaf", "leaf3-1"));
+		group3.addChild(leaf31);
+		engineDescriptor.addChild(group3);
+		LeafDescriptor leaf32 = new LeafDescriptor(UniqueId.root("leaf", "leaf3-2"));
+		group3.addChild(leaf32);
+
+		assertSame(leaf31, engineDescriptor.findByUniqueId(leaf31.getUniqueId()).get());
+		assertSame(leaf32, engineDescriptor.findByUniqueId(leaf32.getUniqueId()).get());
+
+		group3.removeChild(leaf31);
+		assertFalse(engineDescriptor.findByUniqueId(leaf31.getUniqueId()).isPresent());
+
+		group3.removeFromHierarchy();
+		assertFalse(engineDescriptor.findByUniqueId(group3.getUniqueId()).isPresent());
+		assertFalse(engineDescriptor.findByUniqueId(leaf32.getUniqueId()).isPresent());
+	}
+
+	@Test
+	void findByUniqueIdFindsDescendantsOfNestedEngineDescriptors() {
+		EngineDescriptor nestedEngine = new EngineDescriptor(UniqueId.forEngine("nestedEngine"), "nestedEngine");
+		engineDescriptor.addChild(nestedEngine);
+		LeafDescriptor leaf = new LeafDescriptor(UniqueId.root("leaf", "nested"));
+		nestedEngine.addChild(leaf);
+
+		assertSame(leaf, nestedEngine.findByUniqueId(leaf.getUniqueId()).get());
+		assertSame(leaf, engineDescriptor.findByUniqueId(leaf.getUniqueId()).get());
+	}
+
+	@Test
+	void findByUniqueIdFindsDescendantsOfDescriptorsNotAddedAsChild() {
+		TestDescriptor group = engineDescriptor.getChildren().iterator().next();
+		group.removeFromHierarchy();
+		LeafDescriptor leaf = new LeafDescriptor(UniqueId.root("leaf", "orphan"));
+		group.addChild(leaf);
+		group.setParent(engineDescriptor);
+
+		assertSame(leaf, group.findByUniqueId(leaf.getUniqueId()).get());
+	}
+
 }
 
 class GroupDescriptor extends AbstractTestDescriptor {
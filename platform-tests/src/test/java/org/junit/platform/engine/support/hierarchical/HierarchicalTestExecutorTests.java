@@ -10,10 +10,14 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine.MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine.TIMING_ENABLED_PROPERTY_NAME;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
@@ -21,18 +25,28 @@ import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
@@ -276,6 +290,130 @@ class HierarchicalTestExecutorTests {
 		assertSame(childExecutionResult.getValue().getThrowable().get(), anException);
 	}
 
+	@Test
+	void skipsNotYetStartedNodesOnceMaxFailuresHaveBeenReached() throws Exception {
+
+		MyLeaf child1 = spy(new MyLeaf(root.getUniqueId().append("leaf", "child1")));
+		MyLeaf child2 = spy(new MyLeaf(root.getUniqueId().append("leaf", "child2")));
+		MyContainer child3 = spy(new MyContainer(root.getUniqueId().append("container", "child3")));
+		when(child1.execute(eq(rootContext), any())).thenThrow(new RuntimeException("in test"));
+		root.addChild(child1);
+		root.addChild(child2);
+		root.addChild(child3);
+
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(MAX_FAILURES_PROPERTY_NAME)).thenReturn(Optional.of("1"));
+		ExecutionRequest request = new ExecutionRequest(root, listener, configParams);
+
+		new MyExecutor(request, rootContext).execute();
+
+		String reason = "Maximum number of failures (1) has been reached";
+		verify(listener).executionFinished(eq(child1), any(TestExecutionResult.class));
+		verify(listener).executionSkipped(child2, reason);
+		verify(listener).executionSkipped(child3, reason);
+		verify(child2, never()).prepare(any());
+		verify(child3, never()).prepare(any());
+		verify(listener).executionFinished(root, TestExecutionResult.successful());
+	}
+
+	@Test
+	void failedContainersDoNotCountTowardMaxFailures() throws Exception {
+
+		MyContainer child1 = spy(new MyContainer(root.getUniqueId().append("container", "child1")));
+		MyLeaf child2 = spy(new MyLeaf(root.getUniqueId().append("leaf", "child2")));
+		when(child1.before(rootContext)).thenThrow(new RuntimeException("in container"));
+		root.addChild(child1);
+		root.addChild(child2);
+
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(MAX_FAILURES_PROPERTY_NAME)).thenReturn(Optional.of("1"));
+		ExecutionRequest request = new ExecutionRequest(root, listener, configParams);
+
+		new MyExecutor(request, rootContext).execute();
+
+		ArgumentCaptor<TestExecutionResult> child1ExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		verify(listener).executionFinished(eq(child1), child1ExecutionResult.capture());
+		assertEquals(TestExecutionResult.Status.FAILED, child1ExecutionResult.getValue().getStatus());
+		verify(child2).execute(eq(rootContext), any());
+		verify(listener).executionFinished(child2, TestExecutionResult.successful());
+		verify(listener, never()).executionSkipped(any(), any());
+	}
+
+	@Test
+	void publishesDurationsOfLifecyclePhasesIfTimingIsEnabled() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(root.getUniqueId().append("leaf", "child")));
+		root.addChild(child);
+
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(any())).thenReturn(Optional.empty());
+		when(configParams.getBoolean(TIMING_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+		ExecutionRequest request = new ExecutionRequest(root, listener, configParams);
+
+		new MyExecutor(request, rootContext).execute();
+
+		ArgumentCaptor<ReportEntry> reportEntry = ArgumentCaptor.forClass(ReportEntry.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(child);
+		inOrder.verify(listener).reportingEntryPublished(eq(child), reportEntry.capture());
+		inOrder.verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+
+		assertThat(reportEntry.getValue().getKeyValuePairs()).containsOnlyKeys("timing.prepare",
+			"timing.shouldBeSkipped", "timing.before", "timing.execute", "timing.after");
+		assertThat(reportEntry.getValue().getKeyValuePairs().values()).allSatisfy(
+			duration -> assertThat(Long.parseLong(duration)).isNotNegative());
+	}
+
+	@Test
+	void doesNotPublishDurationsOfSkippedNodesIfTimingIsEnabled() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(root.getUniqueId().append("leaf", "child")));
+		when(child.shouldBeSkipped(rootContext)).thenReturn(Node.SkipResult.skip("in test"));
+		root.addChild(child);
+
+		new MyExecutor(timingEnabledRequest(), rootContext).execute();
+
+		verify(listener).executionSkipped(child, "in test");
+		verify(listener, never()).executionStarted(child);
+		verify(listener, never()).reportingEntryPublished(eq(child), any(ReportEntry.class));
+	}
+
+	@Test
+	void publishesDurationsOfExecutedLifecyclePhasesIfPrepareFailsAndTimingIsEnabled() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(root.getUniqueId().append("leaf", "child")));
+		when(child.prepare(rootContext)).thenThrow(new RuntimeException("in prepare"));
+		root.addChild(child);
+
+		new MyExecutor(timingEnabledRequest(), rootContext).execute();
+
+		ArgumentCaptor<ReportEntry> reportEntry = ArgumentCaptor.forClass(ReportEntry.class);
+		InOrder inOrder = inOrder(listener);
+		inOrder.verify(listener).executionStarted(child);
+		inOrder.verify(listener).reportingEntryPublished(eq(child), reportEntry.capture());
+		inOrder.verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+
+		assertThat(reportEntry.getValue().getKeyValuePairs()).containsOnlyKeys("timing.prepare");
+	}
+
+	private ExecutionRequest timingEnabledRequest() {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(any())).thenReturn(Optional.empty());
+		when(configParams.getBoolean(TIMING_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+		return new ExecutionRequest(root, listener, configParams);
+	}
+
+	@Test
+	void doesNotPublishDurationsOfLifecyclePhasesByDefault() throws Exception {
+
+		MyLeaf child = spy(new MyLeaf(root.getUniqueId().append("leaf", "child")));
+		root.addChild(child);
+
+		executor.execute();
+
+		verify(listener, never()).reportingEntryPublished(any(), any());
+	}
+
 	@Test
 	void abortInContainerBeforeAll() throws Exception {
 
@@ -366,6 +504,47 @@ class HierarchicalTestExecutorTests {
 			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
 	}
 
+	@Test
+	void executesSubmittedDynamicTestDescriptorsConcurrentlyInParallelMode() throws Exception {
+
+		UniqueId leafUniqueId = root.getUniqueId().append("leaf", "child leaf");
+		MyLeaf child = spy(new MyLeaf(leafUniqueId));
+		MyLeaf dynamic1 = spy(new MyLeaf(leafUniqueId.append("dynamic", "child1")));
+		MyLeaf dynamic2 = spy(new MyLeaf(leafUniqueId.append("dynamic", "child2")));
+
+		CountDownLatch latch = new CountDownLatch(2);
+		Answer<Object> awaitSibling = invocation -> {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "Dynamic sibling was not executed concurrently.");
+			return invocation.getArgument(0);
+		};
+		when(dynamic1.execute(any(), any())).thenAnswer(awaitSibling);
+		when(dynamic2.execute(any(), any())).thenAnswer(awaitSibling);
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			dynamicTestExecutor.submit(dynamic1);
+			dynamicTestExecutor.submit(dynamic2);
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		InOrder inOrder1 = inOrder(listener, child);
+		InOrder inOrder2 = inOrder(listener, child);
+
+		createParallelExecutor(2).execute();
+
+		ArgumentCaptor<TestExecutionResult> aTestExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		inOrder1.verify(listener).dynamicTestRegistered(dynamic1);
+		inOrder1.verify(listener).executionFinished(eq(dynamic1), aTestExecutionResult.capture());
+		inOrder1.verify(child).after(any());
+		inOrder2.verify(listener).dynamicTestRegistered(dynamic2);
+		inOrder2.verify(listener).executionFinished(eq(dynamic2), aTestExecutionResult.capture());
+		inOrder2.verify(child).after(any());
+
+		assertThat(aTestExecutionResult.getAllValues()).extracting(TestExecutionResult::getStatus).containsExactly(
+			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
+	}
+
 	@Test
 	void executesDynamicTestDescriptorsUsingContainerAndTestType() throws Exception {
 
@@ -423,6 +602,102 @@ class HierarchicalTestExecutorTests {
 		};
 	}
 
+	@Test
+	void executesSiblingsConcurrentlyInParallelMode() throws Exception {
+		assertSiblingsAreExecutedConcurrently(createParallelExecutor(2));
+	}
+
+	@Test
+	void executesSiblingsConcurrentlyWithThreadPerTaskExecutorService() throws Exception {
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		try (HierarchicalTestExecutorService executorService = new ThreadPerTaskHierarchicalTestExecutorService()) {
+			assertSiblingsAreExecutedConcurrently(new MyExecutor(request, rootContext, executorService));
+		}
+	}
+
+	private void assertSiblingsAreExecutedConcurrently(HierarchicalTestExecutor<MyEngineExecutionContext> executor)
+			throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+		MyLeaf child1 = spy(new MyLeaf(root.getUniqueId().append("leaf", "child1")));
+		MyLeaf child2 = spy(new MyLeaf(root.getUniqueId().append("leaf", "child2")));
+		Answer<Object> awaitSibling = invocation -> {
+			latch.countDown();
+			assertTrue(latch.await(5, TimeUnit.SECONDS), "Sibling was not executed concurrently.");
+			return invocation.getArgument(0);
+		};
+		when(child1.execute(any(), any())).thenAnswer(awaitSibling);
+		when(child2.execute(any(), any())).thenAnswer(awaitSibling);
+		root.addChild(child1);
+		root.addChild(child2);
+
+		InOrder inOrder = inOrder(listener, root);
+
+		executor.execute();
+
+		ArgumentCaptor<TestExecutionResult> childExecutionResult = ArgumentCaptor.forClass(TestExecutionResult.class);
+		inOrder.verify(listener).executionStarted(root);
+		inOrder.verify(root).before(rootContext);
+		inOrder.verify(root).after(rootContext);
+		inOrder.verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+		verify(listener).executionFinished(eq(child1), childExecutionResult.capture());
+		verify(listener).executionFinished(eq(child2), childExecutionResult.capture());
+
+		assertThat(childExecutionResult.getAllValues()).extracting(TestExecutionResult::getStatus).containsExactly(
+			TestExecutionResult.Status.SUCCESSFUL, TestExecutionResult.Status.SUCCESSFUL);
+	}
+
+	@Test
+	void reportsEventsOfEachSubtreeInOrderInParallelMode() throws Exception {
+
+		MyContainer container = spy(new MyContainer(root.getUniqueId().append("container", "container")));
+		MyLeaf leaf = spy(new MyLeaf(container.getUniqueId().append("leaf", "leaf")));
+		MyLeaf sibling = spy(new MyLeaf(root.getUniqueId().append("leaf", "sibling")));
+		container.addChild(leaf);
+		root.addChild(container);
+		root.addChild(sibling);
+
+		InOrder inOrder = inOrder(listener, container, leaf);
+
+		createParallelExecutor(4).execute();
+
+		inOrder.verify(container).prepare(rootContext);
+		inOrder.verify(listener).executionStarted(container);
+		inOrder.verify(container).before(rootContext);
+		inOrder.verify(listener).executionStarted(leaf);
+		inOrder.verify(leaf).execute(eq(rootContext), any());
+		inOrder.verify(listener).executionFinished(eq(leaf), any(TestExecutionResult.class));
+		inOrder.verify(container).after(rootContext);
+		inOrder.verify(listener).executionFinished(eq(container), any(TestExecutionResult.class));
+		verify(listener).executionFinished(eq(sibling), any(TestExecutionResult.class));
+	}
+
+	@Test
+	void doesNotExecuteSiblingsWithConflictingExclusiveResourcesConcurrently() throws Exception {
+
+		Set<ExclusiveResource> resources = singleton(new ExclusiveResource("shared", LockMode.READ_WRITE));
+		AtomicInteger activeChildren = new AtomicInteger();
+		AtomicInteger maxActiveChildren = new AtomicInteger();
+		Answer<Object> trackConcurrency = invocation -> {
+			maxActiveChildren.accumulateAndGet(activeChildren.incrementAndGet(), Math::max);
+			Thread.sleep(50);
+			activeChildren.decrementAndGet();
+			return invocation.getArgument(0);
+		};
+		for (int i = 0; i < 4; i++) {
+			MyLeaf child = spy(new MyLeaf(root.getUniqueId().append("leaf", "child" + i)));
+			when(child.getExclusiveResources()).thenReturn(resources);
+			when(child.execute(any(), any())).thenAnswer(trackConcurrency);
+			root.addChild(child);
+		}
+
+		createParallelExecutor(4).execute();
+
+		verify(listener, times(4)).executionFinished(any(MyLeaf.class),
+			eq(TestExecutionResult.successful()));
+		assertThat(maxActiveChildren).hasValue(1);
+	}
+
 	/**
 	 * Verifies support for blacklisted exceptions.
 	 */
@@ -453,6 +728,11 @@ class HierarchicalTestExecutorTests {
 
 	// -------------------------------------------------------------------
 
+	private HierarchicalTestExecutor<MyEngineExecutionContext> createParallelExecutor(int parallelism) {
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		return new MyExecutor(request, rootContext, new ForkJoinPoolHierarchicalTestExecutorService(parallelism));
+	}
+
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
 	}
 
@@ -501,7 +781,12 @@ class HierarchicalTestExecutorTests {
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
-			super(request, rootContext);
+			this(request, rootContext, new SameThreadHierarchicalTestExecutorService());
+		}
+
+		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext,
+				HierarchicalTestExecutorService executorService) {
+			super(request, rootContext, executorService);
 		}
 	}
 
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LockManager} and {@link ResourceLock}.
+ *
+ * @since 1.1
+ */
+class LockManagerTests {
+
+	private final LockManager lockManager = new LockManager();
+
+	@Test
+	void noResourcesYieldNopLock() {
+		assertSame(ResourceLock.NOP, lockManager.getLockForResources(emptyList()));
+	}
+
+	@Test
+	void readLocksMayBeHeldConcurrently() throws Exception {
+		ResourceLock first = lockManager.getLockForResources(singletonList(new ExclusiveResource("a", READ)));
+		ResourceLock second = lockManager.getLockForResources(singletonList(new ExclusiveResource("a", READ)));
+
+		first.acquire();
+		try {
+			CountDownLatch acquired = acquireAndReleaseInOtherThread(second);
+			assertTrue(acquired.await(5, TimeUnit.SECONDS));
+		}
+		finally {
+			first.release();
+		}
+	}
+
+	@Test
+	void readWriteLockExcludesOtherAccess() throws Exception {
+		ResourceLock writer = lockManager.getLockForResources(singletonList(new ExclusiveResource("a", READ_WRITE)));
+		ResourceLock reader = lockManager.getLockForResources(singletonList(new ExclusiveResource("a", READ)));
+
+		CountDownLatch acquired;
+		writer.acquire();
+		try {
+			acquired = acquireAndReleaseInOtherThread(reader);
+			assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+		}
+		finally {
+			writer.release();
+		}
+		assertTrue(acquired.await(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	void resourcesMappedOntoSameStripeUseStrongestLockMode() throws Exception {
+		LockManager singleStripeLockManager = new LockManager(1);
+		ResourceLock lock = singleStripeLockManager.getLockForResources(
+			asList(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE)));
+		ResourceLock other = singleStripeLockManager.getLockForResources(
+			singletonList(new ExclusiveResource("c", READ)));
+
+		CountDownLatch acquired;
+		lock.acquire();
+		try {
+			acquired = acquireAndReleaseInOtherThread(other);
+			assertFalse(acquired.await(200, TimeUnit.MILLISECONDS));
+		}
+		finally {
+			lock.release();
+		}
+		assertTrue(acquired.await(5, TimeUnit.SECONDS));
+	}
+
+	private static CountDownLatch acquireAndReleaseInOtherThread(ResourceLock lock) {
+		CountDownLatch acquired = new CountDownLatch(1);
+		Thread thread = new Thread(() -> {
+			try {
+				lock.acquire();
+				acquired.countDown();
+				lock.release();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		thread.setDaemon(true);
+		thread.start();
+		return acquired;
+	}
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_DYNAMIC_FACTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration.ExecutorType;
+
+/**
+ * Unit tests for {@link ParallelExecutionConfiguration}.
+ *
+ * @since 1.1
+ */
+class ParallelExecutionConfigurationTests {
+
+	private final int availableProcessors = Runtime.getRuntime().availableProcessors();
+
+	private ConfigurationParameters configParams;
+
+	@BeforeEach
+	void init() {
+		configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(any())).thenReturn(Optional.empty());
+		when(configParams.getBoolean(any())).thenReturn(Optional.empty());
+	}
+
+	@Test
+	void disabledByDefault() {
+		ParallelExecutionConfiguration configuration = ParallelExecutionConfiguration.from(configParams);
+
+		assertThat(configuration.isEnabled()).isFalse();
+		assertThat(configuration.getParallelism()).isEqualTo(1);
+	}
+
+	@Test
+	void disabledWithoutConfigurationParameters() {
+		assertThat(ParallelExecutionConfiguration.from(null).isEnabled()).isFalse();
+	}
+
+	@Test
+	void dynamicStrategyUsesAvailableProcessorsByDefault() {
+		enable();
+
+		ParallelExecutionConfiguration configuration = ParallelExecutionConfiguration.from(configParams);
+
+		assertThat(configuration.isEnabled()).isTrue();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors);
+	}
+
+	@Test
+	void dynamicStrategyMultipliesAvailableProcessorsWithFactor() {
+		enable();
+		set(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME, "DYNAMIC");
+		set(PARALLEL_EXECUTION_DYNAMIC_FACTOR_PROPERTY_NAME, "2.5");
+
+		ParallelExecutionConfiguration configuration = ParallelExecutionConfiguration.from(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo((int) (2.5 * availableProcessors));
+	}
+
+	@Test
+	void fixedStrategyUsesConfiguredParallelism() {
+		enable();
+		set(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME, "fixed");
+		set(PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME, "42");
+
+		ParallelExecutionConfiguration configuration = ParallelExecutionConfiguration.from(configParams);
+
+		assertThat(configuration.getParallelism()).isEqualTo(42);
+	}
+
+	@Test
+	void forkJoinExecutorIsUsedByDefault() {
+		enable();
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getExecutorType()).isEqualTo(
+			ExecutorType.FORK_JOIN);
+	}
+
+	@Test
+	void threadPerTaskExecutorCanBeSelected() {
+		enable();
+		set(PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME, " Thread_Per_Task ");
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getExecutorType()).isEqualTo(
+			ExecutorType.THREAD_PER_TASK);
+	}
+
+	@Test
+	void invalidExecutorFallsBackToForkJoin() {
+		enable();
+		set(PARALLEL_EXECUTION_EXECUTOR_PROPERTY_NAME, "carrier-pigeon");
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getExecutorType()).isEqualTo(
+			ExecutorType.FORK_JOIN);
+	}
+
+	@Test
+	void invalidValuesFallBackToDefaults() {
+		enable();
+		set(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME, "fixed");
+		set(PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME, "-1");
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getParallelism()).isEqualTo(availableProcessors);
+
+		set(PARALLEL_EXECUTION_FIXED_PARALLELISM_PROPERTY_NAME, "many");
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getParallelism()).isEqualTo(availableProcessors);
+
+		set(PARALLEL_EXECUTION_STRATEGY_PROPERTY_NAME, "bogus");
+
+		assertThat(ParallelExecutionConfiguration.from(configParams).getParallelism()).isEqualTo(availableProcessors);
+	}
+
+	private void enable() {
+		when(configParams.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME)).thenReturn(Optional.of(true));
+	}
+
+	private void set(String key, String value) {
+		when(configParams.get(key)).thenReturn(Optional.of(value));
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.ThreadPerTaskHierarchicalTestExecutorService.invokeExecutorFactoryMethod;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ThreadPerTaskHierarchicalTestExecutorService}.
+ *
+ * @since 1.1
+ */
+class ThreadPerTaskHierarchicalTestExecutorServiceTests {
+
+	@Test
+	void usesExecutorServiceReturnedByFactoryMethod() throws Exception {
+		Method factoryMethod = getClass().getDeclaredMethod("supportedFactoryMethod");
+
+		Optional<ExecutorService> executorService = invokeExecutorFactoryMethod(factoryMethod);
+
+		assertThat(executorService).isPresent();
+		executorService.get().shutdownNow();
+	}
+
+	@Test
+	void fallsBackIfFactoryMethodIsUnsupported() throws Exception {
+		Method factoryMethod = getClass().getDeclaredMethod("unsupportedFactoryMethod");
+
+		Optional<ExecutorService> executorService = invokeExecutorFactoryMethod(factoryMethod);
+
+		assertThat(executorService).isEmpty();
+	}
+
+	static ExecutorService supportedFactoryMethod() {
+		return Executors.newSingleThreadExecutor();
+	}
+
+	static ExecutorService unsupportedFactoryMethod() {
+		throw new UnsupportedOperationException("Preview features not enabled");
+	}
+
+}
@@ -10,21 +10,29 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.launcher.TagFilter.excludeTags;
 import static org.junit.platform.launcher.TagFilter.includeTags;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.TestTagFilter;
 import org.junit.platform.engine.support.descriptor.DemoClassTestDescriptor;
 
 /**
@@ -129,6 +137,26 @@ class TagFilterTests {
 		assertTrue(filter.apply(classWithNoTags).included());
 	}
 
+	@Test
+	void tagFiltersAreOfferedToEnginesDuringDiscovery() {
+		LauncherDiscoveryRequest request = request().filters(includeTags("tag1"), excludeTags("tag2")).build();
+
+		List<TestTagFilter> testTagFilters = request.getFiltersByType(TestTagFilter.class);
+
+		assertThat(testTagFilters).hasSize(2);
+		Set<TestTag> tag1 = singleton(TestTag.create("tag1"));
+		Set<TestTag> tag2 = singleton(TestTag.create("tag2"));
+		assertTrue(testTagFilters.get(0).apply(tag1).included());
+		assertTrue(testTagFilters.get(1).apply(tag2).excluded());
+
+		// Included tags may be declared by descendants
+		assertFalse(testTagFilters.get(0).excludesAll(emptySet(), tag1));
+		assertTrue(testTagFilters.get(0).excludesAll(emptySet(), tag2));
+		// Excluded tags exclude all descendants if they are inherited by all of them
+		assertFalse(testTagFilters.get(1).excludesAll(emptySet(), tag2));
+		assertTrue(testTagFilters.get(1).excludesAll(tag2, tag2));
+	}
+
 	private void includeSingleTag(PostDiscoveryFilter filter) {
 		assertTrue(filter.apply(classWithTag1).included());
 		assertTrue(filter.apply(classWithTag1AndSurroundingWhitespace).included());
@@ -10,10 +10,20 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.TestTag;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -71,4 +81,135 @@ class TestPlanTests {
 
 		assertThat(testPlan.containsTests()).as("contains tests").isTrue();
 	}
+
+	@Test
+	void sharesParentIdsAndTagSetsBetweenIdentifiers() {
+		TestDescriptor container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "c"),
+			"C", Type.CONTAINER, "fast");
+		engineDescriptor.addChild(container);
+		for (int i = 0; i < 3; i++) {
+			container.addChild(new TestDescriptorStub(container.getUniqueId().append("test", "t" + i), "T" + i,
+				Type.TEST, "fast"));
+		}
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		TestIdentifier containerIdentifier = testPlan.getTestIdentifier(container.getUniqueId().toString());
+		List<TestIdentifier> tests = new ArrayList<>(testPlan.getChildren(containerIdentifier));
+		assertThat(tests).extracting(TestIdentifier::getDisplayName).containsExactly("T0", "T1", "T2");
+		for (TestIdentifier test : tests) {
+			assertThat(test.getParentId().get()).isSameAs(containerIdentifier.getUniqueId());
+			assertThat(test.getTags()).isSameAs(containerIdentifier.getTags()).containsExactly(TestTag.create("fast"));
+		}
+	}
+
+	@Test
+	void childrenReflectDynamicallyAddedIdentifiers() {
+		TestDescriptor container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "c"),
+			"C", Type.CONTAINER);
+		engineDescriptor.addChild(container);
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier containerIdentifier = testPlan.getTestIdentifier(container.getUniqueId().toString());
+		Set<TestIdentifier> children = testPlan.getChildren(containerIdentifier);
+		assertThat(children).isEmpty();
+
+		List<TestIdentifier> dynamicTests = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			TestDescriptor dynamicTest = new TestDescriptorStub(container.getUniqueId().append("dynamic", "d" + i),
+				"D" + i, Type.TEST);
+			container.addChild(dynamicTest);
+			TestIdentifier dynamicTestIdentifier = TestIdentifier.from(dynamicTest);
+			dynamicTests.add(dynamicTestIdentifier);
+			testPlan.add(dynamicTestIdentifier);
+			testPlan.add(dynamicTestIdentifier);
+		}
+
+		assertThat(testPlan.getChildren(containerIdentifier)).containsExactlyElementsOf(dynamicTests);
+		assertThat(testPlan.getChildren(containerIdentifier)).contains(dynamicTests.get(7));
+		assertThat(testPlan.getChildren(containerIdentifier)).doesNotContain(containerIdentifier);
+		assertThat(testPlan.getDescendants(testPlan.getRoots().iterator().next())).hasSize(11);
+	}
+
+	@Test
+	void maintainsCountsAndPreOrderDescendants() {
+		TestDescriptor container1 = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "c1"),
+			"C1", Type.CONTAINER);
+		TestDescriptor container2 = new TestDescriptorStub(container1.getUniqueId().append("container", "c2"), "C2",
+			Type.CONTAINER);
+		TestDescriptor test1 = new TestDescriptorStub(container2.getUniqueId().append("test", "t1"), "T1", Type.TEST);
+		TestDescriptor test2 = new TestDescriptorStub(container1.getUniqueId().append("test", "t2"), "T2", Type.TEST);
+		engineDescriptor.addChild(container1);
+		container1.addChild(container2);
+		container2.addChild(test1);
+		container1.addChild(test2);
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier root = testPlan.getRoots().iterator().next();
+		TestIdentifier container1Identifier = testPlan.getTestIdentifier(container1.getUniqueId().toString());
+
+		assertThat(testPlan.countTests()).isEqualTo(2);
+		assertThat(testPlan.countContainers()).isEqualTo(3);
+		assertThat(testPlan.countDescendantTests(container1Identifier)).isEqualTo(2);
+		assertThat(testPlan.countDescendantContainers(container1Identifier)).isEqualTo(1);
+		assertThat(testPlan.getDescendants(root)).extracting(TestIdentifier::getDisplayName).containsExactly("C1",
+			"C2", "T1", "T2");
+		assertThat(testPlan.getDescendants(container1Identifier)).contains(
+			testPlan.getTestIdentifier(test1.getUniqueId().toString())).doesNotContain(root, container1Identifier);
+
+		TestDescriptor dynamicTest = new TestDescriptorStub(container2.getUniqueId().append("dynamic", "d"), "D",
+			Type.TEST);
+		container2.addChild(dynamicTest);
+		testPlan.add(TestIdentifier.from(dynamicTest));
+
+		assertThat(testPlan.countTests()).isEqualTo(3);
+		assertThat(testPlan.countDescendantTests(root)).isEqualTo(3);
+		assertThat(testPlan.countDescendantTests(container1Identifier)).isEqualTo(3);
+		assertThat(testPlan.getDescendants(root)).extracting(TestIdentifier::getDisplayName).containsExactly("C1",
+			"C2", "T1", "D", "T2");
+	}
+
+	@Test
+	void countsDescendantsAddedBeforeTheirAncestors() {
+		TestDescriptor container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "c"),
+			"C", Type.CONTAINER);
+		TestDescriptor test = new TestDescriptorStub(container.getUniqueId().append("test", "t"), "T", Type.TEST);
+		engineDescriptor.addChild(container);
+		container.addChild(test);
+
+		TestPlan testPlan = TestPlan.from(emptyList());
+		testPlan.add(TestIdentifier.from(test));
+		testPlan.add(TestIdentifier.from(container));
+		testPlan.add(TestIdentifier.from(engineDescriptor));
+		TestIdentifier root = testPlan.getRoots().iterator().next();
+
+		assertThat(testPlan.countTests()).isEqualTo(1);
+		assertThat(testPlan.countDescendantTests(root)).isEqualTo(1);
+		assertThat(testPlan.countDescendantContainers(root)).isEqualTo(1);
+		assertThat(testPlan.getDescendants(root)).extracting(TestIdentifier::getDisplayName).containsExactly("C",
+			"T");
+	}
+
+	private static class TestDescriptorStub extends AbstractTestDescriptor {
+
+		private final Type type;
+		private final Set<TestTag> tags = new LinkedHashSet<>();
+
+		TestDescriptorStub(UniqueId uniqueId, String displayName, Type type, String... tags) {
+			super(uniqueId, displayName);
+			this.type = type;
+			Arrays.stream(tags).map(TestTag::create).forEach(this.tags::add);
+		}
+
+		@Override
+		public Type getType() {
+			return this.type;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return this.tags;
+		}
+
+	}
+
 }
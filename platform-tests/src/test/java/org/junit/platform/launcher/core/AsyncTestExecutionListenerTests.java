@@ -0,0 +1,266 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.test.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Unit tests for {@link AsyncTestExecutionListener}.
+ *
+ * @since 1.1
+ */
+class AsyncTestExecutionListenerTests {
+
+	private final TestPlan testPlan = TestPlan.from(emptyList());
+
+	private final TestIdentifier testIdentifier = TestIdentifier.from(
+		new TestDescriptorStub(UniqueId.root("test", "foo"), "foo"));
+
+	@Test
+	void capacityMustBePositive() {
+		assertThrows(PreconditionViolationException.class,
+			() -> new AsyncTestExecutionListener(new TestExecutionListener() {
+			}, 0));
+	}
+
+	@Test
+	void deliversEventsInOrderOnDispatcherThreadBeforeTestPlanExecutionFinishedReturns() {
+		RecordingListener delegate = new RecordingListener();
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 2);
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < 10; i++) {
+			listener.executionStarted(testIdentifier);
+			listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		List<String> expectedEvents = new ArrayList<>();
+		expectedEvents.add("testPlanExecutionStarted");
+		for (int i = 0; i < 10; i++) {
+			expectedEvents.add("executionStarted");
+			expectedEvents.add("executionFinished");
+		}
+		expectedEvents.add("testPlanExecutionFinished");
+		assertThat(delegate.events).containsExactlyElementsOf(expectedEvents);
+		assertThat(delegate.threads).doesNotContain(Thread.currentThread()).hasSize(1);
+	}
+
+	@Test
+	void blocksReportingThreadWhileQueueIsFull() throws Exception {
+		CountDownLatch dispatcherBlocked = new CountDownLatch(1);
+		CountDownLatch releaseDispatcher = new CountDownLatch(1);
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				dispatcherBlocked.countDown();
+				try {
+					releaseDispatcher.await();
+				}
+				catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+				super.executionStarted(testIdentifier);
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 1);
+
+		listener.executionStarted(testIdentifier);
+		assertTrue(dispatcherBlocked.await(5, TimeUnit.SECONDS), "dispatcher thread did not start delivering");
+
+		Thread producer = new Thread(() -> {
+			listener.executionSkipped(testIdentifier, "first");
+			listener.executionSkipped(testIdentifier, "second");
+		});
+		producer.start();
+		producer.join(200);
+		assertThat(producer.isAlive()).as("producer blocked on full queue").isTrue();
+
+		releaseDispatcher.countDown();
+		producer.join(5000);
+		assertThat(producer.isAlive()).isFalse();
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(delegate.events).containsExactly("executionStarted", "executionSkipped", "executionSkipped",
+			"testPlanExecutionFinished");
+	}
+
+	@Test
+	void dropsEventsReportedAfterClose() {
+		RecordingListener delegate = new RecordingListener();
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 1);
+
+		listener.testPlanExecutionFinished(testPlan);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+
+		assertThat(delegate.events).containsExactly("testPlanExecutionFinished");
+	}
+
+	@Test
+	void deliversEventsOfReportingThreadBlockedOnFullQueueWhenClosed() throws Exception {
+		CountDownLatch dispatcherBlocked = new CountDownLatch(1);
+		CountDownLatch releaseDispatcher = new CountDownLatch(1);
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				dispatcherBlocked.countDown();
+				try {
+					releaseDispatcher.await();
+				}
+				catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+				super.executionStarted(testIdentifier);
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 1);
+
+		listener.executionStarted(testIdentifier);
+		assertTrue(dispatcherBlocked.await(5, TimeUnit.SECONDS), "dispatcher thread did not start delivering");
+		listener.executionSkipped(testIdentifier, "fills queue");
+
+		Thread producer = new Thread(() -> listener.executionSkipped(testIdentifier, "blocked"));
+		producer.start();
+		producer.join(200);
+		assertThat(producer.isAlive()).as("producer blocked on full queue").isTrue();
+
+		Thread closer = new Thread(listener::close);
+		closer.start();
+		closer.join(200);
+		assertThat(closer.isAlive()).as("closer waits for blocked producer").isTrue();
+
+		releaseDispatcher.countDown();
+		producer.join(5000);
+		assertThat(producer.isAlive()).isFalse();
+		closer.join(5000);
+		assertThat(closer.isAlive()).isFalse();
+
+		assertThat(delegate.events).containsExactly("executionStarted", "executionSkipped", "executionSkipped");
+	}
+
+	@Test
+	void continuesDeliveringEventsIfDelegateThrowsException() {
+		RecordingListener delegate = new RecordingListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				super.executionStarted(testIdentifier);
+				throw new IllegalStateException("listener failure");
+			}
+		};
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(delegate, 8);
+
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		assertThrows(IllegalStateException.class, () -> listener.testPlanExecutionFinished(testPlan));
+
+		assertThat(delegate.events).containsExactly("executionStarted", "executionFinished",
+			"testPlanExecutionFinished");
+	}
+
+	@Test
+	void rethrowsFirstExceptionOfDelegateOnClose() {
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(new TestExecutionListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new IllegalStateException("first");
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				throw new IllegalStateException("second");
+			}
+		}, 8);
+
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+
+		IllegalStateException exception = assertThrows(IllegalStateException.class, listener::close);
+		assertThat(exception).hasMessage("first");
+	}
+
+	@Test
+	void rethrowsBlacklistedExceptionOnClose() {
+		AsyncTestExecutionListener listener = new AsyncTestExecutionListener(new TestExecutionListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new OutOfMemoryError("boom");
+			}
+		}, 8);
+
+		listener.executionStarted(testIdentifier);
+
+		assertThrows(OutOfMemoryError.class, listener::close);
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new CopyOnWriteArrayList<>();
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		private void record(String event) {
+			events.add(event);
+			if (!threads.contains(Thread.currentThread())) {
+				threads.add(Thread.currentThread());
+			}
+		}
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+			record("executionSkipped");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("executionStarted");
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("executionFinished");
+		}
+
+	}
+
+}
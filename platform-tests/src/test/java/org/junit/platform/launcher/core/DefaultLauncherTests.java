@@ -20,13 +20,27 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.JUnitException;
@@ -38,12 +52,15 @@ import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.engine.test.TestDescriptorStub;
 import org.junit.platform.engine.test.TestEngineSpy;
 import org.junit.platform.engine.test.TestEngineStub;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.PostDiscoveryFilterStub;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -491,4 +508,145 @@ class DefaultLauncherTests {
 		inOrder.verify(listener).testPlanExecutionFinished(same(testPlan));
 	}
 
+	@Test
+	void executesDiscoveredTestPlanWithoutDiscoveringTestsAgain() {
+		AtomicInteger discoveryCount = new AtomicInteger();
+		AtomicReference<TestDescriptor> discoveredEngineDescriptor = new AtomicReference<>();
+		TestEngineSpy engine = new TestEngineSpy() {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				discoveryCount.incrementAndGet();
+				discoveredEngineDescriptor.set(super.discover(discoveryRequest, uniqueId));
+				return discoveredEngineDescriptor.get();
+			}
+		};
+		DefaultLauncher launcher = createLauncher(engine);
+		TestExecutionListener listener = mock(TestExecutionListener.class);
+
+		TestPlan testPlan = launcher.discover(request().configurationParameter("key", "value").build());
+		launcher.execute(testPlan, listener);
+
+		assertThat(discoveryCount).hasValue(1);
+		assertThat(engine.requestForExecution.getRootTestDescriptor()).isSameAs(discoveredEngineDescriptor.get());
+		assertThat(engine.requestForExecution.getConfigurationParameters().get("key")).contains("value");
+		verify(listener).testPlanExecutionStarted(same(testPlan));
+		verify(listener).testPlanExecutionFinished(same(testPlan));
+	}
+
+	@Test
+	void executingTestPlanTwiceIsNotAllowed() {
+		DefaultLauncher launcher = createLauncher(new TestEngineSpy());
+		TestPlan testPlan = launcher.discover(request().build());
+		launcher.execute(testPlan);
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("TestPlan must only be executed once");
+	}
+
+	@Test
+	void executingTestPlanNotCreatedByLauncherIsNotAllowed() {
+		DefaultLauncher launcher = createLauncher(new TestEngineSpy());
+		TestPlan testPlan = TestPlan.from(Collections.emptyList());
+
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("TestPlan must have been created by a call to discover()");
+	}
+
+	@Test
+	void launcherImplementationsRejectDiscoveredTestPlansByDefault() {
+		Launcher launcher = new Launcher() {
+
+			@Override
+			public void registerTestExecutionListeners(TestExecutionListener... listeners) {
+			}
+
+			@Override
+			public TestPlan discover(LauncherDiscoveryRequest discoveryRequest) {
+				return TestPlan.from(Collections.emptyList());
+			}
+
+			@Override
+			public void execute(LauncherDiscoveryRequest discoveryRequest, TestExecutionListener... listeners) {
+			}
+		};
+		TestPlan testPlan = launcher.discover(request().build());
+
+		JUnitException exception = assertThrows(JUnitException.class, () -> launcher.execute(testPlan));
+
+		assertThat(exception).hasMessageContaining("does not support executing a previously discovered TestPlan");
+	}
+
+	@Test
+	void discoversTestsInEnginesConcurrentlyIfConfigured() {
+		CountDownLatch latch = new CountDownLatch(3);
+		ClassLoader contextClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+		Set<ClassLoader> contextClassLoadersDuringDiscovery = ConcurrentHashMap.newKeySet();
+		TestEngine[] engines = Stream.of("engine1", "engine2", "engine3").map(id -> new TestEngineStub(id) {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				latch.countDown();
+				try {
+					assertTrue(latch.await(5, TimeUnit.SECONDS), "engines did not discover tests concurrently");
+				}
+				catch (InterruptedException e) {
+					throw new AssertionError(e);
+				}
+				contextClassLoadersDuringDiscovery.add(Thread.currentThread().getContextClassLoader());
+				if ("engine2".equals(getId())) {
+					throw new RuntimeException("discovery failed");
+				}
+				return super.discover(discoveryRequest, uniqueId);
+			}
+		}).toArray(TestEngine[]::new);
+
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(contextClassLoader);
+		TestPlan testPlan;
+		try {
+			testPlan = createLauncher(engines).discover(
+				request().configurationParameter(DISCOVERY_PARALLELISM_PROPERTY_NAME, "3").build());
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getDisplayName).containsExactly("engine1",
+			"engine3");
+		assertThat(contextClassLoadersDuringDiscovery).containsOnly(contextClassLoader);
+	}
+
+	@Test
+	void deliversAllEventsToListenersIfAsynchronousDispatchIsEnabled() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test1", noOp);
+		engine.addTest("test2", () -> {
+			throw new AssertionError("failed");
+		});
+		Set<Thread> listenerThreads = ConcurrentHashMap.newKeySet();
+		SummaryGeneratingListener listener = new SummaryGeneratingListener() {
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				listenerThreads.add(Thread.currentThread());
+				super.executionFinished(testIdentifier, testExecutionResult);
+			}
+		};
+
+		createLauncher(engine).execute(
+			request().configurationParameter(ASYNC_LISTENERS_ENABLED_PROPERTY_NAME, "true").configurationParameter(
+				ASYNC_LISTENERS_QUEUE_CAPACITY_PROPERTY_NAME, "1").build(),
+			listener);
+
+		assertThat(listener.getSummary().getTestsSucceededCount()).isEqualTo(1);
+		assertThat(listener.getSummary().getTestsFailedCount()).isEqualTo(1);
+		assertThat(listener.getSummary().getTimeFinished()).isGreaterThan(0);
+		assertThat(listenerThreads).doesNotContain(Thread.currentThread());
+	}
+
 }
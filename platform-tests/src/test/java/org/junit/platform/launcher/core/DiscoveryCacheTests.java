@@ -0,0 +1,289 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.ClassNameFilter.includeClassNamePatterns;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClasspathRoots;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.ClasspathRootSelector;
+import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.test.TestEngineStub;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Tests for {@link DiscoveryCache} in conjunction with {@link DefaultLauncher}.
+ *
+ * @since 1.1
+ */
+@ExtendWith(TempDirectory.class)
+class DiscoveryCacheTests {
+
+	private Path classpathRoot;
+	private Path cacheDirectory;
+	private Class<?> testClass;
+
+	@BeforeEach
+	void createClasspathRoot(@Root Path tempDirectory) throws Exception {
+		classpathRoot = Files.createDirectories(tempDirectory.resolve("classes"));
+		cacheDirectory = tempDirectory.resolve("cache");
+
+		// Copy a class into the classpath root so that its tests can be attributed to it
+		String classFileName = CachedTestCase.class.getName().replace('.', '/') + ".class";
+		Path classFile = classpathRoot.resolve(classFileName);
+		Files.createDirectories(classFile.getParent());
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(classFileName)) {
+			Files.copy(in, classFile);
+		}
+		testClass = new URLClassLoader(new URL[] { classpathRoot.toUri().toURL() }, null).loadClass(
+			CachedTestCase.class.getName());
+	}
+
+	@Test
+	void selectsCachedTestsByUniqueIdUnlessClasspathRootChanged() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+
+		TestPlan firstTestPlan = discover(engine);
+
+		assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+		assertThat(Files.list(cacheDirectory).count()).isEqualTo(1);
+
+		engine.selectors.clear();
+		TestPlan secondTestPlan = discover(engine);
+
+		assertThat(engine.selectors).hasSize(1).allMatch(UniqueIdSelector.class::isInstance);
+		assertThat(((UniqueIdSelector) engine.selectors.get(0)).getUniqueId()).isEqualTo(engine.testUniqueId());
+		assertThat(uniqueIdsOfTests(secondTestPlan)).isEqualTo(uniqueIdsOfTests(firstTestPlan));
+
+		Files.createFile(classpathRoot.resolve("NewTestCase.class"));
+		engine.selectors.clear();
+		discover(engine);
+
+		assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+	}
+
+	@Test
+	void isNotUsedForRequestsThatSelectMoreThanClasspathRoots() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectClasspathRoots(Collections.singleton(classpathRoot))) //
+				.selectors(selectClass(getClass())) //
+				.configurationParameter(DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME, cacheDirectory.toString()) //
+				.build();
+
+		createLauncher(engine).discover(request);
+
+		assertThat(Files.exists(cacheDirectory)).isFalse();
+	}
+
+	@Test
+	void doesNotRewriteCacheFileIfEntriesAreUnchanged() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+		discover(engine);
+		Path cacheFile = Files.list(cacheDirectory).findFirst().get();
+		FileTime lastModifiedTime = FileTime.fromMillis(0);
+		Files.setLastModifiedTime(cacheFile, lastModifiedTime);
+
+		engine.selectors.clear();
+		discover(engine);
+
+		assertThat(engine.selectors).hasSize(1).allMatch(UniqueIdSelector.class::isInstance);
+		assertThat(Files.getLastModifiedTime(cacheFile)).isEqualTo(lastModifiedTime);
+	}
+
+	@Test
+	void storesEntriesPerConfigurationParameters() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+		discover(engine, request().configurationParameter("key", "value1"));
+
+		engine.selectors.clear();
+		discover(engine, request().configurationParameter("key", "value2"));
+
+		assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+		assertThat(Files.list(cacheDirectory).count()).isEqualTo(2);
+	}
+
+	@Test
+	void isInvalidatedIfJarFileOnClasspathChanges(@Root Path tempDirectory) throws Exception {
+		Path jarFile = tempDirectory.resolve("library.jar");
+		Files.write(jarFile, new byte[] { 1 });
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(
+			new URLClassLoader(new URL[] { jarFile.toUri().toURL() }, originalClassLoader));
+		try {
+			RecordingTestEngine engine = new RecordingTestEngine();
+			discover(engine);
+
+			engine.selectors.clear();
+			discover(engine);
+			assertThat(engine.selectors).hasSize(1).allMatch(UniqueIdSelector.class::isInstance);
+
+			// Same size, but different modification time
+			FileTime lastModifiedTime = Files.getLastModifiedTime(jarFile);
+			Files.write(jarFile, new byte[] { 2 });
+			Files.setLastModifiedTime(jarFile, FileTime.fromMillis(lastModifiedTime.toMillis() + 60_000));
+			engine.selectors.clear();
+			discover(engine);
+			assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void isInvalidatedIfClassFileInDirectoryOnClasspathChanges(@Root Path tempDirectory) throws Exception {
+		Path classFile = Files.createDirectories(tempDirectory.resolve("library")).resolve("Library.class");
+		Files.write(classFile, new byte[] { 1 });
+		ClassLoader originalClassLoader = Thread.currentThread().getContextClassLoader();
+		Thread.currentThread().setContextClassLoader(new URLClassLoader(
+			new URL[] { classFile.getParent().toUri().toURL() }, originalClassLoader));
+		try {
+			RecordingTestEngine engine = new RecordingTestEngine();
+			discover(engine);
+
+			// Touching the class file without changing its contents does not invalidate the cache
+			Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+			engine.selectors.clear();
+			discover(engine);
+			assertThat(engine.selectors).hasSize(1).allMatch(UniqueIdSelector.class::isInstance);
+
+			// Same size and modification time, but different contents
+			FileTime lastModifiedTime = Files.getLastModifiedTime(classFile);
+			Files.write(classFile, new byte[] { 2 });
+			Files.setLastModifiedTime(classFile, lastModifiedTime);
+			engine.selectors.clear();
+			discover(engine);
+			assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+		}
+		finally {
+			Thread.currentThread().setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	@Test
+	void isUsedForFiltersWhoseStateCanBeDescribed() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+		discover(engine, request().filters(includeClassNamePatterns(".*"), includeEngines(engine.getId())));
+
+		engine.selectors.clear();
+		discover(engine, request().filters(includeClassNamePatterns(".*"), includeEngines(engine.getId())));
+		assertThat(engine.selectors).hasSize(1).allMatch(UniqueIdSelector.class::isInstance);
+
+		engine.selectors.clear();
+		discover(engine, request().filters(includeClassNamePatterns(".*Tests"), includeEngines(engine.getId())));
+		assertThat(engine.selectors).hasSize(1).allMatch(ClasspathRootSelector.class::isInstance);
+	}
+
+	@Test
+	void isNotUsedForCustomFilterImplementations() throws Exception {
+		RecordingTestEngine engine = new RecordingTestEngine();
+
+		discover(engine, request().filters(new IncludeAllClassNameFilter()));
+		discover(engine, request().filters((ClassNameFilter) className -> FilterResult.included("lambda")));
+
+		assertThat(Files.exists(cacheDirectory)).isFalse();
+	}
+
+	private TestPlan discover(RecordingTestEngine engine) {
+		return discover(engine, request());
+	}
+
+	private TestPlan discover(RecordingTestEngine engine, LauncherDiscoveryRequestBuilder builder) {
+		return createLauncher(engine).discover(builder //
+				.selectors(selectClasspathRoots(Collections.singleton(classpathRoot))) //
+				.configurationParameter(DISCOVERY_CACHE_DIRECTORY_PROPERTY_NAME, cacheDirectory.toString()) //
+				.build());
+	}
+
+	private static List<String> uniqueIdsOfTests(TestPlan testPlan) {
+		List<String> uniqueIds = new ArrayList<>();
+		testPlan.getRoots().forEach(root -> testPlan.getDescendants(root).stream().map(
+			TestIdentifier::getUniqueId).forEach(uniqueIds::add));
+		return uniqueIds;
+	}
+
+	private class RecordingTestEngine extends TestEngineStub {
+
+		final List<DiscoverySelector> selectors = new ArrayList<>();
+
+		RecordingTestEngine() {
+			super("cached");
+		}
+
+		UniqueId testUniqueId() {
+			return UniqueId.forEngine(getId()).append("class", testClass.getName());
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			selectors.addAll(discoveryRequest.getSelectorsByType(DiscoverySelector.class));
+			TestDescriptor engineDescriptor = super.discover(discoveryRequest, uniqueId);
+			engineDescriptor.addChild(new AbstractTestDescriptor(testUniqueId(), testClass.getName(),
+				ClassSource.from(testClass)) {
+
+				@Override
+				public Type getType() {
+					return Type.TEST;
+				}
+			});
+			return engineDescriptor;
+		}
+
+	}
+
+	static class CachedTestCase {
+	}
+
+	private static class IncludeAllClassNameFilter implements ClassNameFilter {
+
+		@Override
+		public FilterResult apply(String className) {
+			return FilterResult.included("all");
+		}
+
+		@Override
+		public String toString() {
+			return "Includes all class names";
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.lang.reflect.Method;
@@ -18,9 +19,12 @@ import java.util.Collections;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.engine.test.TestDescriptorStub;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -51,6 +55,60 @@ class ExecutionListenerAdapterTests {
 		assertThat(testExecutionListener.testIdentifier).isEqualTo(testIdentifier);
 	}
 
+	@Test
+	void mapsDescriptorsOfSuppliedEnginesToIdentifiersByIdentity() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("demo");
+		TestDescriptor testDescriptor = engine.addTest("test", () -> {
+		});
+		TestPlan testPlan = TestPlan.from(singleton(engine.getEngineDescriptor()));
+
+		MockTestExecutionListener testExecutionListener = new MockTestExecutionListener();
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			singleton(engine.getEngineDescriptor()), testExecutionListener);
+
+		ReportEntry entry = ReportEntry.from("one", "two");
+		executionListenerAdapter.reportingEntryPublished(testDescriptor, entry);
+
+		assertThat(testExecutionListener.testIdentifier).isSameAs(
+			testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString()));
+
+		UniqueId dynamicTestId = testDescriptor.getUniqueId().append("dynamic-test", "#1");
+		TestDescriptorStub dynamicTestDescriptor = new TestDescriptorStub(dynamicTestId, "dynamic test");
+		dynamicTestDescriptor.setParent(testDescriptor);
+		executionListenerAdapter.dynamicTestRegistered(dynamicTestDescriptor);
+		executionListenerAdapter.reportingEntryPublished(dynamicTestDescriptor, entry);
+
+		assertThat(testExecutionListener.testIdentifier).isSameAs(
+			testPlan.getTestIdentifier(dynamicTestId.toString()));
+	}
+
+	@Test
+	void releasesDescriptorsOfDynamicTestsOnceCompleted() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("demo");
+		TestDescriptor testDescriptor = engine.addTest("test", () -> {
+		});
+		TestPlan testPlan = TestPlan.from(singleton(engine.getEngineDescriptor()));
+		ExecutionListenerAdapter executionListenerAdapter = new ExecutionListenerAdapter(testPlan,
+			singleton(engine.getEngineDescriptor()), new MockTestExecutionListener());
+
+		TestDescriptor finishedTest = new TestDescriptorStub(
+			testDescriptor.getUniqueId().append("dynamic-test", "#1"), "finished");
+		TestDescriptor skippedTest = new TestDescriptorStub(
+			testDescriptor.getUniqueId().append("dynamic-test", "#2"), "skipped");
+		executionListenerAdapter.dynamicTestRegistered(finishedTest);
+		executionListenerAdapter.dynamicTestRegistered(skippedTest);
+		assertThat(executionListenerAdapter.containsDynamicTest(finishedTest)).isTrue();
+		assertThat(executionListenerAdapter.containsDynamicTest(skippedTest)).isTrue();
+
+		executionListenerAdapter.executionStarted(finishedTest);
+		executionListenerAdapter.executionFinished(finishedTest, TestExecutionResult.successful());
+		executionListenerAdapter.executionSkipped(skippedTest, "reason");
+
+		assertThat(executionListenerAdapter.containsDynamicTest(finishedTest)).isFalse();
+		assertThat(executionListenerAdapter.containsDynamicTest(skippedTest)).isFalse();
+		assertThat(testPlan.getTestIdentifier(finishedTest.getUniqueId().toString())).isNotNull();
+	}
+
 	private TestDescriptor getSampleMethodTestDescriptor() {
 		Method localMethodNamedNothing = ReflectionUtils.findMethod(this.getClass(), "nothing", new Class<?>[0]).get();
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(),
@@ -13,6 +13,7 @@ package org.junit.platform.launcher.core;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.engine.FilterResult.excluded;
@@ -22,6 +23,7 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectModul
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.MAX_FAILURES_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
 import java.lang.reflect.Method;
@@ -41,6 +43,7 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.ModuleSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 import org.junit.platform.engine.test.TestEngineStub;
 import org.junit.platform.launcher.DiscoveryFilterStub;
 import org.junit.platform.launcher.EngineFilter;
@@ -320,6 +323,24 @@ class LauncherDiscoveryRequestBuilderTests {
 			assertThat(configParams.get("key1")).contains("value1");
 			assertThat(configParams.get("key2")).contains("value2");
 		}
+
+		@Test
+		void maxFailures_isStoredAsConfigurationParameterInDiscoveryRequest() {
+			LauncherDiscoveryRequest discoveryRequest = request().maxFailures(10).build();
+
+			ConfigurationParameters configParams = discoveryRequest.getConfigurationParameters();
+			assertThat(configParams.get(MAX_FAILURES_PROPERTY_NAME)).contains("10");
+		}
+
+		@Test
+		void maxFailures_usesKeyHonoredByHierarchicalTestEngines() {
+			assertEquals(HierarchicalTestEngine.MAX_FAILURES_PROPERTY_NAME, MAX_FAILURES_PROPERTY_NAME);
+		}
+
+		@Test
+		void maxFailures_mustBePositive() {
+			assertThrows(PreconditionViolationException.class, () -> request().maxFailures(0));
+		}
 	}
 
 	private static class SampleTestClass {
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2015-2017 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * http://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_COUNT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_INDEX_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.SHARD_TIMINGS_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.extensions.TempDirectory;
+import org.junit.jupiter.extensions.TempDirectory.Root;
+import org.junit.platform.commons.util.PreconditionViolationException;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalContainerDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Tests for {@link TestPlanSharding} in conjunction with {@link DefaultLauncher}.
+ *
+ * @since 1.1
+ */
+@ExtendWith(TempDirectory.class)
+class TestPlanShardingTests {
+
+	private static final int NUMBER_OF_CONTAINERS = 20;
+
+	@Test
+	void partitionsContainersIntoDisjointShards() {
+		List<String> allContainers = new ArrayList<>();
+		for (int shardIndex = 0; shardIndex < 3; shardIndex++) {
+			allContainers.addAll(discoverContainers(shardIndex, 3, null));
+		}
+
+		List<String> unshardedContainers = discoverContainers(null, null, null);
+		assertThat(unshardedContainers).hasSize(NUMBER_OF_CONTAINERS);
+		assertThat(allContainers).doesNotHaveDuplicates().hasSameSizeAs(unshardedContainers).containsOnlyElementsOf(
+			unshardedContainers);
+	}
+
+	@Test
+	void assignsContainersDeterministically() {
+		assertThat(discoverContainers(1, 4, null)).isEqualTo(discoverContainers(1, 4, null));
+	}
+
+	@Test
+	void balancesShardsByDurationsFromTimingsFile(@Root Path tempDirectory) throws Exception {
+		Path timingsFile = tempDirectory.resolve("timings.txt");
+		List<String> lines = new ArrayList<>();
+		lines.add("# duration in ms, unique ID");
+		lines.add("2000 " + containerUniqueId(0));
+		IntStream.range(1, NUMBER_OF_CONTAINERS).forEach(i -> lines.add("100 " + containerUniqueId(i)));
+		Files.write(timingsFile, lines);
+
+		List<String> firstShard = discoverContainers(0, 2, timingsFile);
+		List<String> secondShard = discoverContainers(1, 2, timingsFile);
+
+		// The longest container is assigned first; the remaining ones do not add up to its duration
+		assertThat(firstShard).containsExactly(containerUniqueId(0));
+		assertThat(secondShard).hasSize(NUMBER_OF_CONTAINERS - 1);
+	}
+
+	@Test
+	void rejectsShardIndexOutOfRange() {
+		assertInvalidConfiguration(shardRequest(3, 3, null), SHARD_INDEX_PROPERTY_NAME);
+		assertInvalidConfiguration(shardRequest(-1, 3, null), SHARD_INDEX_PROPERTY_NAME);
+	}
+
+	@Test
+	void rejectsInvalidShardCount() {
+		assertInvalidConfiguration(shardRequest(0, 0, null), SHARD_COUNT_PROPERTY_NAME);
+	}
+
+	@Test
+	void rejectsNonNumericValues() {
+		LauncherDiscoveryRequest nonNumericIndex = request() //
+				.configurationParameter(SHARD_INDEX_PROPERTY_NAME, "first") //
+				.configurationParameter(SHARD_COUNT_PROPERTY_NAME, "3") //
+				.build();
+		LauncherDiscoveryRequest nonNumericCount = request() //
+				.configurationParameter(SHARD_INDEX_PROPERTY_NAME, "0") //
+				.configurationParameter(SHARD_COUNT_PROPERTY_NAME, "three") //
+				.build();
+
+		assertInvalidConfiguration(nonNumericIndex, SHARD_INDEX_PROPERTY_NAME);
+		assertInvalidConfiguration(nonNumericCount, SHARD_COUNT_PROPERTY_NAME);
+	}
+
+	@Test
+	void rejectsIncompleteConfiguration() {
+		assertInvalidConfiguration(shardRequest(null, 3, null), SHARD_INDEX_PROPERTY_NAME);
+		assertInvalidConfiguration(shardRequest(0, null, null), SHARD_COUNT_PROPERTY_NAME);
+	}
+
+	private static void assertInvalidConfiguration(LauncherDiscoveryRequest request, String invalidParameter) {
+		PreconditionViolationException exception = assertThrows(PreconditionViolationException.class,
+			() -> createLauncher(createEngine()).discover(request));
+		assertThat(exception).hasMessageContaining("'" + invalidParameter + "' configuration parameter");
+	}
+
+	private List<String> discoverContainers(Integer shardIndex, Integer shardCount, Path timingsFile) {
+		TestPlan testPlan = createLauncher(createEngine()).discover(
+			shardRequest(shardIndex, shardCount, timingsFile));
+		TestIdentifier engine = testPlan.getRoots().iterator().next();
+		return testPlan.getChildren(engine).stream().map(TestIdentifier::getUniqueId).collect(toList());
+	}
+
+	private static LauncherDiscoveryRequest shardRequest(Integer shardIndex, Integer shardCount, Path timingsFile) {
+
+		LauncherDiscoveryRequestBuilder builder = request();
+		if (shardIndex != null) {
+			builder.configurationParameter(SHARD_INDEX_PROPERTY_NAME, String.valueOf(shardIndex));
+		}
+		if (shardCount != null) {
+			builder.configurationParameter(SHARD_COUNT_PROPERTY_NAME, String.valueOf(shardCount));
+		}
+		if (timingsFile != null) {
+			builder.configurationParameter(SHARD_TIMINGS_FILE_PROPERTY_NAME, timingsFile.toString());
+		}
+		return builder.build();
+	}
+
+	private static DemoHierarchicalTestEngine createEngine() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("sharded");
+		for (int i = 0; i < NUMBER_OF_CONTAINERS; i++) {
+			DemoHierarchicalContainerDescriptor container = engine.addContainer("container" + i, () -> {
+			});
+			UniqueId testId = container.getUniqueId().append("test", "test");
+			container.addChild(new DemoHierarchicalTestDescriptor(testId, "test", null, () -> {
+			}));
+		}
+		return engine;
+	}
+
+	private static String containerUniqueId(int index) {
+		return UniqueId.forEngine("sharded").append("container", "container" + index).toString();
+	}
+
+}
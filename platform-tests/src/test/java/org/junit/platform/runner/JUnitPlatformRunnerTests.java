@@ -516,6 +516,27 @@ class JUnitPlatformRunnerTests {
 			inOrder.verifyNoMoreInteractions();
 		}
 
+		@Test
+		void executesTestsAgainWhenRunMoreThanOnce() throws Exception {
+			DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("dummy");
+			engine.addTest("succeedingTest", () -> {
+			});
+			JUnitPlatform runner = new JUnitPlatform(TestClass.class, createLauncher(engine));
+
+			RunListener firstRunListener = mock(RunListener.class);
+			RunNotifier firstNotifier = new RunNotifier();
+			firstNotifier.addListener(firstRunListener);
+			runner.run(firstNotifier);
+
+			RunListener secondRunListener = mock(RunListener.class);
+			RunNotifier secondNotifier = new RunNotifier();
+			secondNotifier.addListener(secondRunListener);
+			runner.run(secondNotifier);
+
+			verify(firstRunListener).testFinished(testDescription("[engine:dummy]/[test:succeedingTest]"));
+			verify(secondRunListener).testFinished(testDescription("[engine:dummy]/[test:succeedingTest]"));
+		}
+
 		@Test
 		void supportsDynamicTestRegistration() throws Exception {
 			RunListener runListener = mock(RunListener.class);